@@ -3,6 +3,9 @@
 
 package com.github.polyrocketmatt.delegate.api;
 
+import com.github.polyrocketmatt.delegate.api.command.ICommandBuilder;
+import com.github.polyrocketmatt.delegate.api.command.IDelegateCommand;
+import com.github.polyrocketmatt.delegate.api.command.RegistrationBatch;
 import com.github.polyrocketmatt.delegate.api.command.tree.ICommandNode;
 import com.github.polyrocketmatt.delegate.api.configuration.DelegateConfiguration;
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
@@ -10,6 +13,8 @@ import com.github.polyrocketmatt.delegate.api.handlers.CommandHandler;
 import com.github.polyrocketmatt.delegate.api.handlers.IHandler;
 import org.apiguardian.api.API;
 
+import java.util.List;
+
 /**
  * The Delegate API which is the entry point for platform implementations
  * to access the Delegate command framework.
@@ -56,6 +61,25 @@ public interface DelegateAPI {
      */
     boolean registerCommand(ICommandNode node) throws CommandRegisterException;
 
+    /**
+     * Verifies the given command builders in parallel and registers all of them at once, in
+     * the order they were given. If any builder is invalid, or any command would overwrite
+     * another command, no command is registered and all errors are reported together.
+     *
+     * @param builders The builders of the commands to register.
+     * @return The registered commands, in the order of the given builders.
+     * @throws CommandRegisterException If any command could not be verified or registered.
+     */
+    List<IDelegateCommand> registerAll(ICommandBuilder... builders) throws CommandRegisterException;
+
+    /**
+     * Opens a {@link RegistrationBatch}, such that all commands that are registered before
+     * it is closed are sent to the players at once.
+     *
+     * @return The opened batch, which must be closed once all commands are registered.
+     */
+    RegistrationBatch beginRegistration();
+
     /**
      * Gets whether the Delegate API is in verbose mode and will throw exceptions.
      *
@@ -14,6 +14,8 @@ import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 @API(status = API.Status.STABLE, since = "0.0.1")
 public interface IPlatform {
 
@@ -27,6 +29,11 @@ public interface IPlatform {
 
     void registerToPlayers(@NotNull IDelegateCommand name) throws CommandRegisterException;
 
+    default void registerToPlayers(@NotNull List<IDelegateCommand> commands) throws CommandRegisterException {
+        for (IDelegateCommand command : commands)
+            registerToPlayers(command);
+    }
+
     boolean execute(@NotNull CommandDispatchInformation information) throws CommandExecutionException;
 
     boolean hasPermission(@NotNull CommanderEntity entity, @NotNull String permission) throws UnsupportedOperationException;
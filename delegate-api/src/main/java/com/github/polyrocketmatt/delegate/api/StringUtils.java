@@ -5,6 +5,7 @@ package com.github.polyrocketmatt.delegate.api;
 
 import org.apiguardian.api.API;
 
+import java.util.Locale;
 import java.util.UUID;
 
 @API(status = API.Status.STABLE, since = "0.0.1")
@@ -14,4 +15,8 @@ public class StringUtils {
         return UUID.randomUUID().toString();
     }
 
+    public static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
 }
@@ -7,8 +7,6 @@ import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 /**
@@ -30,7 +28,8 @@ public record CommandDispatchInformation(@NotNull CommanderEntity commander, @No
         validate("commander", CommanderEntity.class, commander);
         validate("command", String.class, command);
         validate("arguments", String[].class, arguments);
-        Arrays.stream(arguments).forEach(argument -> validate("argument", String.class, argument));
+        for (String argument : arguments)
+            validate("argument", String.class, argument);
     }
 
 }
@@ -7,6 +7,7 @@ import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
@@ -65,6 +66,8 @@ public interface ICommandBuilder {
 
     @NotNull ICommandBuilder withAsync();
 
+    @NotNull ICommandBuilder withAsync(@NotNull ExecutionMode mode);
+
     @NotNull ICommandBuilder withIgnoreNull();
 
     @NotNull ICommandBuilder withIgnoreNonPresent();
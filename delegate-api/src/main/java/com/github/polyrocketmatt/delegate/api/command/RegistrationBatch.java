@@ -0,0 +1,32 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command;
+
+import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
+import org.apiguardian.api.API;
+
+/**
+ * A batch of command registrations. Commands that are registered while a batch is open
+ * are registered to the platform immediately, but are only sent to the players once the
+ * outermost batch is closed, such that the players receive the command tree only once.
+ * <p>
+ * Batches are meant to be used in a try-with-resources statement and may be nested.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public interface RegistrationBatch extends AutoCloseable {
+
+    /**
+     * Closes the batch. Once the outermost batch is closed, all commands that were
+     * registered in the meantime are sent to the players. Closing a batch more than
+     * once has no effect.
+     *
+     * @throws CommandRegisterException If the commands could not be sent to the players.
+     */
+    @Override
+    void close() throws CommandRegisterException;
+
+}
@@ -0,0 +1,86 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.argument;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Immutable assignment of argument identifiers to fixed slots. The slots of a command
+ * are resolved once when the command is built, such that a {@link Context} can look up
+ * its arguments in constant time. If multiple arguments share an identifier, the first
+ * one owns the identifier.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public final class ArgumentSlots {
+
+    public static final ArgumentSlots EMPTY = new ArgumentSlots(new String[0]);
+
+    private final String[] identifiers;
+    private final Map<String, Integer> slots;
+
+    private ArgumentSlots(String[] identifiers) {
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < identifiers.length; i++)
+            slots.putIfAbsent(identifiers[i], i);
+
+        this.identifiers = identifiers;
+        this.slots = Map.copyOf(slots);
+    }
+
+    /**
+     * Assigns a slot to each of the given identifiers, in the given order.
+     *
+     * @param identifiers The identifiers of the arguments.
+     * @return The {@link ArgumentSlots} of the identifiers.
+     */
+    public static @NotNull ArgumentSlots of(@NotNull String... identifiers) {
+        validate("identifiers", String[].class, identifiers);
+        for (String identifier : identifiers)
+            validate("identifier", String.class, identifier);
+
+        return (identifiers.length == 0) ? EMPTY : new ArgumentSlots(identifiers.clone());
+    }
+
+    /**
+     * Gets the slot of the argument with the given identifier.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The slot of the argument, or -1 if there is no argument with the given identifier.
+     */
+    public int indexOf(@NotNull String identifier) {
+        Integer slot = this.slots.get(identifier);
+
+        return (slot == null) ? -1 : slot;
+    }
+
+    /**
+     * Gets the identifier of the argument in the given slot.
+     *
+     * @param slot The slot of the argument.
+     * @return The identifier of the argument.
+     * @throws IndexOutOfBoundsException If the slot is out of bounds.
+     */
+    public @NotNull String getIdentifier(int slot) throws IndexOutOfBoundsException {
+        return this.identifiers[slot];
+    }
+
+    /**
+     * Gets the amount of slots.
+     *
+     * @return The amount of slots.
+     */
+    public int size() {
+        return this.identifiers.length;
+    }
+
+}
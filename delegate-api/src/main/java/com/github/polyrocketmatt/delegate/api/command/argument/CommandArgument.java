@@ -7,8 +7,8 @@ import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.Bufferable;
 import com.github.polyrocketmatt.delegate.api.command.CommandAttribute;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
-import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRuleResult;
-import com.github.polyrocketmatt.delegate.api.command.argument.rule.RuleData;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.ArgumentType;
@@ -39,6 +39,7 @@ public abstract class CommandArgument<T> extends CommandAttribute implements Buf
     private final boolean isOptional;
 
     private Argument<T> defaultValue;
+    private SuggestionProvider suggestionProvider;
 
     /**
      * Creates a new command argument with an identifier, description and
@@ -155,6 +156,20 @@ public abstract class CommandArgument<T> extends CommandAttribute implements Buf
      */
     public abstract @NotNull Argument<T> parse(@Nullable String input) throws ArgumentParseException;
 
+    /**
+     * Parses the argument value from the given input on behalf of the given commander.
+     * Arguments of which the value depends on the commander, such as entity selectors
+     * that are relative to the position of the commander, override this method.
+     *
+     * @param commander The commander that executes the command.
+     * @param input The string to parse.
+     * @return The parsed argument as an {@link Argument}.
+     * @throws ArgumentParseException If the parsing fails.
+     */
+    public @NotNull Argument<T> parse(@NotNull CommanderEntity commander, @Nullable String input) throws ArgumentParseException {
+        return parse(input);
+    }
+
     /**
      * Parses the argument value from the given string reader and returns
      * the parsed value as an object of type {@link T} or throws an
@@ -164,28 +179,9 @@ public abstract class CommandArgument<T> extends CommandAttribute implements Buf
      * @return The parsed argument as an {@link Argument}.
      * @throws ArgumentParseException If the parsing fails.
      */
-    //  TODO: Parse rules when parsing from string reader
     @Override
     public abstract @NotNull T parse(@NotNull StringReader reader) throws ArgumentParseException;
 
-    /**
-     * Parses the given input string and applies the argument rules to the input.
-     *
-     * @param input The input to parse.
-     * @throws ArgumentParseException If the result of applying any argument rule to the input is not valid.
-     */
-    public void parseRules(@NotNull String input) {
-        validate("input", String.class, input);
-
-        for (ArgumentRule<?> rule : getArgumentRules()) {
-            RuleData<?> result = rule.getRule().apply(input);
-            ArgumentRuleResult ruleResult = rule.interpretResult(this, input, result);
-
-            if (ruleResult.result() == ArgumentRuleResult.Result.FAILURE)
-                throw onFail(ruleResult.info(), null, argumentType);
-        }
-    }
-
     /**
      * Adds a new {@link ArgumentRule} to the argument.
      *
@@ -227,6 +223,28 @@ public abstract class CommandArgument<T> extends CommandAttribute implements Buf
         return this;
     }
 
+    /**
+     * Sets the {@link SuggestionProvider} that suggests values while the argument is being typed.
+     *
+     * @param suggestionProvider The suggestion provider of the argument.
+     * @return The argument.
+     */
+    public @NotNull CommandArgument<T> withSuggestions(@NotNull SuggestionProvider suggestionProvider) {
+        validate("suggestionProvider", SuggestionProvider.class, suggestionProvider);
+
+        this.suggestionProvider = suggestionProvider;
+        return this;
+    }
+
+    /**
+     * Gets the {@link SuggestionProvider} that suggests values while the argument is being typed.
+     *
+     * @return The suggestion provider of the argument, or null if the argument has no suggestions.
+     */
+    public @Nullable SuggestionProvider getSuggestionProvider() {
+        return suggestionProvider;
+    }
+
     @Override
     public @NotNull AttributeType getType() {
         return AttributeType.ARGUMENT;
@@ -7,57 +7,214 @@ import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.RandomAccess;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
+/**
+ * The parsed arguments of a single command invocation. Every argument occupies a fixed
+ * slot, which is resolved through the {@link ArgumentSlots} of the command, such that
+ * arguments can be found in constant time. Numeric and boolean outputs are additionally
+ * kept in primitive storage, which can be read without unboxing.
+ * <p>
+ * A context is immutable and can therefore be shared by all actions of an invocation.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
 @API(status = API.Status.STABLE, since = "0.0.1")
-public class Context {
+public class Context extends AbstractList<Argument<?>> implements RandomAccess {
 
-    private final List<Argument<?>> arguments;
+    private static final byte NONE = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
 
+    private final Argument<?>[] arguments;
+    private final ArgumentSlots slots;
+    private final byte[] kinds;
+    private final long[] primitives;
+
+    /**
+     * Creates a new {@link Context} from the given arguments. The slots are derived from
+     * the identifiers of the arguments.
+     *
+     * @param arguments The parsed arguments.
+     */
     public Context(@NotNull List<Argument<?>> arguments) {
+        this(null, arguments);
+    }
+
+    /**
+     * Creates a new {@link Context} from the given arguments, of which the argument at
+     * index {@code i} occupies slot {@code i} of the given {@link ArgumentSlots}.
+     *
+     * @param slots The slots that were assigned to the arguments when the command was built.
+     * @param arguments The parsed arguments.
+     */
+    public Context(@Nullable ArgumentSlots slots, @NotNull List<Argument<?>> arguments) {
         validate("arguments", List.class, arguments);
-        arguments.forEach(argument -> validate("element", Argument.class, argument));
+        for (Argument<?> argument : arguments)
+            validate("element", Argument.class, argument);
+
+        this.arguments = arguments.toArray(Argument<?>[]::new);
+        this.slots = (slots == null) ? ArgumentSlots.of(identifiers(this.arguments)) : slots;
+        this.kinds = new byte[this.arguments.length];
+        this.primitives = new long[this.arguments.length];
 
-        this.arguments = arguments;
+        for (int i = 0; i < this.arguments.length; i++)
+            store(i, this.arguments[i].output());
     }
 
-    @SuppressWarnings("unchecked")
-    public <T> @Nullable T find(@NotNull String identifier) {
+    /**
+     * Gets the given arguments as a {@link Context}, without copying them if they already are one.
+     *
+     * @param arguments The parsed arguments.
+     * @return The arguments as a {@link Context}.
+     */
+    public static @NotNull Context of(@NotNull List<Argument<?>> arguments) {
+        return (arguments instanceof Context context) ? context : new Context(arguments);
+    }
+
+    private static String[] identifiers(Argument<?>[] arguments) {
+        String[] identifiers = new String[arguments.length];
+        for (int i = 0; i < arguments.length; i++)
+            identifiers[i] = arguments[i].identifier();
+        return identifiers;
+    }
+
+    private void store(int slot, Object output) {
+        if (output instanceof Integer || output instanceof Short || output instanceof Byte) {
+            this.kinds[slot] = INT;
+            this.primitives[slot] = ((Number) output).intValue();
+        } else if (output instanceof Long value) {
+            this.kinds[slot] = LONG;
+            this.primitives[slot] = value;
+        } else if (output instanceof Float value) {
+            this.kinds[slot] = FLOAT;
+            this.primitives[slot] = Double.doubleToRawLongBits(value);
+        } else if (output instanceof Double value) {
+            this.kinds[slot] = DOUBLE;
+            this.primitives[slot] = Double.doubleToRawLongBits(value);
+        } else if (output instanceof Boolean value) {
+            this.kinds[slot] = BOOLEAN;
+            this.primitives[slot] = value ? 1L : 0L;
+        } else
+            this.kinds[slot] = NONE;
+    }
+
+    private int slotOf(String identifier) {
         validate("identifier", String.class, identifier);
 
-        Optional<Argument<?>> element = arguments.stream()
-                .filter(argument -> argument.identifier().equals(identifier))
-                .findFirst();
-        if (element.isEmpty())
+        int slot = this.slots.indexOf(identifier);
+        if (slot == -1 || slot >= this.arguments.length)
             throw new IllegalArgumentException("No argument with identifier " + identifier + " found");
-        return element.map(value -> (T) value.output()).orElse(null);
+        return slot;
+    }
+
+    private int slotOf(String identifier, byte kind, String type) {
+        int slot = slotOf(identifier);
+
+        //  Numbers are widened like the language itself does: int -> long -> float -> double
+        byte actual = this.kinds[slot];
+        boolean matches = (kind == BOOLEAN) ? actual == BOOLEAN : actual >= INT && actual <= kind;
+        if (!matches)
+            throw new IllegalArgumentException("No argument with identifier " + identifier + " found with type " + type);
+        return slot;
+    }
+
+    private double decimal(int slot) {
+        return switch (this.kinds[slot]) {
+            case INT, LONG -> this.primitives[slot];
+            default -> Double.longBitsToDouble(this.primitives[slot]);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T find(@NotNull String identifier) {
+        return (T) this.arguments[slotOf(identifier)].output();
     }
 
     @SuppressWarnings("unchecked")
     public <T> @Nullable T find(@NotNull String identifier, @NotNull Class<T> type) {
         validate("identifier", String.class, identifier);
 
-        Optional<Argument<?>> element = arguments.stream()
-                .filter(Objects::nonNull)
-                .filter(argument -> argument.identifier().equals(identifier))
-                .filter(argument -> argument.output() != null)
-                .filter(argument -> argument.output().getClass().equals(type))
-                .findFirst();
-        if (element.isEmpty())
+        int slot = this.slots.indexOf(identifier);
+        Object output = (slot == -1 || slot >= this.arguments.length) ? null : this.arguments[slot].output();
+        if (output == null || !output.getClass().equals(type))
             throw new IllegalArgumentException("No argument with identifier " + identifier + " found with type " + type.getSimpleName());
-        return element.map(value -> (T) value.output()).orElse(null);
+        return (T) output;
+    }
+
+    /**
+     * Gets the output of the argument with the given identifier as an int.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The output of the argument.
+     * @throws IllegalArgumentException If there is no argument with the given identifier of type int.
+     */
+    public int getInt(@NotNull String identifier) {
+        return (int) this.primitives[slotOf(identifier, INT, "int")];
+    }
+
+    /**
+     * Gets the output of the argument with the given identifier as a long.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The output of the argument.
+     * @throws IllegalArgumentException If there is no argument with the given identifier of type long.
+     */
+    public long getLong(@NotNull String identifier) {
+        return this.primitives[slotOf(identifier, LONG, "long")];
+    }
+
+    /**
+     * Gets the output of the argument with the given identifier as a float.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The output of the argument.
+     * @throws IllegalArgumentException If there is no argument with the given identifier of type float.
+     */
+    public float getFloat(@NotNull String identifier) {
+        return (float) decimal(slotOf(identifier, FLOAT, "float"));
+    }
+
+    /**
+     * Gets the output of the argument with the given identifier as a double.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The output of the argument.
+     * @throws IllegalArgumentException If there is no argument with the given identifier of type double.
+     */
+    public double getDouble(@NotNull String identifier) {
+        return decimal(slotOf(identifier, DOUBLE, "double"));
+    }
+
+    /**
+     * Gets the output of the argument with the given identifier as a boolean.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The output of the argument.
+     * @throws IllegalArgumentException If there is no argument with the given identifier of type boolean.
+     */
+    public boolean getBoolean(@NotNull String identifier) {
+        return this.primitives[slotOf(identifier, BOOLEAN, "boolean")] != 0L;
     }
 
+    @Override
     public @NotNull Argument<?> get(int index) throws IndexOutOfBoundsException {
-        return arguments.get(index);
+        if (index < 0 || index >= this.arguments.length)
+            throw new IndexOutOfBoundsException("Index %d out of bounds for length %d".formatted(index, this.arguments.length));
+        return this.arguments[index];
     }
 
+    @Override
     public int size() {
-        return arguments.size();
+        return this.arguments.length;
     }
 
 }
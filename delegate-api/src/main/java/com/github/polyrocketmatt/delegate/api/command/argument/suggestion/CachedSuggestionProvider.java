@@ -0,0 +1,78 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.argument.suggestion;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * {@link SuggestionProvider} that caches the sorted values of a source, such that the
+ * source is queried at most once per expiry period, regardless of the amount of
+ * completion requests.
+ * <p>
+ * A source that returns null, for example because it timed out, is not cached. The
+ * previous values are suggested instead, or none if there are none, and the source is
+ * queried again on the next request.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public final class CachedSuggestionProvider implements SuggestionProvider {
+
+    private final Supplier<String[]> source;
+    private final long expiryNanos;
+    private volatile Suggestions suggestions;
+    private volatile long expiresAt;
+
+    /**
+     * Creates a new {@link CachedSuggestionProvider}.
+     *
+     * @param source The source of the values to suggest.
+     * @param expiry The time after which the values are queried again.
+     * @param unit The unit of the expiry time.
+     * @throws IllegalArgumentException If the expiry time is negative.
+     */
+    public CachedSuggestionProvider(@NotNull Supplier<String[]> source, long expiry, @NotNull TimeUnit unit) {
+        validate("source", Supplier.class, source);
+        validate("unit", TimeUnit.class, unit);
+        if (expiry < 0)
+            throw new IllegalArgumentException("Expiry must be positive");
+
+        this.source = source;
+        this.expiryNanos = unit.toNanos(expiry);
+    }
+
+    @Override
+    public @NotNull Suggestions suggest(@NotNull String prefix) {
+        Suggestions current = this.suggestions;
+        long now = System.nanoTime();
+        if (current != null && now - this.expiresAt < 0)
+            return current;
+
+        //  Concurrent requests might both refresh the values, which is harmless
+        String[] values = this.source.get();
+        if (values == null)
+            return (current != null) ? current : Suggestions.EMPTY;
+
+        current = Suggestions.of(values);
+        this.expiresAt = now + this.expiryNanos;
+        this.suggestions = current;
+
+        return current;
+    }
+
+    /**
+     * Discards the cached values, such that the source is queried on the next request.
+     */
+    public void invalidate() {
+        this.suggestions = null;
+    }
+
+}
@@ -0,0 +1,60 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.argument.suggestion;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Provides the values that are suggested while a {@link CommandArgument} is being typed.
+ * Suggestions are requested on almost every key press, so providers should return
+ * precomputed {@link Suggestions} wherever possible.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+@FunctionalInterface
+public interface SuggestionProvider {
+
+    /**
+     * Gets the suggestions for the argument, given the part of the argument that has
+     * already been typed. The returned {@link Suggestions} do not have to be filtered
+     * by the prefix, this is done by the caller.
+     *
+     * @param prefix The part of the argument that has already been typed.
+     * @return The suggestions for the argument.
+     */
+    @NotNull Suggestions suggest(@NotNull String prefix);
+
+    /**
+     * Creates a {@link SuggestionProvider} that always suggests the given values.
+     *
+     * @param values The values to suggest.
+     * @return The {@link SuggestionProvider} of the values.
+     */
+    static @NotNull SuggestionProvider of(@NotNull String... values) {
+        Suggestions suggestions = Suggestions.of(values);
+
+        return prefix -> suggestions;
+    }
+
+    /**
+     * Creates a {@link SuggestionProvider} that suggests the values of the given source,
+     * which is only queried again once the given amount of time has passed.
+     *
+     * @param source The source of the values to suggest.
+     * @param expiry The time after which the values are queried again.
+     * @param unit The unit of the expiry time.
+     * @return The {@link SuggestionProvider} of the source.
+     */
+    static @NotNull SuggestionProvider cached(@NotNull Supplier<String[]> source, long expiry, @NotNull TimeUnit unit) {
+        return new CachedSuggestionProvider(source, expiry, unit);
+    }
+
+}
@@ -0,0 +1,186 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.argument.suggestion;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Values that are suggested for an argument. Suggestions are either a precomputed array
+ * that is sorted ignoring case, of which the values that start with a prefix are found
+ * with a binary search, or an asynchronous result that is only waited for until its
+ * deadline has passed.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public final class Suggestions {
+
+    public static final Suggestions EMPTY = new Suggestions(new String[0], null, 0L);
+
+    private final List<String> values;
+    private final String[] sorted;
+    private final CompletionStage<? extends Collection<String>> stage;
+    private final long deadline;
+
+    private Suggestions(String[] sorted, CompletionStage<? extends Collection<String>> stage, long deadline) {
+        this.values = (sorted == null) ? null : List.of(sorted);
+        this.sorted = sorted;
+        this.stage = stage;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates {@link Suggestions} of the given values, which are copied and sorted.
+     *
+     * @param values The values to suggest.
+     * @return The {@link Suggestions} of the values.
+     */
+    public static @NotNull Suggestions of(@NotNull String... values) {
+        validate("values", String[].class, values);
+        for (String value : values)
+            validate("value", String.class, value);
+
+        String[] sorted = values.clone();
+        Arrays.sort(sorted, String.CASE_INSENSITIVE_ORDER);
+
+        return new Suggestions(sorted, null, 0L);
+    }
+
+    /**
+     * Creates {@link Suggestions} of the given values, which must already be sorted with
+     * {@link String#CASE_INSENSITIVE_ORDER}. The array is not copied and must not be
+     * modified afterwards.
+     *
+     * @param sorted The sorted values to suggest.
+     * @return The {@link Suggestions} of the values.
+     */
+    public static @NotNull Suggestions ofSorted(@NotNull String[] sorted) {
+        validate("sorted", String[].class, sorted);
+        for (String value : sorted)
+            validate("value", String.class, value);
+
+        return new Suggestions(sorted, null, 0L);
+    }
+
+    /**
+     * Creates {@link Suggestions} that are computed asynchronously. If the values are not
+     * available once the given timeout has passed, nothing is suggested.
+     *
+     * @param stage The stage that completes with the values to suggest.
+     * @param timeout The maximum time to wait for the values.
+     * @param unit The unit of the timeout.
+     * @return The asynchronous {@link Suggestions}.
+     */
+    public static @NotNull Suggestions async(@NotNull CompletionStage<? extends Collection<String>> stage, long timeout, @NotNull TimeUnit unit) {
+        validate("stage", CompletionStage.class, stage);
+        validate("unit", TimeUnit.class, unit);
+
+        return new Suggestions(null, stage, System.nanoTime() + unit.toNanos(Math.max(0L, timeout)));
+    }
+
+    /**
+     * Checks if the suggestions are computed asynchronously.
+     *
+     * @return True if the suggestions are computed asynchronously, false otherwise.
+     */
+    public boolean isAsync() {
+        return stage != null;
+    }
+
+    /**
+     * Gets the suggested values that start with the given prefix, ignoring case. For
+     * asynchronous suggestions, this waits at most until the deadline has passed.
+     *
+     * @param prefix The prefix of the values.
+     * @return An unmodifiable list of the values that start with the prefix.
+     */
+    public @NotNull List<String> get(@NotNull String prefix) {
+        validate("prefix", String.class, prefix);
+
+        if (this.stage != null)
+            return await(prefix);
+
+        //  The values that start with the prefix form a contiguous range of the sorted values
+        int from = bound(prefix, false);
+        int to = bound(prefix, true);
+
+        return this.values.subList(from, to);
+    }
+
+    private List<String> await(String prefix) {
+        Collection<String> result;
+        try {
+            long remaining = this.deadline - System.nanoTime();
+            result = this.stage.toCompletableFuture().get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException | TimeoutException ex) {
+            return List.of();
+        }
+
+        if (result == null)
+            return List.of();
+
+        List<String> matches = new ArrayList<>();
+        for (String value : result)
+            if (value != null && value.regionMatches(true, 0, prefix, 0, prefix.length()))
+                matches.add(value);
+
+        return List.copyOf(matches);
+    }
+
+    private int bound(String prefix, boolean upper) {
+        int low = 0;
+        int high = this.sorted.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(this.sorted[middle], prefix);
+
+            if (comparison < 0 || (upper && comparison == 0))
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    private static int compare(String value, String prefix) {
+        //  Compares like String.CASE_INSENSITIVE_ORDER, but values that start with the prefix are equal to it
+        int length = Math.min(value.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            char left = value.charAt(i);
+            char right = prefix.charAt(i);
+
+            if (left != right) {
+                left = Character.toUpperCase(left);
+                right = Character.toUpperCase(right);
+                if (left != right) {
+                    left = Character.toLowerCase(left);
+                    right = Character.toLowerCase(right);
+                    if (left != right)
+                        return left - right;
+                }
+            }
+        }
+
+        return (value.length() < prefix.length()) ? -1 : 0;
+    }
+
+}
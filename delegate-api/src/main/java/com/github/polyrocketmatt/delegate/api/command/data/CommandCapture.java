@@ -7,57 +7,150 @@ import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
+/**
+ * Captures the results of the actions of a single command invocation, in the order in
+ * which the actions were executed. The amount of successful and failed actions is
+ * counted once, such that triggers can be checked in constant time. Captures can be
+ * looked up by the identifier of their action through an index that is built on first use.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
 @API(status = API.Status.STABLE, since = "0.0.1")
 public class CommandCapture implements Iterable<CommandCapture.Capture> {
 
-    private final List<Capture> captures;
+    private final Capture[] captures;
+    private final int successCount;
+    private volatile Map<String, Capture> index;
+    private volatile List<ActionItem.Result> results;
 
     public CommandCapture(@NotNull List<Capture> captures) {
-        validate("captures", List.class, captures);
-        captures.forEach(capture -> validate("element", Capture.class, capture));
+        this(toArray(captures));
+    }
+
+    private CommandCapture(Capture[] captures) {
+        validate("captures", Capture[].class, captures);
+
+        int successCount = 0;
+        for (Capture capture : captures) {
+            validate("element", Capture.class, capture);
+
+            if (capture.result().getResult().isSuccess())
+                successCount++;
+        }
 
         this.captures = captures;
+        this.successCount = successCount;
+    }
+
+    /**
+     * Creates a new {@link CommandCapture} from the given captures. The array is not
+     * copied and must not be modified afterwards.
+     *
+     * @param captures The captures of the actions.
+     * @return The {@link CommandCapture} of the captures.
+     */
+    public static @NotNull CommandCapture of(@NotNull Capture... captures) {
+        return new CommandCapture(captures);
+    }
+
+    private static Capture[] toArray(List<Capture> captures) {
+        validate("captures", List.class, captures);
+
+        return captures.toArray(Capture[]::new);
+    }
+
+    private Map<String, Capture> getIndex() {
+        Map<String, Capture> current = this.index;
+        if (current != null)
+            return current;
+
+        //  The first capture of an action wins, like a linear scan would
+        Map<String, Capture> index = new HashMap<>();
+        for (Capture capture : this.captures)
+            index.putIfAbsent(capture.action(), capture);
+        this.index = index;
+
+        return index;
     }
 
     public @Nullable ActionItem<?> getResultOf(@NotNull String name) {
-        validate("name", String.class, name);
+        Capture capture = getCaptureOf(name);
 
-        return captures.stream()
-                .filter(capture -> capture.action().equals(name))
-                .findFirst()
-                .map(Capture::result)
-                .orElse(null);
+        return (capture == null) ? null : capture.result();
     }
 
     public @Nullable Capture getCaptureOf(@NotNull String name) {
         validate("name", String.class, name);
 
-        return captures.stream()
-                .filter(capture -> capture.action().equals(name))
-                .findFirst()
-                .orElse(null);
+        return getIndex().get(name);
     }
 
     public @NotNull List<ActionItem.Result> getResults() {
-        return captures.stream()
-                .map(Capture::result)
-                .map(ActionItem::getResult)
-                .collect(Collectors.toList());
+        List<ActionItem.Result> current = this.results;
+        if (current != null)
+            return current;
+
+        ActionItem.Result[] results = new ActionItem.Result[this.captures.length];
+        for (int i = 0; i < results.length; i++)
+            results[i] = this.captures[i].result().getResult();
+        current = List.of(results);
+        this.results = current;
+
+        return current;
+    }
+
+    /**
+     * Gets the amount of actions that succeeded.
+     *
+     * @return The amount of actions that succeeded.
+     */
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * Gets the amount of actions that failed.
+     *
+     * @return The amount of actions that failed.
+     */
+    public int getFailureCount() {
+        return captures.length - successCount;
+    }
+
+    /**
+     * Checks if all actions succeeded. This is trivially true if there are no actions.
+     *
+     * @return True if all actions succeeded, false otherwise.
+     */
+    public boolean isAllSuccess() {
+        return successCount == captures.length;
+    }
+
+    /**
+     * Checks if all actions failed. This is trivially true if there are no actions.
+     *
+     * @return True if all actions failed, false otherwise.
+     */
+    public boolean isAllFailure() {
+        return successCount == 0;
     }
 
     public int size() {
-        return captures.size();
+        return captures.length;
     }
 
     @Override
     public @NotNull Iterator<Capture> iterator() {
-        return captures.iterator();
+        return Arrays.asList(captures).iterator();
     }
 
     public record Capture(@NotNull String action, @NotNull ActionItem<?> result) {
@@ -16,6 +16,12 @@ import org.apiguardian.api.API;
 @API(status = API.Status.STABLE, since = "0.0.1")
 public class SuccessActionResult extends ActionItem<Object> {
 
+    /**
+     * Shared {@link SuccessActionResult}, which can be returned by any action that
+     * succeeded without producing an item, as the result is immutable.
+     */
+    public static final SuccessActionResult INSTANCE = new SuccessActionResult();
+
     /**
      * Creates a new {@link SuccessActionResult}.
      */
@@ -6,8 +6,6 @@ package com.github.polyrocketmatt.delegate.api.command.feedback;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 @API(status = API.Status.STABLE, since = "0.0.1")
@@ -17,11 +15,12 @@ public record CommandFeedbackInformation(@NotNull String feedback, @NotNull Feed
         validate("feedback", String.class, feedback);
         validate("type", FeedbackType.class, type);
         validate("args", Object[].class, args);
-        Arrays.stream(args).forEach(arg -> validate("argument", Object.class, arg));
+        for (Object arg : args)
+            validate("argument", Object.class, arg);
     }
 
     public @NotNull String getFormattedFeedback() {
-        return this.type.getDefaultMessage().formatted(args);
+        return this.type.getDefaultTemplate().render(args);
     }
 
 }
\ No newline at end of file
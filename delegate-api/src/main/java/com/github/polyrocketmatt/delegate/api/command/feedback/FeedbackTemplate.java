@@ -0,0 +1,132 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.feedback;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.IllegalFormatConversionException;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * A feedback message that is compiled once into literal segments and the conversions
+ * between them, such that rendering the message does not parse its format again.
+ * Messages only consisting of {@code %s}, {@code %d}, {@code %n} and {@code %%} are
+ * rendered by the template itself and produce the same output as {@link String#format}.
+ * Any other message is rendered through {@link String#format}.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public final class FeedbackTemplate {
+
+    private final String pattern;
+    private final String[] literals;
+    private final char[] conversions;
+    private final int length;
+
+    private FeedbackTemplate(String pattern, @Nullable String[] literals, @Nullable char[] conversions) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.conversions = conversions;
+
+        int length = 0;
+        if (literals != null)
+            for (String literal : literals)
+                length += literal.length();
+        this.length = length;
+    }
+
+    /**
+     * Compiles the given message into a {@link FeedbackTemplate}.
+     *
+     * @param pattern The message, in the format of {@link String#format}.
+     * @return The compiled {@link FeedbackTemplate}.
+     */
+    public static @NotNull FeedbackTemplate compile(@NotNull String pattern) {
+        validate("pattern", String.class, pattern);
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder conversions = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            //  Flags, widths and explicit indices are left to the formatter
+            char conversion = (i + 1 < pattern.length()) ? pattern.charAt(++i) : '\0';
+            switch (conversion) {
+                case '%' -> literal.append('%');
+                case 'n' -> literal.append(System.lineSeparator());
+                case 's', 'd' -> {
+                    literals.add(literal.toString());
+                    conversions.append(conversion);
+                    literal.setLength(0);
+                }
+                default -> {
+                    return new FeedbackTemplate(pattern, null, null);
+                }
+            }
+        }
+        literals.add(literal.toString());
+
+        return new FeedbackTemplate(pattern, literals.toArray(String[]::new), conversions.toString().toCharArray());
+    }
+
+    /**
+     * Renders the template with the given arguments.
+     *
+     * @param args The arguments of the conversions in the template.
+     * @return The rendered message.
+     * @throws java.util.IllegalFormatException If the arguments do not match the conversions.
+     */
+    public @NotNull String render(@NotNull Object... args) {
+        validate("args", Object[].class, args);
+        if (this.literals == null)
+            return this.pattern.formatted(args);
+
+        StringBuilder builder = new StringBuilder(this.length + 16 * this.conversions.length);
+        for (int i = 0; i < this.conversions.length; i++) {
+            builder.append(this.literals[i]);
+            if (i >= args.length)
+                throw new MissingFormatArgumentException("Format specifier '%" + this.conversions[i] + "'");
+            append(builder, this.conversions[i], args[i]);
+        }
+
+        return builder.append(this.literals[this.conversions.length]).toString();
+    }
+
+    private static void append(StringBuilder builder, char conversion, Object arg) {
+        if (conversion == 's') {
+            builder.append((arg instanceof Formattable) ? "%s".formatted(arg) : String.valueOf(arg));
+            return;
+        }
+
+        if (arg == null || arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte || arg instanceof BigInteger)
+            builder.append(arg);
+        else
+            throw new IllegalFormatConversionException(conversion, arg.getClass());
+    }
+
+    /**
+     * Gets the message the template was compiled from.
+     *
+     * @return The message of the template.
+     */
+    public @NotNull String getPattern() {
+        return this.pattern;
+    }
+
+}
@@ -16,6 +16,7 @@ public enum FeedbackType {
     UNAUTHORIZED("You do not have permission to execute the command: %s"),
 
     ACTIONS_NULL("The actions list is null for command %s."),
+    ACTIONS_EXCEPTION("An exception occurred while executing the command %s: %s"),
 
     ARGS_INVALID_COUNT("Wrong number of arguments. Expected %d, got %d."),
     ARGS_INVALID_IDENTIFIER("Invalid argument identifier: %s."),
@@ -23,18 +24,26 @@ public enum FeedbackType {
     ARGS_INVALID_PARSE_RESULT("Argument %s could not successfully be parsed to %s."),
     ARGS_DUPLICATE_IDENTIFIER("Duplicate argument identifier: %s."),
     ARGS_INVALID_TYPE("Invalid argument type for argument %s: %s."),
+    ARGS_RULE_FAILURE("Argument %s does not meet its rules: %s."),
+    ARGS_UNTERMINATED_QUOTE("Unterminated quote in argument %s."),
 
     BRIGADIER_SYNTAX("%s"),
     BRIGADIER_EXCEPTION("An exception occurred while executing the command using Brigadier: %s");
 
     private final String defaultMessage;
+    private final FeedbackTemplate defaultTemplate;
 
     FeedbackType(String defaultMessage) {
         this.defaultMessage = defaultMessage;
+        this.defaultTemplate = FeedbackTemplate.compile(defaultMessage);
     }
 
     public @NotNull String getDefaultMessage() {
         return defaultMessage;
     }
 
+    public @NotNull FeedbackTemplate getDefaultTemplate() {
+        return defaultTemplate;
+    }
+
 }
@@ -0,0 +1,29 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.property;
+
+import org.apiguardian.api.API;
+
+/**
+ * Defines on which kind of threads the actions of an asynchronous command are executed.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public enum ExecutionMode {
+
+    /**
+     * Actions are executed on the shared, bounded worker pool.
+     */
+    POOLED,
+
+    /**
+     * Every action is executed on its own virtual thread. This is suited for actions
+     * that block, for example on I/O. Virtual threads require Java 21 or newer, older
+     * runtimes fall back to {@link #POOLED}.
+     */
+    VIRTUAL,
+
+}
@@ -39,6 +39,20 @@ public abstract class CommandTrigger extends CommandAttribute implements Buffera
 
     public abstract boolean shouldTrigger(@NotNull List<ActionItem.Result> results);
 
+    /**
+     * Checks if the trigger should be called for the given capture. By default, this
+     * checks the results of the capture, but triggers that only depend on the amount of
+     * successful or failed actions can override this to avoid looking at the results.
+     *
+     * @param capture The capture of the invocation.
+     * @return True if the trigger should be called, false otherwise.
+     */
+    public boolean shouldTrigger(@NotNull CommandCapture capture) {
+        validate("capture", CommandCapture.class, capture);
+
+        return shouldTrigger(capture.getResults());
+    }
+
     @Override
     public @NotNull AttributeType getType() {
         return AttributeType.TRIGGER;
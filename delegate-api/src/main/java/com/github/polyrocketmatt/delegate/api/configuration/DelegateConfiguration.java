@@ -3,41 +3,49 @@
 
 package com.github.polyrocketmatt.delegate.api.configuration;
 
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackTemplate;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 @API(status = API.Status.STABLE, since = "0.0.1")
 public class DelegateConfiguration {
-    private final Map<FeedbackType, String> feedbackMessages;
+    private final Map<FeedbackType, FeedbackTemplate> feedbackTemplates;
+    private final ExecutorConfiguration executorConfiguration;
 
     public DelegateConfiguration() {
-        //  Initialize feedback messages
-        this.feedbackMessages = new HashMap<>(Arrays
-                .stream(FeedbackType.values())
-                .map(type -> Map.entry(type, type.getDefaultMessage()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        //  Initialize feedback messages, which are compiled once when the type is loaded
+        this.feedbackTemplates = new EnumMap<>(FeedbackType.class);
+        for (FeedbackType type : FeedbackType.values())
+            this.feedbackTemplates.put(type, type.getDefaultTemplate());
+        this.executorConfiguration = new ExecutorConfiguration();
     }
 
     public DelegateConfiguration setFeedback(@NotNull FeedbackType type, @NotNull String message) {
         validate("type", FeedbackType.class, type);
         validate("message", String.class, message);
 
-        this.feedbackMessages.put(type, message);
+        this.feedbackTemplates.put(type, FeedbackTemplate.compile(message));
         return this;
     }
 
     public String get(@NotNull FeedbackType type) {
+        return getTemplate(type).getPattern();
+    }
+
+    public FeedbackTemplate getTemplate(@NotNull FeedbackType type) {
         validate("type", FeedbackType.class, type);
 
-        return this.feedbackMessages.get(type);
+        return this.feedbackTemplates.get(type);
+    }
+
+    public ExecutorConfiguration getExecutorConfiguration() {
+        return this.executorConfiguration;
     }
 
 }
@@ -0,0 +1,97 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.configuration;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Configuration of the shared executor that runs the actions of asynchronous commands.
+ * Changes are picked up the next time the executor is started.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+@API(status = API.Status.STABLE, since = "0.0.1")
+public class ExecutorConfiguration {
+
+    private int threadCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private int stealCount = 8;
+    private int queueBound = 1024;
+    private String threadName = "delegate-worker";
+
+    /**
+     * Sets the amount of worker threads of the executor.
+     *
+     * @param threadCount The amount of worker threads, must be positive.
+     * @return The configuration.
+     */
+    public ExecutorConfiguration setThreadCount(int threadCount) {
+        if (threadCount <= 0)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threadCount = threadCount;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of workers that the actions of a single command
+     * invocation can occupy at the same time.
+     *
+     * @param stealCount The maximum amount of workers per invocation, must be positive.
+     * @return The configuration.
+     */
+    public ExecutorConfiguration setStealCount(int stealCount) {
+        if (stealCount <= 0)
+            throw new IllegalArgumentException("Steal count must be positive");
+        this.stealCount = stealCount;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of tasks that can be queued. When the queue is full,
+     * tasks are run on the thread that submitted them. A bound of 0 means that the
+     * queue is unbounded.
+     *
+     * @param queueBound The maximum amount of queued tasks, must not be negative.
+     * @return The configuration.
+     */
+    public ExecutorConfiguration setQueueBound(int queueBound) {
+        if (queueBound < 0)
+            throw new IllegalArgumentException("Queue bound cannot be negative");
+        this.queueBound = queueBound;
+        return this;
+    }
+
+    /**
+     * Sets the prefix of the names of the worker threads.
+     *
+     * @param threadName The prefix of the names of the worker threads.
+     * @return The configuration.
+     */
+    public ExecutorConfiguration setThreadName(@NotNull String threadName) {
+        validate("threadName", String.class, threadName);
+
+        this.threadName = threadName;
+        return this;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getStealCount() {
+        return stealCount;
+    }
+
+    public int getQueueBound() {
+        return queueBound;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+}
@@ -27,7 +27,11 @@ public class ArgumentParseException extends RuntimeException {
      * @param parseType The type of the argument that failed to parse.
      */
     public ArgumentParseException(@NotNull String message, @NotNull Class<?> parseType) {
-        super(message);
+        this(message, parseType, true);
+    }
+
+    private ArgumentParseException(@NotNull String message, @NotNull Class<?> parseType, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
         validate("message", String.class, message);
         validate("parseType", Class.class, parseType);
 
@@ -50,6 +54,18 @@ public class ArgumentParseException extends RuntimeException {
         this.parseType = parseType;
     }
 
+    /**
+     * Creates a new exception for input that could not be parsed. Such an exception is
+     * expected whenever a commander enters an invalid argument, so no stack trace is captured.
+     *
+     * @param message The detail message.
+     * @param parseType The type of the argument that failed to parse.
+     * @return The exception.
+     */
+    public static @NotNull ArgumentParseException invalidInput(@NotNull String message, @NotNull Class<?> parseType) {
+        return new ArgumentParseException(message, parseType, false);
+    }
+
     public @NotNull Class<?> getParseType() {
         return parseType;
     }
@@ -5,16 +5,18 @@ package com.github.polyrocketmatt.delegate.api.exception;
 
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
 import com.github.polyrocketmatt.delegate.api.command.feedback.CommandFeedbackInformation;
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackTemplate;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import org.apiguardian.api.API;
-
-import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 /**
  * Exception thrown when the execution of a {@link com.github.polyrocketmatt.delegate.api.command.IDelegateCommand} fails.
+ * The message and feedback of the exception are only rendered once they are requested, as
+ * many failures are never shown to a commander.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
@@ -24,6 +26,8 @@ public class CommandExecutionException extends RuntimeException {
 
     private final CommandDispatchInformation dispatchInformation;
     private final CommandFeedbackInformation feedbackInformation;
+    private final @Nullable FeedbackTemplate template;
+    private String message;
 
     /**
      * Constructs a new exception with the specified detail message.
@@ -34,16 +38,58 @@ public class CommandExecutionException extends RuntimeException {
      * @param args The arguments that should be used to format the feedback.
      */
     public CommandExecutionException(CommandDispatchInformation dispatch, String feedback, FeedbackType type, Object[] args) {
-        super(feedback.formatted(args));
+        this(dispatch, feedback, null, type, args, true);
+    }
+
+    /**
+     * Constructs a new exception of which the message and the feedback are rendered from the given template.
+     *
+     * @param dispatch The {@link CommandDispatchInformation} that was used to dispatch the command.
+     * @param template The {@link FeedbackTemplate} that should be rendered for the {@link CommanderEntity}.
+     * @param type The {@link FeedbackType} that should be used to send the feedback.
+     * @param args The arguments that should be used to render the template.
+     */
+    public CommandExecutionException(CommandDispatchInformation dispatch, FeedbackTemplate template, FeedbackType type, Object[] args) {
+        this(dispatch, template, type, args, true);
+    }
 
+    /**
+     * Constructs a new exception of which the message and the feedback are rendered from the given template.
+     * Failures caused by the input of a commander do not need a stack trace, which is the most expensive
+     * part of constructing an exception.
+     *
+     * @param dispatch The {@link CommandDispatchInformation} that was used to dispatch the command.
+     * @param template The {@link FeedbackTemplate} that should be rendered for the {@link CommanderEntity}.
+     * @param type The {@link FeedbackType} that should be used to send the feedback.
+     * @param args The arguments that should be used to render the template.
+     * @param writableStackTrace Whether the stack trace of the exception should be captured.
+     */
+    public CommandExecutionException(CommandDispatchInformation dispatch, FeedbackTemplate template, FeedbackType type, Object[] args, boolean writableStackTrace) {
+        this(dispatch, (template == null) ? null : template.getPattern(), template, type, args, writableStackTrace);
+    }
+
+    private CommandExecutionException(CommandDispatchInformation dispatch, String feedback, @Nullable FeedbackTemplate template, FeedbackType type, Object[] args, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
         validate("dispatch", CommandDispatchInformation.class, dispatch);
         validate("feedback", String.class, feedback);
         validate("type", FeedbackType.class, type);
         validate("args", Object[].class, args);
-        Arrays.stream(args).forEach(arg -> validate("argument", Object.class, arg));
 
+        //  The arguments themselves are validated by the feedback information
         this.dispatchInformation = dispatch;
         this.feedbackInformation = new CommandFeedbackInformation(feedback, type, args);
+        this.template = template;
+    }
+
+    @Override
+    public String getMessage() {
+        //  Rendering twice on a race yields the same message, so no synchronization is needed
+        if (this.message == null) {
+            Object[] args = this.feedbackInformation.args();
+            this.message = (this.template == null) ? this.feedbackInformation.feedback().formatted(args) : this.template.render(args);
+        }
+
+        return this.message;
     }
 
     public CommanderEntity getCommander() {
@@ -63,7 +109,7 @@ public class CommandExecutionException extends RuntimeException {
     }
 
     public String getFeedback() {
-        return this.feedbackInformation.getFormattedFeedback();
+        return (this.template == null) ? this.feedbackInformation.getFormattedFeedback() : getMessage();
     }
 
 }
@@ -4,12 +4,27 @@
 package com.github.polyrocketmatt.delegate.api.handlers;
 
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import org.apiguardian.api.API;
 
+import java.util.concurrent.CompletionStage;
+
 @API(status = API.Status.STABLE, since = "0.0.1")
 public abstract class CommandHandler implements IHandler {
 
     public abstract boolean handle(CommandDispatchInformation information) throws CommandExecutionException;
 
+    /**
+     * Handles the given {@link CommandDispatchInformation} without waiting for asynchronous
+     * actions. The returned stage completes with the {@link CommandCapture} of the command
+     * once all of its actions, triggers and the platform event have been executed. If the
+     * command could not be dispatched, the stage completes exceptionally with a
+     * {@link CommandExecutionException}.
+     *
+     * @param information The {@link CommandDispatchInformation} to handle.
+     * @return A stage that completes with the {@link CommandCapture} of the command.
+     */
+    public abstract CompletionStage<CommandCapture> handleAsync(CommandDispatchInformation information);
+
 }
@@ -15,6 +15,7 @@ import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.AttributeException;
 import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
@@ -323,6 +324,17 @@ public class BukkitCommandBuilder extends DelegateCommandBuilder {
         return this.with(new AsyncProperty());
     }
 
+    /**
+     * Append a new {@link AsyncProperty} with the given {@link ExecutionMode} to the chain.
+     *
+     * @param mode The mode in which the actions are executed.
+     * @return The current chain.
+     */
+    @Override
+    public @NotNull BukkitCommandBuilder withAsync(@NotNull ExecutionMode mode) {
+        return this.with(new AsyncProperty(mode));
+    }
+
     /**
      * Append a new {@link IgnoreNullProperty} to the chain.
      *
@@ -9,9 +9,9 @@ import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.github.polyrocketmatt.delegate.core.utils.ArrayUtils;
+import com.github.polyrocketmatt.delegate.impl.Delegate;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,13 +33,14 @@ public class PlayerArgument extends CommandArgument<Player> {
      */
     private PlayerArgument(String identifier, String argumentDescription, Player defaultValue, boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription, Player.class, new Argument<>(identifier, defaultValue), isOptional, rules);
+        withSuggestions(Delegate.getPlayerIndex().getSuggestionProvider());
     }
 
     @Override
     public @NotNull Argument<Player> parse(@Nullable String input) {
         if (input == null)
            return getDefault();
-        Player player = Bukkit.getPlayer(input);
+        Player player = Delegate.getPlayerIndex().match(input);
 
         return (player != null) ? new Argument<>(getIdentifier(), player) : getDefault();
     }
@@ -48,14 +49,14 @@ public class PlayerArgument extends CommandArgument<Player> {
     public @NotNull Player parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
         try {
-            Player player = Bukkit.getPlayer(reader.readString());
+            Player player = Delegate.getPlayerIndex().match(reader.readString());
 
             return (player != null) ? player : getDefault().output();
         } catch (CommandSyntaxException ex) {
             reader.setCursor(start);
 
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a player", Player.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a player", Player.class);
             return getDefault().output();
         }
     }
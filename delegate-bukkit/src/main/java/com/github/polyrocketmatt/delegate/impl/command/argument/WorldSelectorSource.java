@@ -0,0 +1,87 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.command.argument;
+
+import com.github.polyrocketmatt.delegate.core.command.argument.selector.SelectorSource;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link SelectorSource} of the entities of the server, as seen from a single world. Queries
+ * within a radius are answered by the server for that world, which only visits the chunk
+ * sections that intersect the radius, while queries without a distance visit all worlds.
+ * A source is used by a single selector evaluation on the main thread.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+final class WorldSelectorSource implements SelectorSource<Entity> {
+
+    private final World world;
+    private final Location location;
+
+    WorldSelectorSource(@NotNull World world) {
+        this.world = world;
+
+        //  Positions are copied into the same location, which avoids allocating one per coordinate
+        this.location = new Location(world, 0.0, 0.0, 0.0);
+    }
+
+    @Override
+    public void forEachPlayer(@NotNull Consumer<Entity> consumer) {
+        for (Player player : Bukkit.getOnlinePlayers())
+            consumer.accept(player);
+    }
+
+    @Override
+    public void forEachEntity(@NotNull Consumer<Entity> consumer) {
+        for (World loaded : Bukkit.getWorlds())
+            loaded.getEntities().forEach(consumer);
+    }
+
+    @Override
+    public void forEachWorldEntity(@NotNull Consumer<Entity> consumer) {
+        world.getEntities().forEach(consumer);
+    }
+
+    @Override
+    public void forEachNearby(double x, double y, double z, double radius, @NotNull Consumer<Entity> consumer) {
+        world.getNearbyEntities(new Location(world, x, y, z), radius, radius, radius).forEach(consumer);
+    }
+
+    @Override
+    public double getX(@NotNull Entity entity) {
+        return entity.getLocation(location).getX();
+    }
+
+    @Override
+    public double getY(@NotNull Entity entity) {
+        return entity.getLocation(location).getY();
+    }
+
+    @Override
+    public double getZ(@NotNull Entity entity) {
+        return entity.getLocation(location).getZ();
+    }
+
+    @Override
+    public @NotNull String getType(@NotNull Entity entity) {
+        EntityType type = entity.getType();
+
+        return (type == EntityType.UNKNOWN) ? "unknown" : type.getKey().toString();
+    }
+
+    @Override
+    public boolean isPlayer(@NotNull Entity entity) {
+        return entity instanceof Player;
+    }
+
+}
@@ -25,6 +25,9 @@ public class DelegateCommandEvent extends Event implements CommandEvent {
     private final Player sender;
 
     public DelegateCommandEvent(Plugin plugin, CommandDispatchInformation dispatchInformation, CommandCapture capture) {
+        //  Asynchronous commands dispatch their event from a worker thread
+        super(!Bukkit.isPrimaryThread());
+
         this.plugin = plugin;
         this.dispatchInformation = dispatchInformation;
         this.capture = capture;
@@ -0,0 +1,44 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCache;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Invalidates the decisions of the {@link PermissionCache} of a player when the player
+ * leaves, or changes worlds, as permission plugins may grant permissions per world.
+ * Plugins that change permissions or operator status can invalidate the cache themselves.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class PermissionCacheListener implements Listener {
+
+    private final PermissionCache cache;
+
+    public PermissionCacheListener(@NotNull PermissionCache cache) {
+        validate("cache", PermissionCache.class, cache);
+
+        this.cache = cache;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(@NotNull PlayerChangedWorldEvent event) {
+        cache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        cache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+}
@@ -4,16 +4,30 @@
 package com.github.polyrocketmatt.delegate.core;
 
 import com.github.polyrocketmatt.delegate.api.DelegateAPI;
+import com.github.polyrocketmatt.delegate.api.command.ICommandBuilder;
+import com.github.polyrocketmatt.delegate.api.command.IDelegateCommand;
+import com.github.polyrocketmatt.delegate.api.command.RegistrationBatch;
+import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.IPlatform;
 import com.github.polyrocketmatt.delegate.api.command.tree.ICommandNode;
 import com.github.polyrocketmatt.delegate.api.configuration.DelegateConfiguration;
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
+import com.github.polyrocketmatt.delegate.core.command.DelegateCommandBuilder;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCache;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
+import com.github.polyrocketmatt.delegate.core.execution.DelegateExecutor;
 import com.github.polyrocketmatt.delegate.core.handlers.AttributeHandler;
 import com.github.polyrocketmatt.delegate.core.handlers.BrigadierCommandHandler;
 import com.github.polyrocketmatt.delegate.core.handlers.DelegateCommandHandler;
 import com.github.polyrocketmatt.delegate.core.handlers.InternalCommandHandler;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+
 public class DelegateCore implements DelegateAPI {
 
     private static final DelegateCore instance = new DelegateCore();
@@ -22,6 +36,8 @@ public class DelegateCore implements DelegateAPI {
     private final AttributeHandler attributeHandler;
     private final BrigadierCommandHandler brigadierCommandHandler;
     private final InternalCommandHandler internalCommandHandler;
+    private final DelegateExecutor executor;
+    private final PermissionCache permissionCache;
     private IPlatform platform;
     private DelegateCommandHandler delegateCommandHandler;
     private boolean isVerbose = false;
@@ -31,6 +47,8 @@ public class DelegateCore implements DelegateAPI {
         if (instance != null)
             throw new IllegalStateException("Delegate has already been initialized");
         this.configuration = new DelegateConfiguration();
+        this.executor = new DelegateExecutor(configuration.getExecutorConfiguration());
+        this.permissionCache = new PermissionCache();
         this.attributeHandler = new AttributeHandler();
         this.brigadierCommandHandler = new BrigadierCommandHandler();
         this.internalCommandHandler = new InternalCommandHandler();
@@ -95,6 +113,55 @@ public class DelegateCore implements DelegateAPI {
         return success;
     }
 
+    @Override
+    public List<IDelegateCommand> registerAll(ICommandBuilder... builders) throws CommandRegisterException {
+        if (builders == null)
+            throw new CommandRegisterException("Builders cannot be null");
+        List<DelegateCommandBuilder> chains = new ArrayList<>(builders.length);
+        for (ICommandBuilder builder : builders) {
+            if (!(builder instanceof DelegateCommandBuilder chain))
+                throw new CommandRegisterException("Builder must be an instance of DelegateCommandBuilder");
+            chains.add(chain);
+        }
+
+        List<CommandNode> nodes = attributeHandler.verifyAll(chains);
+
+        //  Roots are only inserted once none of them can fail, such that either all or none are registered
+        //  Names and aliases are folded, as platforms reject commands that only differ in case
+        Set<String> identifiers = new HashSet<>();
+        List<String> conflicts = new ArrayList<>();
+        for (CommandNode node : nodes) {
+            String name = node.getNameDefinition().getValue();
+            Set<String> own = new HashSet<>();
+            own.add(fold(name));
+            for (CommandDefinition<String> alias : node.getAliasDefinitions())
+                own.add(fold(alias.getValue()));
+
+            boolean conflicting = false;
+            for (String identifier : own)
+                conflicting |= !identifiers.add(identifier) || internalCommandHandler.hasRoot(identifier);
+            if (conflicting)
+                conflicts.add(name);
+        }
+        if (!conflicts.isEmpty())
+            throw new CommandRegisterException("Cannot overwrite command nodes with the same name: %s".formatted(String.join(", ", conflicts)));
+
+        List<IDelegateCommand> commands = new ArrayList<>(nodes.size());
+        try (RegistrationBatch batch = beginRegistration()) {
+            for (CommandNode node : nodes) {
+                registerCommand(node);
+                commands.add(node.getCommand());
+            }
+        }
+
+        return commands;
+    }
+
+    @Override
+    public RegistrationBatch beginRegistration() {
+        return internalCommandHandler.beginRegistration();
+    }
+
     @Override
     public boolean isVerbose() {
         return isVerbose;
@@ -105,6 +172,14 @@ public class DelegateCore implements DelegateAPI {
         return isBrigadier;
     }
 
+    public DelegateExecutor getExecutor() {
+        return executor;
+    }
+
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+
     public InternalCommandHandler getInternalCommandHandler() {
         return internalCommandHandler;
     }
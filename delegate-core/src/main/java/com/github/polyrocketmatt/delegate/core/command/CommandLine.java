@@ -0,0 +1,365 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Tokenized representation of a command line. The line is scanned exactly once, storing
+ * the offsets of every token instead of copying it, such that the tokens can be read
+ * directly from the original line. The first token is the name of the command.
+ * <p>
+ * Three kinds of tokens are recognised:
+ * <ul>
+ *     <li>Plain tokens, which are separated by spaces.</li>
+ *     <li>Quoted tokens, which start with a quote and span until the next quote that is
+ *     followed by a space or the end of the line. Their content is taken literally.</li>
+ *     <li>Assignments of the form {@code key=value}, of which the value may be quoted.</li>
+ * </ul>
+ * An unterminated quote spans until the end of the line, which is reported by
+ * {@link #hasUnterminatedQuote()} such that the line can be rejected.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class CommandLine {
+
+    private static final int QUOTED = 1;
+    private static final int QUOTED_VALUE = 1 << 1;
+
+    //  Every token occupies four entries: start, end, separator and flags
+    private static final int STRIDE = 4;
+
+    private final String line;
+    private int[] tokens;
+    private int size;
+    private boolean quoted;
+    private boolean unterminated;
+
+    private CommandLine(String line) {
+        this.line = line;
+        this.tokens = new int[STRIDE * 8];
+        this.size = 0;
+        this.quoted = false;
+        this.unterminated = false;
+    }
+
+    /**
+     * Tokenizes the given command line.
+     *
+     * @param line The command line to tokenize.
+     * @return The tokenized {@link CommandLine}.
+     */
+    public static @NotNull CommandLine tokenize(@NotNull String line) {
+        validate("line", String.class, line);
+
+        CommandLine commandLine = new CommandLine(line);
+        int length = line.length();
+        int cursor = 0;
+
+        while (true) {
+            while (cursor < length && line.charAt(cursor) == ' ')
+                cursor++;
+            if (cursor >= length)
+                break;
+
+            int start = cursor;
+            int separator = -1;
+            int flags = 0;
+
+            if (line.charAt(cursor) == '"') {
+                flags = QUOTED;
+                cursor = closeQuote(line, cursor + 1);
+                commandLine.unterminated |= !closed(line, start, cursor);
+            } else {
+                while (cursor < length && line.charAt(cursor) != ' ') {
+                    if (line.charAt(cursor) == '=' && separator == -1) {
+                        separator = cursor;
+
+                        //  The value of an assignment may be quoted
+                        if (cursor + 1 < length && line.charAt(cursor + 1) == '"') {
+                            flags = QUOTED_VALUE;
+                            cursor = closeQuote(line, cursor + 2);
+                            commandLine.unterminated |= !closed(line, separator + 1, cursor);
+                            break;
+                        }
+                    }
+
+                    cursor++;
+                }
+            }
+
+            commandLine.add(start, cursor, separator, flags);
+        }
+
+        return commandLine;
+    }
+
+    /**
+     * Tokenizes the command line that consists of the given command and its arguments, as
+     * they were split by the platform.
+     *
+     * @param command The name of the command.
+     * @param arguments The arguments of the command.
+     * @return The tokenized {@link CommandLine}.
+     */
+    public static @NotNull CommandLine of(@NotNull String command, @NotNull String[] arguments) {
+        validate("command", String.class, command);
+        validate("arguments", String[].class, arguments);
+
+        //  Platforms split the line on spaces, so joining the arguments restores the original line
+        return tokenize((arguments.length == 0) ? command : command + " " + String.join(" ", arguments));
+    }
+
+    private static int closeQuote(String line, int from) {
+        int length = line.length();
+        for (int i = from; i < length; i++)
+            if (line.charAt(i) == '"' && (i + 1 == length || line.charAt(i + 1) == ' '))
+                return i + 1;
+        return length;
+    }
+
+    private void add(int start, int end, int separator, int flags) {
+        int offset = this.size * STRIDE;
+        if (offset == this.tokens.length)
+            this.tokens = Arrays.copyOf(this.tokens, this.tokens.length * 2);
+
+        this.tokens[offset] = start;
+        this.tokens[offset + 1] = end;
+        this.tokens[offset + 2] = separator;
+        this.tokens[offset + 3] = flags;
+        this.quoted |= flags != 0;
+        this.size++;
+    }
+
+    private int offset(int token) {
+        if (token < 0 || token >= this.size)
+            throw new IndexOutOfBoundsException("Token index %d out of bounds for %d tokens".formatted(token, this.size));
+        return token * STRIDE;
+    }
+
+    private static boolean closed(String line, int start, int end) {
+        return end - start >= 2 && line.charAt(end - 1) == '"';
+    }
+
+    /**
+     * Gets the command line that was tokenized.
+     *
+     * @return The command line that was tokenized.
+     */
+    public @NotNull String getLine() {
+        return line;
+    }
+
+    /**
+     * Gets the amount of tokens, including the name of the command.
+     *
+     * @return The amount of tokens.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if any of the tokens contains quotes.
+     *
+     * @return True if any of the tokens contains quotes, false otherwise.
+     */
+    public boolean hasQuotes() {
+        return quoted;
+    }
+
+    /**
+     * Checks if the last token contains a quote that is not terminated, in which case it
+     * spans until the end of the line.
+     *
+     * @return True if a quote is not terminated, false otherwise.
+     */
+    public boolean hasUnterminatedQuote() {
+        return unterminated;
+    }
+
+    /**
+     * Checks if the given token is quoted.
+     *
+     * @param token The index of the token.
+     * @return True if the token is quoted, false otherwise.
+     */
+    public boolean isQuoted(int token) {
+        return (this.tokens[offset(token) + 3] & QUOTED) != 0;
+    }
+
+    /**
+     * Checks if the given token is an assignment of the form {@code key=value}.
+     *
+     * @param token The index of the token.
+     * @return True if the token is an assignment, false otherwise.
+     */
+    public boolean isAssignment(int token) {
+        return this.tokens[offset(token) + 2] != -1;
+    }
+
+    /**
+     * Gets the offset in the line at which the content of the given token starts.
+     *
+     * @param token The index of the token.
+     * @return The offset at which the content of the token starts.
+     */
+    public int start(int token) {
+        int offset = offset(token);
+        int start = this.tokens[offset];
+
+        return ((this.tokens[offset + 3] & QUOTED) != 0) ? start + 1 : start;
+    }
+
+    /**
+     * Gets the offset in the line at which the content of the given token ends, exclusive.
+     *
+     * @param token The index of the token.
+     * @return The offset at which the content of the token ends.
+     */
+    public int end(int token) {
+        int offset = offset(token);
+        int start = this.tokens[offset];
+        int end = this.tokens[offset + 1];
+        int flags = this.tokens[offset + 3];
+
+        if ((flags & QUOTED) != 0)
+            return closed(this.line, start, end) ? end - 1 : end;
+        if ((flags & QUOTED_VALUE) != 0)
+            return closed(this.line, this.tokens[offset + 2] + 1, end) ? end - 1 : end;
+        return end;
+    }
+
+    /**
+     * Gets the offset in the line of the separator of the given assignment.
+     *
+     * @param token The index of the token.
+     * @return The offset of the separator, or -1 if the token is not an assignment.
+     */
+    public int separator(int token) {
+        return this.tokens[offset(token) + 2];
+    }
+
+    /**
+     * Gets the offset in the line at which the value of the given assignment starts.
+     *
+     * @param token The index of the token.
+     * @return The offset at which the value of the assignment starts.
+     */
+    public int valueStart(int token) {
+        int offset = offset(token);
+        int separator = this.tokens[offset + 2];
+        if (separator == -1)
+            throw new IllegalArgumentException("Token %d is not an assignment".formatted(token));
+
+        return ((this.tokens[offset + 3] & QUOTED_VALUE) != 0) ? separator + 2 : separator + 1;
+    }
+
+    /**
+     * Gets the content of the given token. For quoted tokens, the quotes are omitted.
+     *
+     * @param token The index of the token.
+     * @return The content of the token.
+     */
+    public @NotNull String text(int token) {
+        return this.line.substring(start(token), end(token));
+    }
+
+    /**
+     * Gets the given token as it appears in the line, including its quotes.
+     *
+     * @param token The index of the token.
+     * @return The token as it appears in the line.
+     */
+    public @NotNull String raw(int token) {
+        int offset = offset(token);
+
+        return this.line.substring(this.tokens[offset], this.tokens[offset + 1]);
+    }
+
+    /**
+     * Gets the value of the given assignment as it appears in the line, including its quotes.
+     *
+     * @param token The index of the token.
+     * @return The value of the assignment as it appears in the line.
+     */
+    public @NotNull String rawValue(int token) {
+        int offset = offset(token);
+        int separator = this.tokens[offset + 2];
+        if (separator == -1)
+            throw new IllegalArgumentException("Token %d is not an assignment".formatted(token));
+
+        return this.line.substring(separator + 1, this.tokens[offset + 1]);
+    }
+
+    /**
+     * Gets the key of the given assignment.
+     *
+     * @param token The index of the token.
+     * @return The key of the assignment.
+     */
+    public @NotNull String key(int token) {
+        int separator = separator(token);
+        if (separator == -1)
+            throw new IllegalArgumentException("Token %d is not an assignment".formatted(token));
+
+        return this.line.substring(start(token), separator);
+    }
+
+    /**
+     * Gets the value of the given assignment. If the value is quoted, the quotes are omitted.
+     *
+     * @param token The index of the token.
+     * @return The value of the assignment.
+     */
+    public @NotNull String value(int token) {
+        return this.line.substring(valueStart(token), end(token));
+    }
+
+    /**
+     * Gets the part of the line that contains the first given amount of tokens.
+     *
+     * @param count The amount of tokens.
+     * @return The part of the line that contains the tokens.
+     */
+    public @NotNull String prefix(int count) {
+        if (count == 0)
+            return "";
+        return this.line.substring(this.tokens[offset(0)], this.tokens[offset(count - 1) + 1]);
+    }
+
+    /**
+     * Gets the content of all tokens, starting from the given token. Assignments are
+     * returned as a whole.
+     *
+     * @param from The index of the first token.
+     * @return The content of the tokens.
+     */
+    public @NotNull String[] texts(int from) {
+        if (from < 0 || from > this.size)
+            throw new IndexOutOfBoundsException("Token index %d out of bounds for %d tokens".formatted(from, this.size));
+
+        String[] texts = new String[this.size - from];
+        for (int i = 0; i < texts.length; i++) {
+            int token = from + i;
+            int offset = offset(token);
+
+            //  Assignments are kept as a whole, only omitting the quotes around their value
+            if ((this.tokens[offset + 3] & QUOTED_VALUE) != 0)
+                texts[i] = key(token) + "=" + value(token);
+            else if (isAssignment(token))
+                texts[i] = raw(token);
+            else
+                texts[i] = text(token);
+        }
+
+        return texts;
+    }
+
+}
@@ -15,6 +15,7 @@ import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
@@ -168,6 +169,15 @@ public abstract class DelegateCommandBuilder implements ICommandBuilder {
         return null;
     }
 
+    /**
+     * Gets an unmodifiable view of all attributes in the chain, in the order they were added.
+     *
+     * @return The attributes in the chain.
+     */
+    public @NotNull List<CommandAttribute> getAttributes() {
+        return Collections.unmodifiableList(attributes);
+    }
+
     /**
      * Gets the size of the chain.
      *
@@ -0,0 +1,320 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command;
+
+import com.github.polyrocketmatt.delegate.api.Bufferable;
+import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
+import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
+import com.github.polyrocketmatt.delegate.api.command.argument.ArgumentSlots;
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
+import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import com.github.polyrocketmatt.delegate.api.command.trigger.CommandTrigger;
+import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.RulePipeline;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCheck;
+import com.github.polyrocketmatt.delegate.core.command.properties.AsyncProperty;
+import com.github.polyrocketmatt.delegate.core.command.properties.CatchExceptionProperty;
+import com.github.polyrocketmatt.delegate.core.command.properties.IgnoreNonPresentProperty;
+import com.github.polyrocketmatt.delegate.core.command.properties.IgnoreNullProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Immutable, precompiled representation of a {@link VerifiedDelegateCommand} that is used
+ * when dispatching the command. All properties are resolved into flags, actions are grouped
+ * by precedence and all other buffers are flattened into arrays, such that dispatching a
+ * command doesn't require any streaming, sorting or type checking.
+ * <p>
+ * The arrays returned by this class are shared and must not be modified.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class DispatchPlan {
+
+    public static final int ASYNC = 1;
+    public static final int CATCH_EXCEPTIONS = 1 << 1;
+    public static final int IGNORE_NULL = 1 << 2;
+    public static final int IGNORE_NON_PRESENT = 1 << 3;
+    public static final int VIRTUAL = 1 << 4;
+
+    private final int flags;
+    private final CommandArgument<?>[] arguments;
+    private final ArgumentSlots argumentSlots;
+    private final RulePipeline[] rulePipelines;
+    private final CommandAction[][] actionGroups;
+    private final int actionCount;
+    private final PermissionTier[] permissionTiers;
+    private final PermissionCheck[] permissionChecks;
+    private final CommandTrigger[] triggers;
+    private final ExceptAction[] exceptActions;
+
+    private DispatchPlan(int flags,
+                         CommandArgument<?>[] arguments,
+                         ArgumentSlots argumentSlots,
+                         RulePipeline[] rulePipelines,
+                         CommandAction[][] actionGroups,
+                         int actionCount,
+                         PermissionTier[] permissionTiers,
+                         PermissionCheck[] permissionChecks,
+                         CommandTrigger[] triggers,
+                         ExceptAction[] exceptActions) {
+        this.flags = flags;
+        this.arguments = arguments;
+        this.argumentSlots = argumentSlots;
+        this.rulePipelines = rulePipelines;
+        this.actionGroups = actionGroups;
+        this.actionCount = actionCount;
+        this.permissionTiers = permissionTiers;
+        this.permissionChecks = permissionChecks;
+        this.triggers = triggers;
+        this.exceptActions = exceptActions;
+    }
+
+    /**
+     * Compiles the buffers of the given {@link VerifiedDelegateCommand} into a {@link DispatchPlan}.
+     *
+     * @param command The command to compile.
+     * @return The compiled {@link DispatchPlan}.
+     */
+    public static @NotNull DispatchPlan compile(@NotNull VerifiedDelegateCommand command) {
+        validate("command", VerifiedDelegateCommand.class, command);
+
+        //  Resolve all properties into flags
+        int flags = 0;
+        if (command.getPropertyBuffer() != null)
+            for (CommandProperty property : command.getPropertyBuffer()) {
+                if (property instanceof AsyncProperty async)
+                    flags |= (async.getMode() == ExecutionMode.VIRTUAL) ? ASYNC | VIRTUAL : ASYNC;
+                else if (property instanceof CatchExceptionProperty)
+                    flags |= CATCH_EXCEPTIONS;
+                else if (property instanceof IgnoreNullProperty)
+                    flags |= IGNORE_NULL;
+                else if (property instanceof IgnoreNonPresentProperty)
+                    flags |= IGNORE_NON_PRESENT;
+            }
+
+        //  Assign every argument a slot, the first argument with an identifier wins, and compile its rules
+        CommandArgument<?>[] arguments = toArray(command.getArgumentBuffer(), CommandArgument<?>[]::new);
+        String[] identifiers = new String[arguments.length];
+        RulePipeline[] rulePipelines = new RulePipeline[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            identifiers[i] = arguments[i].getIdentifier();
+            rulePipelines[i] = RulePipeline.compile(arguments[i].getArgumentRules());
+        }
+
+        //  Group actions by ascending precedence, preserving the order in which they were added
+        TreeMap<Integer, List<CommandAction>> groups = new TreeMap<>();
+        int actionCount = 0;
+        if (command.getActionBuffer() != null)
+            for (CommandAction action : command.getActionBuffer()) {
+                groups.computeIfAbsent(action.getPrecedence(), precedence -> new ArrayList<>()).add(action);
+                actionCount++;
+            }
+
+        CommandAction[][] actionGroups = new CommandAction[groups.size()][];
+        int index = 0;
+        for (List<CommandAction> group : groups.values())
+            actionGroups[index++] = group.toArray(CommandAction[]::new);
+
+        //  Permission tiers are flattened, such that their parents are not walked on dispatch
+        PermissionTier[] permissionTiers = toArray(command.getPermissionBuffer(), PermissionTier[]::new);
+        PermissionCheck[] permissionChecks = new PermissionCheck[permissionTiers.length];
+        for (int i = 0; i < permissionTiers.length; i++)
+            permissionChecks[i] = PermissionCheck.compile(permissionTiers[i]);
+
+        return new DispatchPlan(
+                flags,
+                arguments,
+                ArgumentSlots.of(identifiers),
+                rulePipelines,
+                actionGroups,
+                actionCount,
+                permissionTiers,
+                permissionChecks,
+                toArray(command.getTriggerBuffer(), CommandTrigger[]::new),
+                toArray(command.getExceptBuffer(), ExceptAction[]::new)
+        );
+    }
+
+    private static <T extends Bufferable> T[] toArray(CommandBuffer<T> buffer, IntFunction<T[]> generator) {
+        return (buffer == null) ? generator.apply(0) : buffer.bufferElements().toArray(generator);
+    }
+
+    /**
+     * Checks if the given flag is set for this plan.
+     *
+     * @param flag The flag to check.
+     * @return True if the flag is set, false otherwise.
+     */
+    public boolean hasFlag(int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    /**
+     * Checks if the actions of the command are executed asynchronously.
+     *
+     * @return True if the actions are executed asynchronously, false otherwise.
+     */
+    public boolean isAsync() {
+        return hasFlag(ASYNC);
+    }
+
+    /**
+     * Gets the {@link ExecutionMode} in which asynchronous actions are executed.
+     *
+     * @return The mode in which asynchronous actions are executed.
+     */
+    public @NotNull ExecutionMode getExecutionMode() {
+        return hasFlag(VIRTUAL) ? ExecutionMode.VIRTUAL : ExecutionMode.POOLED;
+    }
+
+    /**
+     * Checks if exceptions that occur during execution are caught.
+     *
+     * @return True if exceptions are caught, false otherwise.
+     */
+    public boolean isCatchingExceptions() {
+        return hasFlag(CATCH_EXCEPTIONS);
+    }
+
+    /**
+     * Checks if null arguments are ignored.
+     *
+     * @return True if null arguments are ignored, false otherwise.
+     */
+    public boolean isIgnoringNull() {
+        return hasFlag(IGNORE_NULL);
+    }
+
+    /**
+     * Checks if non-present arguments are ignored.
+     *
+     * @return True if non-present arguments are ignored, false otherwise.
+     */
+    public boolean isIgnoringNonPresent() {
+        return hasFlag(IGNORE_NON_PRESENT);
+    }
+
+    /**
+     * Gets the arguments of the command, in the order in which they were defined.
+     *
+     * @return The arguments of the command.
+     */
+    public CommandArgument<?>[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Gets the compiled rules of the arguments of the command, in the order of the arguments.
+     *
+     * @return The compiled rules of the arguments of the command.
+     */
+    public RulePipeline[] getRulePipelines() {
+        return rulePipelines;
+    }
+
+    /**
+     * Gets the index of the argument with the given identifier.
+     *
+     * @param identifier The identifier of the argument.
+     * @return The index of the argument, or -1 if there is no argument with the given identifier.
+     */
+    public int indexOf(@NotNull String identifier) {
+        return this.argumentSlots.indexOf(identifier);
+    }
+
+    /**
+     * Gets the slots that were assigned to the arguments of the command.
+     *
+     * @return The slots of the arguments of the command.
+     */
+    public @NotNull ArgumentSlots getArgumentSlots() {
+        return argumentSlots;
+    }
+
+    /**
+     * Gets the index of the argument of which the identifier equals the given region of the
+     * source, without copying the region.
+     *
+     * @param source The source that contains the identifier.
+     * @param start The offset at which the identifier starts.
+     * @param end The offset at which the identifier ends, exclusive.
+     * @return The index of the argument, or -1 if there is no argument with the given identifier.
+     */
+    public int indexOf(@NotNull String source, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < this.arguments.length; i++) {
+            String identifier = this.arguments[i].getIdentifier();
+
+            if (identifier.length() == length && source.regionMatches(start, identifier, 0, length))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the actions of the command, grouped by ascending precedence.
+     *
+     * @return The actions of the command, grouped by ascending precedence.
+     */
+    public CommandAction[][] getActionGroups() {
+        return actionGroups;
+    }
+
+    /**
+     * Gets the total amount of actions of the command.
+     *
+     * @return The total amount of actions of the command.
+     */
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    /**
+     * Gets the permission tiers of the command.
+     *
+     * @return The permission tiers of the command.
+     */
+    public PermissionTier[] getPermissionTiers() {
+        return permissionTiers;
+    }
+
+    /**
+     * Gets the flattened permission tiers of the command, in the same order as the tiers.
+     *
+     * @return The permission checks of the command.
+     */
+    public PermissionCheck[] getPermissionChecks() {
+        return permissionChecks;
+    }
+
+    /**
+     * Gets the triggers of the command.
+     *
+     * @return The triggers of the command.
+     */
+    public CommandTrigger[] getTriggers() {
+        return triggers;
+    }
+
+    /**
+     * Gets the except actions of the command.
+     *
+     * @return The except actions of the command.
+     */
+    public ExceptAction[] getExceptActions() {
+        return exceptActions;
+    }
+
+}
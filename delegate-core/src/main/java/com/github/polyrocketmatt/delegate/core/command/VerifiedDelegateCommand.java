@@ -39,6 +39,7 @@ public class VerifiedDelegateCommand extends DelegateCommand {
     private final CommandBuffer<CommandTrigger> triggerBuffer;
     private final CommandBuffer<PermissionTier> permissionBuffer;
     private final CommandBuffer<ExceptAction> exceptBuffer;
+    private final DispatchPlan dispatchPlan;
 
     protected VerifiedDelegateCommand(NameDefinition nameDefinition,
                                       DescriptionDefinition descriptionDefinition,
@@ -58,6 +59,7 @@ public class VerifiedDelegateCommand extends DelegateCommand {
         this.triggerBuffer = triggerBuffer;
         this.permissionBuffer = permissionBuffer;
         this.exceptBuffer = exceptBuffer;
+        this.dispatchPlan = DispatchPlan.compile(this);
     }
 
     @Override
@@ -127,6 +129,15 @@ public class VerifiedDelegateCommand extends DelegateCommand {
         return exceptBuffer;
     }
 
+    /**
+     * Gets the {@link DispatchPlan} that was compiled from the buffers of the command.
+     *
+     * @return The {@link DispatchPlan} of the command.
+     */
+    public DispatchPlan getDispatchPlan() {
+        return dispatchPlan;
+    }
+
     /**
      * Creates a new {@link VerifiedCommandBuilder} that is used to create a new {@link VerifiedDelegateCommand}.
      *
@@ -142,18 +142,21 @@ public class ConsumerAction extends CommandAction {
     public @NotNull ActionItem<?> run(@NotNull CommanderEntity commander, @NotNull List<Argument<?>> arguments) {
         validate("commander", CommanderEntity.class, commander);
         validate("arguments", List.class, arguments);
-        for (Argument<?> argument : arguments)
-            validate("argument", Argument.class, argument);
+
+        //  A context has already validated its arguments when it was created
+        if (!(arguments instanceof Context))
+            for (Argument<?> argument : arguments)
+                validate("argument", Argument.class, argument);
 
         try {
-            action.accept(commander, new Context(arguments));
+            action.accept(commander, Context.of(arguments));
         } catch (Exception ex) {
             if (DelegateCore.getDelegateAPI().isVerbose())
                 ex.printStackTrace();
             return new FailureActionResult(ex);
         }
 
-        return new SuccessActionResult();
+        return SuccessActionResult.INSTANCE;
     }
 
 }
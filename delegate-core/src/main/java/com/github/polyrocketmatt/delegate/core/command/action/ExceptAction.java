@@ -7,11 +7,14 @@ import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.Bufferable;
 import com.github.polyrocketmatt.delegate.api.TriConsumer;
 import com.github.polyrocketmatt.delegate.api.command.CommandAttribute;
+import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -56,6 +59,30 @@ public class ExceptAction extends CommandAttribute implements Bufferable {
         for (String argument : arguments)
             validate("argument", String.class, argument);
 
+        accept(commander, type, arguments);
+    }
+
+    /**
+     * Runs the action for the given dispatch information and feedback type. The arguments
+     * consist of the command, followed by the arguments of the information. As the
+     * information already validated its contents, they are not validated again.
+     *
+     * @param information The information of the command that was dispatched.
+     * @param type The feedback type.
+     */
+    public void run(@NotNull CommandDispatchInformation information, @NotNull FeedbackType type) {
+        validate("information", CommandDispatchInformation.class, information);
+        validate("type", FeedbackType.class, type);
+
+        String[] args = information.arguments();
+        List<String> arguments = new ArrayList<>(args.length + 1);
+        arguments.add(information.command());
+        Collections.addAll(arguments, args);
+
+        accept(information.commander(), type, arguments);
+    }
+
+    private void accept(CommanderEntity commander, FeedbackType type, List<String> arguments) {
         try {
             action.accept(commander, type, arguments);
         } catch (Exception ex) {
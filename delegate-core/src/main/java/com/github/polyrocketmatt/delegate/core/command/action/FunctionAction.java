@@ -138,11 +138,14 @@ public class FunctionAction extends CommandAction {
     public @NotNull ActionItem<?> run(@NotNull CommanderEntity commander, @NotNull List<Argument<?>> arguments) {
         validate("commander", CommanderEntity.class, commander);
         validate("arguments", List.class, arguments);
-        for (Argument<?> argument : arguments)
-            validate("argument", Argument.class, argument);
+
+        //  A context has already validated its arguments when it was created
+        if (!(arguments instanceof Context))
+            for (Argument<?> argument : arguments)
+                validate("argument", Argument.class, argument);
 
         try {
-            return new ActionItem<>(ActionItem.Result.SUCCESS, action.apply(commander, new Context(arguments)));
+            return new ActionItem<>(ActionItem.Result.SUCCESS, action.apply(commander, Context.of(arguments)));
         } catch (Exception ex) {
             if (getDelegate().isVerbose())
                 ex.printStackTrace();
@@ -5,6 +5,7 @@ package com.github.polyrocketmatt.delegate.core.command.action;
 
 import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.argument.Context;
 import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
 import com.github.polyrocketmatt.delegate.api.command.data.FailureActionResult;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
@@ -137,8 +138,11 @@ public class SupplierAction<T> extends CommandAction {
     public @NotNull ActionItem<?> run(@NotNull CommanderEntity commander, @NotNull List<Argument<?>> arguments) {
         validate("commander", CommanderEntity.class, commander);
         validate("arguments", List.class, arguments);
-        for (Argument<?> argument : arguments)
-            validate("argument", Argument.class, argument);
+
+        //  A context has already validated its arguments when it was created
+        if (!(arguments instanceof Context))
+            for (Argument<?> argument : arguments)
+                validate("argument", Argument.class, argument);
 
         try {
             return new ActionItem<>(ActionItem.Result.SUCCESS, action.get());
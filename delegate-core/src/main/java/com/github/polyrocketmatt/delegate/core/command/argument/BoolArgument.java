@@ -3,6 +3,7 @@ package com.github.polyrocketmatt.delegate.core.command.argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
@@ -21,6 +22,8 @@ import java.util.List;
  */
 public class BoolArgument extends CommandArgument<Boolean> {
 
+    private static final SuggestionProvider SUGGESTIONS = SuggestionProvider.of("false", "true");
+
     /**
      * Creates a new {@link BoolArgument} with an identifier, a description, a default value and a
      * list of {@link ArgumentRule}s.
@@ -33,23 +36,24 @@ public class BoolArgument extends CommandArgument<Boolean> {
      */
     private BoolArgument(String identifier, String argumentDescription, Boolean defaultValue, boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription, Boolean.class, new Argument<>(identifier, defaultValue), isOptional, rules);
+        withSuggestions(SUGGESTIONS);
     }
 
     @Override
     public @NotNull Argument<Boolean> parse(@Nullable String input) {
         if (input == null) {
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
             return getDefault();
         }
 
         try {
             if (!input.equalsIgnoreCase("true") && !input.equalsIgnoreCase("false"))
-                throw new ArgumentParseException("", Boolean.class);
+                throw ArgumentParseException.invalidInput("", Boolean.class);
             return new Argument<>(getIdentifier(), Boolean.parseBoolean(input));
         } catch (ArgumentParseException ex) {
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
             return getDefault();
         }
     }
@@ -63,7 +67,7 @@ public class BoolArgument extends CommandArgument<Boolean> {
             reader.setCursor(start);
 
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a boolean", Boolean.class);
             return getDefault().output();
         }
     }
@@ -6,7 +6,6 @@ import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,33 +36,27 @@ public class DoubleArgument extends CommandArgument<Double> {
 
     @Override
     public @NotNull Argument<Double> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double", Double.class);
-            return getDefault();
-        }
-
-        try {
-            return new Argument<>(getIdentifier(), Double.parseDouble(input));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double", Double.class);
-            return getDefault();
-        }
+        NumberScanner scanner = new NumberScanner();
+        if (input != null && scanner.isDouble(input))
+            return new Argument<>(getIdentifier(), scanner.getDouble());
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a double", Double.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull Double parse(@NotNull StringReader reader) {
+        NumberScanner scanner = new NumberScanner();
         int start = reader.getCursor();
-        try {
-            return reader.readDouble();
-        } catch (CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedNumber(reader.peek()))
+            reader.skip();
+        if (scanner.scanDouble(reader.getString(), start, reader.getCursor()) == reader.getCursor())
+            return scanner.getDouble();
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double", Float.class);
-            return getDefault().output();
-        }
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a double", Double.class);
+        return getDefault().output();
     }
 
     /**
@@ -7,7 +7,6 @@ import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.range.DelegateDoubleRange;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,7 +14,7 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
- * Represents a {@link CommandArgument} that parses a long from the input.
+ * Represents a {@link CommandArgument} that parses a range of doubles from the input, like {@code -1.5-2.5}.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
@@ -38,53 +37,40 @@ public class DoubleRangeArgument extends CommandArgument<DelegateDoubleRange> {
 
     @Override
     public @NotNull Argument<DelegateDoubleRange> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateDoubleRange.class);
-            return getDefault();
-        }
-
-        try {
-            String[] bounds = input.split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateDoubleRange.class);
-                else
-                    return getDefault();
-
-            double min = Double.parseDouble(bounds[0]);
-            double max = Double.parseDouble(bounds[1]);
-
-            return new Argument<>(getIdentifier(), new DelegateDoubleRange(min, max));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateDoubleRange.class);
-            return getDefault();
-        }
+        DelegateDoubleRange range = (input == null) ? null : scan(input, 0, input.length());
+        if (range != null)
+            return new Argument<>(getIdentifier(), range);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a double range", DelegateDoubleRange.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull DelegateDoubleRange parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
-        try {
-            String[] bounds = reader.readString().split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateDoubleRange.class);
-                else
-                    return getDefault().output();
-
-            double min = Double.parseDouble(bounds[0]);
-            double max = Double.parseDouble(bounds[1]);
-
-            return new DelegateDoubleRange(min, max);
-        } catch (NumberFormatException | CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedInUnquotedString(reader.peek()))
+            reader.skip();
+        DelegateDoubleRange range = scan(reader.getString(), start, reader.getCursor());
+        if (range != null)
+            return range;
+
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a double range", DelegateDoubleRange.class);
+        return getDefault().output();
+    }
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateDoubleRange.class);
-            return getDefault().output();
-        }
+    private static @Nullable DelegateDoubleRange scan(String input, int from, int to) {
+        //  The bounds are separated by the first '-' after the lower bound, such that both bounds can be negative
+        NumberScanner scanner = new NumberScanner();
+        int separator = scanner.scanDouble(input, from, to);
+        if (separator == NumberScanner.FAILURE || separator >= to || input.charAt(separator) != '-')
+            return null;
+
+        double min = scanner.getDouble();
+        if (scanner.scanDouble(input, separator + 1, to) != to)
+            return null;
+        return new DelegateDoubleRange(min, scanner.getDouble());
     }
 
     /**
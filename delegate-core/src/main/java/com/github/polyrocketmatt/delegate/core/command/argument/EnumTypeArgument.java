@@ -3,6 +3,7 @@ package com.github.polyrocketmatt.delegate.core.command.argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
@@ -11,7 +12,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
 
 /**
  * Represents a {@link CommandArgument} that parses an enum type from the input.
@@ -21,7 +26,16 @@ import java.util.List;
  */
 public class EnumTypeArgument<T extends Enum<T>> extends CommandArgument<T>{
 
+    //  The constants of an enum never change, so their lookup table is built once per enum type
+    private static final ClassValue<Constants> CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Constants computeValue(Class<?> type) {
+            return new Constants(type.getEnumConstants());
+        }
+    };
+
     private final Class<T> classType;
+    private final Constants constants;
 
     /**
      * Creates a new {@link EnumTypeArgument} with an identifier, a description, a default value and a
@@ -36,6 +50,8 @@ public class EnumTypeArgument<T extends Enum<T>> extends CommandArgument<T>{
     private EnumTypeArgument(String identifier, String argumentDescription, T defaultValue, Class<T> classType, boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription, classType, new Argument<>(identifier, defaultValue), isOptional, rules);
         this.classType = classType;
+        this.constants = CONSTANTS.get(classType);
+        withSuggestions(this.constants.suggestions);
     }
 
     /**
@@ -49,44 +65,32 @@ public class EnumTypeArgument<T extends Enum<T>> extends CommandArgument<T>{
 
     @Override
     public @NotNull Argument<T> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be of enum type " + classType.getSimpleName(), classType);
-            return getDefault();
-        }
-
-        try {
-            T[] enumConstants = classType.getEnumConstants();
-
-            for (T enumConstant : enumConstants)
-                if (enumConstant.name().equalsIgnoreCase(input))
-                    return new Argument<>(getIdentifier(), enumConstant);
-            throw new ArgumentParseException("Enum constant not found", classType);
-        } catch (ArgumentParseException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be of enum type" + classType.getSimpleName(), classType);
-            return getDefault();
-        }
+        T constant = (input == null) ? null : find(input);
+        if (constant != null)
+            return new Argument<>(getIdentifier(), constant);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be of enum type " + classType.getSimpleName(), classType);
+        return getDefault();
     }
 
     @Override
     public @NotNull T parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
+        T constant = null;
         try {
-            String value = reader.readString();
-            T[] enumConstants = classType.getEnumConstants();
-
-            for (T enumConstant : enumConstants)
-                if (enumConstant.name().equalsIgnoreCase(value))
-                    return enumConstant;
-            throw new ArgumentParseException("Enum constant not found", classType);
-        } catch (CommandSyntaxException | ArgumentParseException ex) {
-            reader.setCursor(start);
-
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be of enum type" + classType.getSimpleName(), classType);
-            return getDefault().output();
-        }
+            constant = find(reader.readString());
+        } catch (CommandSyntaxException ignored) {}
+
+        if (constant != null)
+            return constant;
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be of enum type " + classType.getSimpleName(), classType);
+        return getDefault().output();
+    }
+
+    private @Nullable T find(String input) {
+        return classType.cast(constants.lookup.get(fold(input)));
     }
 
     /**
@@ -141,4 +145,25 @@ public class EnumTypeArgument<T extends Enum<T>> extends CommandArgument<T>{
         return new EnumTypeArgument<>(identifier, argumentDescription, defaultValue, classType, isOptional, List.of(rules));
     }
 
+    /**
+     * Immutable lookup table of the constants of an enum type, keyed by their case-folded
+     * name, together with the suggestions for those names.
+     */
+    private static final class Constants {
+
+        private final Map<String, Object> lookup;
+        private final SuggestionProvider suggestions;
+
+        private Constants(Object[] constants) {
+            //  The first constant wins if two names only differ in case, like a linear scan would
+            Map<String, Object> lookup = new HashMap<>(constants.length * 2);
+            for (Object constant : constants)
+                lookup.putIfAbsent(fold(((Enum<?>) constant).name()), constant);
+
+            this.lookup = Map.copyOf(lookup);
+            this.suggestions = SuggestionProvider.of(lookup.keySet().toArray(String[]::new));
+        }
+
+    }
+
 }
@@ -9,7 +9,6 @@ import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,33 +39,27 @@ public class FloatArgument extends CommandArgument<Float> {
 
     @Override
     public @NotNull Argument<Float> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a float", Float.class);
-            return getDefault();
-        }
-
-        try {
-            return new Argument<>(getIdentifier(), Float.parseFloat(input));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a float", Float.class);
-            return getDefault();
-        }
+        NumberScanner scanner = new NumberScanner();
+        if (input != null && scanner.isFloat(input))
+            return new Argument<>(getIdentifier(), scanner.getFloat());
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a float", Float.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull Float parse(@NotNull StringReader reader) {
+        NumberScanner scanner = new NumberScanner();
         int start = reader.getCursor();
-        try {
-            return reader.readFloat();
-        } catch (CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedNumber(reader.peek()))
+            reader.skip();
+        if (scanner.scanFloat(reader.getString(), start, reader.getCursor()) == reader.getCursor())
+            return scanner.getFloat();
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a float", Float.class);
-            return getDefault().output();
-        }
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a float", Float.class);
+        return getDefault().output();
     }
 
     /**
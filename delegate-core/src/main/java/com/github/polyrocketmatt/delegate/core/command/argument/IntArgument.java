@@ -9,7 +9,6 @@ import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,33 +39,27 @@ public class IntArgument extends CommandArgument<Integer> {
 
     @Override
     public @NotNull Argument<Integer> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer", Integer.class);
-            return getDefault();
-        }
-
-        try {
-            return new Argument<>(getIdentifier(), Integer.parseInt(input));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer", Integer.class);
-            return getDefault();
-        }
+        NumberScanner scanner = new NumberScanner();
+        if (input != null && scanner.isInt(input))
+            return new Argument<>(getIdentifier(), scanner.getInt());
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be an integer", Integer.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull Integer parse(@NotNull StringReader reader) throws ArgumentParseException {
+        NumberScanner scanner = new NumberScanner();
         int start = reader.getCursor();
-        try {
-            return reader.readInt();
-        } catch (CommandSyntaxException ex) {
-            reader.setCursor(start);
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer", Integer.class);
-            else
-                return getDefault().output();
-        }
+        while (reader.canRead() && StringReader.isAllowedNumber(reader.peek()))
+            reader.skip();
+        if (scanner.scanInt(reader.getString(), start, reader.getCursor()) == reader.getCursor())
+            return scanner.getInt();
+
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be an integer", Integer.class);
+        return getDefault().output();
     }
 
     /**
@@ -7,7 +7,6 @@ import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.range.DelegateIntRange;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,7 +14,7 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
- * Represents a {@link CommandArgument} that parses a long from the input.
+ * Represents a {@link CommandArgument} that parses a range of integers from the input, like {@code -5-10}.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
@@ -38,53 +37,40 @@ public class IntRangeArgument extends CommandArgument<DelegateIntRange> {
 
     @Override
     public @NotNull Argument<DelegateIntRange> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer range", DelegateIntRange.class);
-            return getDefault();
-        }
-
-        try {
-            String[] bounds = input.split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateIntRange.class);
-                else
-                    return getDefault();
-
-            int min = Integer.parseInt(bounds[0]);
-            int max = Integer.parseInt(bounds[1]);
-
-            return new Argument<>(getIdentifier(), new DelegateIntRange(min, max));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer range", DelegateIntRange.class);
-            return getDefault();
-        }
+        DelegateIntRange range = (input == null) ? null : scan(input, 0, input.length());
+        if (range != null)
+            return new Argument<>(getIdentifier(), range);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be an integer range", DelegateIntRange.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull DelegateIntRange parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
-        try {
-            String[] bounds = reader.readString().split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateIntRange.class);
-                else
-                    return getDefault().output();
-
-            int min = Integer.parseInt(bounds[0]);
-            int max = Integer.parseInt(bounds[1]);
-
-            return new DelegateIntRange(min, max);
-        } catch (NumberFormatException | CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedInUnquotedString(reader.peek()))
+            reader.skip();
+        DelegateIntRange range = scan(reader.getString(), start, reader.getCursor());
+        if (range != null)
+            return range;
+
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be an integer range", DelegateIntRange.class);
+        return getDefault().output();
+    }
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an integer range", DelegateIntRange.class);
-            return getDefault().output();
-        }
+    private static @Nullable DelegateIntRange scan(String input, int from, int to) {
+        //  The bounds are separated by the first '-' after the lower bound, such that both bounds can be negative
+        NumberScanner scanner = new NumberScanner();
+        int separator = scanner.scanInt(input, from, to);
+        if (separator == NumberScanner.FAILURE || separator >= to || input.charAt(separator) != '-')
+            return null;
+
+        int min = scanner.getInt();
+        if (scanner.scanInt(input, separator + 1, to) != to)
+            return null;
+        return new DelegateIntRange(min, scanner.getInt());
     }
 
     /**
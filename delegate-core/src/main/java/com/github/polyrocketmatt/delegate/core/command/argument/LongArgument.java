@@ -6,7 +6,6 @@ import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,33 +36,27 @@ public class LongArgument extends CommandArgument<Long> {
 
     @Override
     public @NotNull Argument<Long> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a long", Long.class);
-            return getDefault();
-        }
-
-        try {
-            return new Argument<>(getIdentifier(), Long.parseLong(input));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a long", Long.class);
-            return getDefault();
-        }
+        NumberScanner scanner = new NumberScanner();
+        if (input != null && scanner.isLong(input))
+            return new Argument<>(getIdentifier(), scanner.getLong());
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a long", Long.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull Long parse(@NotNull StringReader reader) {
+        NumberScanner scanner = new NumberScanner();
         int start = reader.getCursor();
-        try {
-            return reader.readLong();
-        } catch (CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedNumber(reader.peek()))
+            reader.skip();
+        if (scanner.scanLong(reader.getString(), start, reader.getCursor()) == reader.getCursor())
+            return scanner.getLong();
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a long", Long.class);
-            return getDefault().output();
-        }
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a long", Long.class);
+        return getDefault().output();
     }
 
     /**
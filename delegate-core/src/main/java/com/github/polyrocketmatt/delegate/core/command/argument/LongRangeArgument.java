@@ -7,7 +7,6 @@ import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.range.DelegateLongRange;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -15,7 +14,7 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
- * Represents a {@link CommandArgument} that parses a long from the input.
+ * Represents a {@link CommandArgument} that parses a range of longs from the input, like {@code -5-10}.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
@@ -38,53 +37,40 @@ public class LongRangeArgument extends CommandArgument<DelegateLongRange> {
 
     @Override
     public @NotNull Argument<DelegateLongRange> parse(@Nullable String input) {
-        if (input == null) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateLongRange.class);
-            return getDefault();
-        }
-
-        try {
-            String[] bounds = input.split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateLongRange.class);
-                else
-                    return getDefault();
-
-            long min = Long.parseLong(bounds[0]);
-            long max = Long.parseLong(bounds[1]);
-
-            return new Argument<>(getIdentifier(), new DelegateLongRange(min, max));
-        } catch (NumberFormatException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateLongRange.class);
-            return getDefault();
-        }
+        DelegateLongRange range = (input == null) ? null : scan(input, 0, input.length());
+        if (range != null)
+            return new Argument<>(getIdentifier(), range);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a long range", DelegateLongRange.class);
+        return getDefault();
     }
 
     @Override
     public @NotNull DelegateLongRange parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
-        try {
-            String[] bounds = reader.readString().split("-");
-            if (bounds.length != 2)
-                if (getDefault().output() == null)
-                    throw new ArgumentParseException("Expected integer range to contain only 2 bounds (min, max)", DelegateLongRange.class);
-                else
-                    return getDefault().output();
-
-            long min = Long.parseLong(bounds[0]);
-            long max = Long.parseLong(bounds[1]);
-
-            return new DelegateLongRange(min, max);
-        } catch (NumberFormatException | CommandSyntaxException ex) {
-            reader.setCursor(start);
+        while (reader.canRead() && StringReader.isAllowedInUnquotedString(reader.peek()))
+            reader.skip();
+        DelegateLongRange range = scan(reader.getString(), start, reader.getCursor());
+        if (range != null)
+            return range;
+
+        reader.setCursor(start);
+        if (getDefault().output() == null)
+            throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a long range", DelegateLongRange.class);
+        return getDefault().output();
+    }
 
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a double range", DelegateLongRange.class);
-            return getDefault().output();
-        }
+    private static @Nullable DelegateLongRange scan(String input, int from, int to) {
+        //  The bounds are separated by the first '-' after the lower bound, such that both bounds can be negative
+        NumberScanner scanner = new NumberScanner();
+        int separator = scanner.scanLong(input, from, to);
+        if (separator == NumberScanner.FAILURE || separator >= to || input.charAt(separator) != '-')
+            return null;
+
+        long min = scanner.getLong();
+        if (scanner.scanLong(input, separator + 1, to) != to)
+            return null;
+        return new DelegateLongRange(min, scanner.getLong());
     }
 
     /**
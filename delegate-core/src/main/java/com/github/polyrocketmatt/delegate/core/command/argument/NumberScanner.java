@@ -0,0 +1,299 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.argument;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scanner for the numbers of the numeric arguments. Instead of throwing on invalid input,
+ * every scan returns the index at which the number ends, or {@link #FAILURE} if no number
+ * starts at the given index, such that invalid input costs about as much as valid input.
+ * The value of the last successful scan can be read through the getters of the scanner.
+ * <p>
+ * Integers consist of an optional sign followed by decimal digits. Decimals additionally
+ * accept a fraction, an exponent and a trailing type suffix, like {@code -1.5e3f}. Scans
+ * do not allocate, except for decimals that cannot be converted exactly by the fast path.
+ * <p>
+ * A scanner is not thread-safe and is meant to be created for a single parse.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class NumberScanner {
+
+    /**
+     * Returned by a scan if no valid number starts at the given index.
+     */
+    public static final int FAILURE = -1;
+
+    //  Integers below 2^53 and powers of ten up to 10^22 are exact doubles, so their quotient is correctly rounded
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+    private static final int MAX_DOUBLE_POWER = 22;
+    private static final int MAX_FLOAT_POWER = 10;
+    private static final int MAX_DIGITS = 18;
+
+    private static final double[] DOUBLE_POWERS = new double[MAX_DOUBLE_POWER + 1];
+    private static final float[] FLOAT_POWERS = new float[MAX_FLOAT_POWER + 1];
+
+    static {
+        DOUBLE_POWERS[0] = 1.0;
+        FLOAT_POWERS[0] = 1.0f;
+        for (int i = 1; i < DOUBLE_POWERS.length; i++)
+            DOUBLE_POWERS[i] = DOUBLE_POWERS[i - 1] * 10.0;
+        for (int i = 1; i < FLOAT_POWERS.length; i++)
+            FLOAT_POWERS[i] = FLOAT_POWERS[i - 1] * 10.0f;
+    }
+
+    private long integral;
+    private double decimal;
+
+    /**
+     * Checks if the given input is an int.
+     *
+     * @param input The input to check.
+     * @return True if the whole input is an int, false otherwise.
+     */
+    public boolean isInt(@NotNull CharSequence input) {
+        return scanInt(input, 0, input.length()) == input.length();
+    }
+
+    /**
+     * Checks if the given input is a long.
+     *
+     * @param input The input to check.
+     * @return True if the whole input is a long, false otherwise.
+     */
+    public boolean isLong(@NotNull CharSequence input) {
+        return scanLong(input, 0, input.length()) == input.length();
+    }
+
+    /**
+     * Checks if the given input is a float.
+     *
+     * @param input The input to check.
+     * @return True if the whole input is a float, false otherwise.
+     */
+    public boolean isFloat(@NotNull CharSequence input) {
+        return scanFloat(input, 0, input.length()) == input.length();
+    }
+
+    /**
+     * Checks if the given input is a double.
+     *
+     * @param input The input to check.
+     * @return True if the whole input is a double, false otherwise.
+     */
+    public boolean isDouble(@NotNull CharSequence input) {
+        return scanDouble(input, 0, input.length()) == input.length();
+    }
+
+    /**
+     * Scans the int that starts at the given index.
+     *
+     * @param input The input to scan.
+     * @param from The index at which the int starts.
+     * @param to The index up to which the input is scanned.
+     * @return The index after the int, or {@link #FAILURE} if there is no int or it overflows.
+     */
+    public int scanInt(@NotNull CharSequence input, int from, int to) {
+        return scanInteger(input, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Scans the long that starts at the given index.
+     *
+     * @param input The input to scan.
+     * @param from The index at which the long starts.
+     * @param to The index up to which the input is scanned.
+     * @return The index after the long, or {@link #FAILURE} if there is no long or it overflows.
+     */
+    public int scanLong(@NotNull CharSequence input, int from, int to) {
+        return scanInteger(input, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Scans the float that starts at the given index.
+     *
+     * @param input The input to scan.
+     * @param from The index at which the float starts.
+     * @param to The index up to which the input is scanned.
+     * @return The index after the float, or {@link #FAILURE} if there is no float.
+     */
+    public int scanFloat(@NotNull CharSequence input, int from, int to) {
+        return scanDecimal(input, from, to, true);
+    }
+
+    /**
+     * Scans the double that starts at the given index.
+     *
+     * @param input The input to scan.
+     * @param from The index at which the double starts.
+     * @param to The index up to which the input is scanned.
+     * @return The index after the double, or {@link #FAILURE} if there is no double.
+     */
+    public int scanDouble(@NotNull CharSequence input, int from, int to) {
+        return scanDecimal(input, from, to, false);
+    }
+
+    private int scanInteger(CharSequence input, int from, int to, long min, long max) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (input.charAt(index) == '-' || input.charAt(index) == '+'))
+            negative = input.charAt(index++) == '-';
+
+        //  Accumulating negatively covers the minimum value, which has no positive counterpart
+        long limit = negative ? min : -max;
+        long bound = limit / 10;
+        long result = 0;
+        int start = index;
+        for (; index < to && isDigit(input.charAt(index)); index++) {
+            int digit = input.charAt(index) - '0';
+            if (result < bound)
+                return FAILURE;
+            result *= 10;
+            if (result < limit + digit)
+                return FAILURE;
+            result -= digit;
+        }
+
+        if (index == start)
+            return FAILURE;
+
+        this.integral = negative ? result : -result;
+        return index;
+    }
+
+    private int scanDecimal(CharSequence input, int from, int to, boolean single) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (input.charAt(index) == '-' || input.charAt(index) == '+'))
+            negative = input.charAt(index++) == '-';
+
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+
+        //  Digits beyond the precision of the mantissa only shift the exponent
+        for (; index < to && isDigit(input.charAt(index)); index++, digits++) {
+            int digit = input.charAt(index) - '0';
+            if (significant < MAX_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0)
+                    significant++;
+            } else {
+                exponent++;
+                exact &= digit == 0;
+            }
+        }
+
+        if (index < to && input.charAt(index) == '.') {
+            index++;
+            for (; index < to && isDigit(input.charAt(index)); index++, digits++) {
+                int digit = input.charAt(index) - '0';
+                if (significant < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    exponent--;
+                    if (mantissa != 0)
+                        significant++;
+                } else
+                    exact &= digit == 0;
+            }
+        }
+
+        if (digits == 0)
+            return FAILURE;
+
+        //  An exponent marker that is not followed by digits is not part of the number
+        if (index < to && (input.charAt(index) == 'e' || input.charAt(index) == 'E')) {
+            int marker = index++;
+            boolean negativeExponent = false;
+            if (index < to && (input.charAt(index) == '-' || input.charAt(index) == '+'))
+                negativeExponent = input.charAt(index++) == '-';
+
+            int start = index;
+            int value = 0;
+            for (; index < to && isDigit(input.charAt(index)); index++)
+                value = Math.min(value * 10 + (input.charAt(index) - '0'), 100_000);
+
+            if (index == start)
+                index = marker;
+            else
+                exponent += negativeExponent ? -value : value;
+        }
+
+        int end = index;
+        if (index < to && isSuffix(input.charAt(index)))
+            index++;
+
+        if (single)
+            this.decimal = toFloat(input, from, end, mantissa, exponent, exact, negative);
+        else
+            this.decimal = toDouble(input, from, end, mantissa, exponent, exact, negative);
+        return index;
+    }
+
+    private static double toDouble(CharSequence input, int from, int to, long mantissa, int exponent, boolean exact, boolean negative) {
+        if (!exact || mantissa >= MAX_EXACT_DOUBLE || Math.abs(exponent) > MAX_DOUBLE_POWER)
+            return Double.parseDouble(input.subSequence(from, to).toString());
+
+        double value = (exponent < 0) ? mantissa / DOUBLE_POWERS[-exponent] : mantissa * DOUBLE_POWERS[exponent];
+        return negative ? -value : value;
+    }
+
+    private static float toFloat(CharSequence input, int from, int to, long mantissa, int exponent, boolean exact, boolean negative) {
+        if (!exact || mantissa >= MAX_EXACT_FLOAT || Math.abs(exponent) > MAX_FLOAT_POWER)
+            return Float.parseFloat(input.subSequence(from, to).toString());
+
+        float value = (exponent < 0) ? mantissa / FLOAT_POWERS[-exponent] : mantissa * FLOAT_POWERS[exponent];
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSuffix(char c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    /**
+     * Gets the int of the last successful scan.
+     *
+     * @return The int that was scanned.
+     */
+    public int getInt() {
+        return (int) this.integral;
+    }
+
+    /**
+     * Gets the long of the last successful scan.
+     *
+     * @return The long that was scanned.
+     */
+    public long getLong() {
+        return this.integral;
+    }
+
+    /**
+     * Gets the float of the last successful scan.
+     *
+     * @return The float that was scanned.
+     */
+    public float getFloat() {
+        return (float) this.decimal;
+    }
+
+    /**
+     * Gets the double of the last successful scan.
+     *
+     * @return The double that was scanned.
+     */
+    public double getDouble() {
+        return this.decimal;
+    }
+
+}
@@ -54,7 +54,7 @@ public class StringArgument extends CommandArgument<String> {
                 return new Argument<>(getIdentifier(), input.split(" ")[0]);
         } else
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a string", String.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a string", String.class);
             return getDefault();
     }
 
@@ -79,7 +79,7 @@ public class StringArgument extends CommandArgument<String> {
                 return reader.readString();
         } catch (Exception ex) {
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a string", String.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a string", String.class);
             else
                 return getDefault().output();
         }
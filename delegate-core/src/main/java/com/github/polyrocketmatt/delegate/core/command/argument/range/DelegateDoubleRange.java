@@ -2,13 +2,51 @@ package com.github.polyrocketmatt.delegate.core.command.argument.range;
 
 public class DelegateDoubleRange extends DelegateRange<Double> {
 
-    public DelegateDoubleRange(Double min, Double max) {
-        super(min, max);
+    private final double min;
+    private final double max;
+
+    public DelegateDoubleRange(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    @Override
+    public Double getMin() {
+        return min;
+    }
+
+    @Override
+    public Double getMax() {
+        return max;
+    }
+
+    public boolean contains(double value) {
+        return value >= min && value <= max;
     }
 
     @Override
     public boolean contains(Double value) {
-        return value >= getMin() && value <= getMax();
+        return contains(value.doubleValue());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DelegateDoubleRange range)
+            return Double.compare(range.min, min) == 0 && Double.compare(range.max, max) == 0;
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(min) + Double.hashCode(max);
     }
 
 }
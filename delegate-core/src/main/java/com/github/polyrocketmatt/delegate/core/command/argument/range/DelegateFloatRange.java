@@ -2,13 +2,51 @@ package com.github.polyrocketmatt.delegate.core.command.argument.range;
 
 public class DelegateFloatRange extends DelegateRange<Float> {
 
+    private final float min;
+    private final float max;
+
     public DelegateFloatRange(float min, float max) {
-        super(min, max);
+        this.min = min;
+        this.max = max;
+    }
+
+    public float min() {
+        return min;
+    }
+
+    public float max() {
+        return max;
+    }
+
+    @Override
+    public Float getMin() {
+        return min;
+    }
+
+    @Override
+    public Float getMax() {
+        return max;
+    }
+
+    public boolean contains(float value) {
+        return value >= min && value <= max;
     }
 
     @Override
     public boolean contains(Float value) {
-        return value >= getMin() && value <= getMax();
+        return contains(value.floatValue());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DelegateFloatRange range)
+            return Float.compare(range.min, min) == 0 && Float.compare(range.max, max) == 0;
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Float.hashCode(min) + Float.hashCode(max);
     }
 
 }
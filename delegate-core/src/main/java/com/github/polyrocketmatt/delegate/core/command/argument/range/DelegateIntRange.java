@@ -2,13 +2,51 @@ package com.github.polyrocketmatt.delegate.core.command.argument.range;
 
 public class DelegateIntRange extends DelegateRange<Integer> {
 
+    private final int min;
+    private final int max;
+
     public DelegateIntRange(int min, int max) {
-        super(min, max);
+        this.min = min;
+        this.max = max;
+    }
+
+    public int min() {
+        return min;
+    }
+
+    public int max() {
+        return max;
+    }
+
+    @Override
+    public Integer getMin() {
+        return min;
+    }
+
+    @Override
+    public Integer getMax() {
+        return max;
+    }
+
+    public boolean contains(int value) {
+        return value >= min && value <= max;
     }
 
     @Override
     public boolean contains(Integer value) {
-        return value >= getMin() && value <= getMax();
+        return contains(value.intValue());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DelegateIntRange range)
+            return range.min == min && range.max == max;
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(min) + Integer.hashCode(max);
     }
 
 }
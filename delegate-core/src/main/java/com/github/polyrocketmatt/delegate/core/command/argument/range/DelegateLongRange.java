@@ -2,13 +2,51 @@ package com.github.polyrocketmatt.delegate.core.command.argument.range;
 
 public class DelegateLongRange extends DelegateRange<Long> {
 
-    public DelegateLongRange(Long min, Long max) {
-        super(min, max);
+    private final long min;
+    private final long max;
+
+    public DelegateLongRange(long min, long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public long min() {
+        return min;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    @Override
+    public Long getMin() {
+        return min;
+    }
+
+    @Override
+    public Long getMax() {
+        return max;
+    }
+
+    public boolean contains(long value) {
+        return value >= min && value <= max;
     }
 
     @Override
     public boolean contains(Long value) {
-        return value >= getMin() && value <= getMax();
+        return contains(value.longValue());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DelegateLongRange range)
+            return range.min == min && range.max == max;
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(min) + Long.hashCode(max);
     }
 
 }
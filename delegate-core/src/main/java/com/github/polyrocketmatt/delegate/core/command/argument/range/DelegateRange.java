@@ -1,10 +1,38 @@
 package com.github.polyrocketmatt.delegate.core.command.argument.range;
 
+import java.util.Objects;
+
+/**
+ * Represents a range between two bounds, both of which are inclusive. The bounds are
+ * stored by the primitive-specialized subclasses, such that ranges do not box their
+ * bounds unless they are accessed through this class.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
 public abstract class DelegateRange<T> {
 
     private final T min;
     private final T max;
 
+    /**
+     * Creates a range whose bounds are stored by the subclass, which must override
+     * {@link #getMin()} and {@link #getMax()}.
+     */
+    protected DelegateRange() {
+        this.min = null;
+        this.max = null;
+    }
+
+    /**
+     * Creates a range that stores its boxed bounds in this class.
+     *
+     * @param min The inclusive lower bound.
+     * @param max The inclusive upper bound.
+     * @deprecated Store the bounds in the subclass instead and override {@link #getMin()}
+     * and {@link #getMax()}, as the primitive-specialized ranges do.
+     */
+    @Deprecated(since = "0.0.1")
     public DelegateRange(T min, T max) {
         this.min = min;
         this.max = max;
@@ -23,7 +51,18 @@ public abstract class DelegateRange<T> {
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof DelegateRange<?> range)
-            return range.getMin().equals(min) && range.getMax().equals(max);
+            return range.getMin().equals(getMin()) && range.getMax().equals(getMax());
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMin(), getMax());
+    }
+
+    @Override
+    public String toString() {
+        return getMin() + "-" + getMax();
+    }
+
 }
@@ -22,6 +22,8 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
  */
 public class ConditionRule extends ArgumentRule<Boolean> {
 
+    private static final ArgumentRuleResult SUCCESS = new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed ConditionRule");
+
     /**
      * Creates a new rule that checks if a condition on an input string is met.
      *
@@ -39,7 +41,7 @@ public class ConditionRule extends ArgumentRule<Boolean> {
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Expected result of rule did not match");
         if (!result)
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Condition was not met for input: %s".formatted(input));
-        return new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed %s".formatted(getClass().getSimpleName()));
+        return SUCCESS;
     }
 
 }
@@ -14,6 +14,8 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 public class DoubleMaxRule extends ArgumentRule<Boolean> {
 
+    private static final ArgumentRuleResult SUCCESS = new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed DoubleMaxRule");
+
     private final double max;
     private final boolean inclusive;
 
@@ -60,6 +62,6 @@ public class DoubleMaxRule extends ArgumentRule<Boolean> {
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Expected result of rule did not match");
         if (!result)
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Value was null or not a number less than the maximum: %s (max %s)".formatted(input, max));
-        return new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed %s".formatted(getClass().getSimpleName()));
+        return SUCCESS;
     }
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 public class DoubleMinRule extends ArgumentRule<Boolean> {
 
+    private static final ArgumentRuleResult SUCCESS = new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed DoubleMinRule");
+
     private final double min;
     private final boolean inclusive;
 
@@ -60,6 +62,6 @@ public class DoubleMinRule extends ArgumentRule<Boolean> {
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Expected result of rule did not match");
         if (!result)
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Value was null or not a number greater than the minimum: %s (min %s)".formatted(input, min));
-        return new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed %s".formatted(getClass().getSimpleName()));
+        return SUCCESS;
     }
 }
@@ -14,6 +14,8 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 public class DoubleRangeRule extends ArgumentRule<Boolean> {
 
+    private static final ArgumentRuleResult SUCCESS = new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed DoubleRangeRule");
+
     private final double min, max;
     private final boolean leftInclusive, rightInclusive;
 
@@ -74,7 +76,7 @@ public class DoubleRangeRule extends ArgumentRule<Boolean> {
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Expected result of rule did not match");
         if (!result)
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Value was null or not a number inside the valid range: %s (min: %s, max: %s)".formatted(input, min, max));
-        return new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed %s".formatted(getClass().getSimpleName()));
+        return SUCCESS;
     }
 
 }
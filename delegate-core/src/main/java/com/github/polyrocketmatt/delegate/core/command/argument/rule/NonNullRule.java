@@ -22,6 +22,8 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
  */
 public class NonNullRule extends ArgumentRule<Boolean> {
 
+    private static final ArgumentRuleResult SUCCESS = new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed NonNullRule");
+
     /**
      * Creates a new rule that enforces an input string to not be null.
      */
@@ -37,7 +39,7 @@ public class NonNullRule extends ArgumentRule<Boolean> {
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Expected result of rule did not match");
         if (!result)
             return new ArgumentRuleResult(ArgumentRuleResult.Result.FAILURE, "Non-nullity of value was not met");
-        return new ArgumentRuleResult(ArgumentRuleResult.Result.SUCCESS, "Successfully passed %s".formatted(getClass().getSimpleName()));
+        return SUCCESS;
     }
 
 }
@@ -0,0 +1,298 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.argument.rule;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRuleResult;
+import com.github.polyrocketmatt.delegate.api.command.argument.rule.RuleData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * The rules of a {@link CommandArgument}, compiled into checks that are evaluated on the
+ * parsed value of the argument rather than on its input. Numeric rules compare the primitive
+ * value directly instead of parsing the input once more, and adjacent minimum, maximum and
+ * range rules of the same type are fused into a single range check. String length rules
+ * are fused in the same way.
+ * <p>
+ * Rules that cannot be evaluated on a value, such as a {@link ConditionRule} or the rules
+ * of other libraries, are still applied to the input. The same happens if the value of the
+ * argument is not of the type of the rule. Messages are only formatted if a rule fails, such
+ * that a value that meets all rules does not allocate.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class RulePipeline {
+
+    public static final RulePipeline EMPTY = new RulePipeline(new Check[0]);
+
+    private static final RuleData<Boolean> FAILED = new RuleData<>(false);
+
+    private final Check[] checks;
+
+    private RulePipeline(Check[] checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * Compiles the given rules into a {@link RulePipeline}.
+     *
+     * @param rules The rules to compile, in the order in which they were added.
+     * @return The compiled {@link RulePipeline}.
+     */
+    public static @NotNull RulePipeline compile(@NotNull List<ArgumentRule<?>> rules) {
+        validate("rules", List.class, rules);
+        if (rules.isEmpty())
+            return EMPTY;
+
+        List<Check> checks = new ArrayList<>(rules.size());
+        Bounds current = null;
+        for (ArgumentRule<?> rule : rules) {
+            validate("rule", ArgumentRule.class, rule);
+
+            Bounds bounds = Bounds.of(rule);
+            if (bounds != null && current != null && current.kind == bounds.kind) {
+                current = current.intersect(bounds);
+                continue;
+            }
+
+            if (current != null)
+                checks.add(current);
+            current = bounds;
+            if (bounds == null)
+                checks.add((rule instanceof NonNullRule) ? new NonNullCheck(rule) : new InputCheck(rule));
+        }
+        if (current != null)
+            checks.add(current);
+
+        return new RulePipeline(checks.toArray(Check[]::new));
+    }
+
+    /**
+     * Tests the given parsed value of the given argument against all rules.
+     *
+     * @param argument The argument the value was parsed for.
+     * @param input The input the value was parsed from, or null if it is not known.
+     * @param value The parsed value.
+     * @return Null if all rules are met, otherwise the reason why the first failing rule was not met.
+     */
+    public @Nullable String test(@NotNull CommandArgument<?> argument, @Nullable String input, @Nullable Object value) {
+        for (Check check : checks) {
+            String failure = check.test(argument, input, value);
+            if (failure != null)
+                return failure;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the amount of checks the rules were compiled into.
+     *
+     * @return The amount of checks.
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    private static @NotNull String fail(ArgumentRule<?> rule, CommandArgument<?> argument, @Nullable String input, @Nullable Object value) {
+        return rule.interpretResult(argument, (input == null) ? String.valueOf(value) : input, FAILED).info();
+    }
+
+    private static @Nullable String apply(ArgumentRule<?> rule, CommandArgument<?> argument, @Nullable String input) {
+        ArgumentRuleResult result = rule.interpretResult(argument, input, rule.getRule().apply(input));
+
+        return (result.result() == ArgumentRuleResult.Result.FAILURE) ? result.info() : null;
+    }
+
+    private interface Check {
+
+        @Nullable String test(CommandArgument<?> argument, @Nullable String input, @Nullable Object value);
+
+    }
+
+    private record InputCheck(ArgumentRule<?> rule) implements Check {
+
+        @Override
+        public @Nullable String test(CommandArgument<?> argument, @Nullable String input, @Nullable Object value) {
+            return apply(rule, argument, input);
+        }
+
+    }
+
+    private record NonNullCheck(ArgumentRule<?> rule) implements Check {
+
+        @Override
+        public @Nullable String test(CommandArgument<?> argument, @Nullable String input, @Nullable Object value) {
+            return (value != null) ? null : fail(rule, argument, input, null);
+        }
+
+    }
+
+    private enum Kind {
+        INT,
+        LONG,
+        FLOAT,
+        DOUBLE,
+        LENGTH
+    }
+
+    /**
+     * Inclusive bounds of one or more fused rules. Integral kinds store exclusive bounds
+     * as the adjacent inclusive bound, decimal kinds keep track of their inclusiveness.
+     */
+    private static final class Bounds implements Check {
+
+        private static final int ACCEPTED = 0;
+        private static final int REJECTED = 1;
+        private static final int UNKNOWN = 2;
+
+        private final Kind kind;
+        private final double min;
+        private final double max;
+        private final boolean minInclusive;
+        private final boolean maxInclusive;
+        private final long minIntegral;
+        private final long maxIntegral;
+        private final ArgumentRule<?>[] rules;
+
+        private Bounds(Kind kind, long min, long max, ArgumentRule<?>... rules) {
+            this.kind = kind;
+            this.min = min;
+            this.max = max;
+            this.minInclusive = true;
+            this.maxInclusive = true;
+            this.minIntegral = min;
+            this.maxIntegral = max;
+            this.rules = rules;
+        }
+
+        private Bounds(Kind kind, double min, boolean minInclusive, double max, boolean maxInclusive, ArgumentRule<?>... rules) {
+            this.kind = kind;
+            this.min = min;
+            this.max = max;
+            this.minInclusive = minInclusive;
+            this.maxInclusive = maxInclusive;
+            this.minIntegral = 0L;
+            this.maxIntegral = 0L;
+            this.rules = rules;
+        }
+
+        private static @Nullable Bounds of(ArgumentRule<?> rule) {
+            if (rule instanceof IntMinRule min)
+                return integral(Kind.INT, min.getMin(), min.isInclusive(), Integer.MAX_VALUE, true, rule);
+            if (rule instanceof IntMaxRule max)
+                return integral(Kind.INT, Integer.MIN_VALUE, true, max.getMax(), max.isInclusive(), rule);
+            if (rule instanceof IntRangeRule range)
+                return integral(Kind.INT, range.getMin(), range.isLeftInclusive(), range.getMax(), range.isRightInclusive(), rule);
+            if (rule instanceof LongMinRule min)
+                return integral(Kind.LONG, min.getMin(), min.isInclusive(), Long.MAX_VALUE, true, rule);
+            if (rule instanceof LongMaxRule max)
+                return integral(Kind.LONG, Long.MIN_VALUE, true, max.getMax(), max.isInclusive(), rule);
+            if (rule instanceof StringMinLengthRule min)
+                return integral(Kind.LENGTH, min.getMinLength(), min.isInclusive(), Integer.MAX_VALUE, true, rule);
+            if (rule instanceof StringMaxLengthRule max)
+                return integral(Kind.LENGTH, 0, true, max.getMaxLength(), max.isInclusive(), rule);
+            if (rule instanceof FloatMinRule min)
+                return new Bounds(Kind.FLOAT, min.getMin(), min.isInclusive(), Double.POSITIVE_INFINITY, true, rule);
+            if (rule instanceof FloatMaxRule max)
+                return new Bounds(Kind.FLOAT, Double.NEGATIVE_INFINITY, true, max.getMax(), max.isInclusive(), rule);
+            if (rule instanceof FloatRangeRule range)
+                return new Bounds(Kind.FLOAT, range.getMin(), range.isLeftInclusive(), range.getMax(), range.isRightInclusive(), rule);
+            if (rule instanceof DoubleMinRule min)
+                return new Bounds(Kind.DOUBLE, min.getMin(), min.isInclusive(), Double.POSITIVE_INFINITY, true, rule);
+            if (rule instanceof DoubleMaxRule max)
+                return new Bounds(Kind.DOUBLE, Double.NEGATIVE_INFINITY, true, max.getMax(), max.isInclusive(), rule);
+            if (rule instanceof DoubleRangeRule range)
+                return new Bounds(Kind.DOUBLE, range.getMin(), range.isLeftInclusive(), range.getMax(), range.isRightInclusive(), rule);
+            return null;
+        }
+
+        private static Bounds integral(Kind kind, long min, boolean minInclusive, long max, boolean maxInclusive, ArgumentRule<?> rule) {
+            //  An exclusive bound at the end of the domain excludes every value
+            if ((!minInclusive && min == Long.MAX_VALUE) || (!maxInclusive && max == Long.MIN_VALUE))
+                return new Bounds(kind, 1L, 0L, rule);
+            return new Bounds(kind, minInclusive ? min : min + 1, maxInclusive ? max : max - 1, rule);
+        }
+
+        private Bounds intersect(Bounds other) {
+            ArgumentRule<?>[] rules = new ArgumentRule<?>[this.rules.length + other.rules.length];
+            System.arraycopy(this.rules, 0, rules, 0, this.rules.length);
+            System.arraycopy(other.rules, 0, rules, this.rules.length, other.rules.length);
+
+            if (kind == Kind.INT || kind == Kind.LONG || kind == Kind.LENGTH)
+                return new Bounds(kind, Math.max(minIntegral, other.minIntegral), Math.min(maxIntegral, other.maxIntegral), rules);
+
+            double min = Math.max(this.min, other.min);
+            double max = Math.min(this.max, other.max);
+            boolean minInclusive = (this.min == other.min) ? this.minInclusive && other.minInclusive : (min == this.min) ? this.minInclusive : other.minInclusive;
+            boolean maxInclusive = (this.max == other.max) ? this.maxInclusive && other.maxInclusive : (max == this.max) ? this.maxInclusive : other.maxInclusive;
+            return new Bounds(kind, min, minInclusive, max, maxInclusive, rules);
+        }
+
+        @Override
+        public @Nullable String test(CommandArgument<?> argument, @Nullable String input, @Nullable Object value) {
+            int result = accepts(value);
+            if (result == ACCEPTED)
+                return null;
+            if (result == REJECTED)
+                return failure(argument, input, value);
+
+            //  Values of another type are left to the rules themselves
+            for (ArgumentRule<?> rule : rules) {
+                String failure = apply(rule, argument, input);
+                if (failure != null)
+                    return failure;
+            }
+            return null;
+        }
+
+        private int accepts(@Nullable Object value) {
+            if (value == null)
+                return REJECTED;
+
+            return switch (kind) {
+                case INT -> (value instanceof Integer integer) ? accepts(contains(integer)) : UNKNOWN;
+                case LONG -> (value instanceof Long || value instanceof Integer) ? accepts(contains(((Number) value).longValue())) : UNKNOWN;
+                case LENGTH -> (value instanceof String string) ? accepts(contains(string.length())) : UNKNOWN;
+
+                //  Float rules compare in single precision, like they did on their input
+                case FLOAT -> (value instanceof Float || value instanceof Double) ? accepts(contains(((Number) value).floatValue())) : UNKNOWN;
+                case DOUBLE -> (value instanceof Double || value instanceof Float) ? accepts(contains(((Number) value).doubleValue())) : UNKNOWN;
+            };
+        }
+
+        private static int accepts(boolean contains) {
+            return contains ? ACCEPTED : REJECTED;
+        }
+
+        private boolean contains(long value) {
+            return value >= minIntegral && value <= maxIntegral;
+        }
+
+        private boolean contains(double value) {
+            return (minInclusive ? value >= min : value > min) && (maxInclusive ? value <= max : value < max);
+        }
+
+        private String failure(CommandArgument<?> argument, @Nullable String input, Object value) {
+            //  Find the rule that caused the fused check to fail, such that its own message is reported
+            for (ArgumentRule<?> rule : rules) {
+                Bounds bounds = of(rule);
+                if (bounds != null && bounds.accepts(value) == REJECTED)
+                    return fail(rule, argument, input, value);
+            }
+
+            return fail(rules[0], argument, input, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,405 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.argument.selector;
+
+import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
+import com.github.polyrocketmatt.delegate.core.command.argument.NumberScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * A compiled entity selector, such as {@code @e[type=zombie,distance=..10,sort=nearest,limit=3]}.
+ * Selectors are compiled once and evaluated relative to the position of the commander
+ * that uses them. The type and distance of an entity are checked while the entities are
+ * visited, such that only matching entities are collected, and selectors with a maximum
+ * distance only visit the entities that are near the position.
+ * <p>
+ * The supported arguments are {@code distance}, {@code r} and {@code rm}, {@code limit},
+ * {@code sort} and {@code type}. Selectors with a distance select from the world in which
+ * they are evaluated, other selectors except {@code @s} select from all worlds. Selectors
+ * with any other argument, such as {@code tag}, {@code scores} or {@code x}, are not
+ * evaluated natively and must be handed to the server instead, which is indicated by
+ * {@link #isNative()}.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class EntitySelector {
+
+    private static final int MAX_CACHED = 256;
+    private static final Map<String, EntitySelector> CACHE = new ConcurrentHashMap<>();
+
+    private final Target target;
+    private final Sort sort;
+    private final int limit;
+    private final double minDistance;
+    private final double maxDistance;
+    private final String type;
+    private final boolean typeInverted;
+    private final boolean isNative;
+
+    private EntitySelector(Target target, Sort sort, int limit, double minDistance, double maxDistance, String type,
+                           boolean typeInverted, boolean isNative) {
+        this.target = target;
+        this.sort = sort;
+        this.limit = limit;
+        this.minDistance = minDistance;
+        this.maxDistance = maxDistance;
+        this.type = type;
+        this.typeInverted = typeInverted;
+        this.isNative = isNative;
+    }
+
+    /**
+     * Compiles the given selector. Compiled selectors are cached, such that a selector
+     * that is used repeatedly is only parsed once.
+     *
+     * @param input The selector to compile.
+     * @return The compiled {@link EntitySelector}.
+     * @throws ArgumentParseException If the input is not a valid selector.
+     */
+    public static @NotNull EntitySelector compile(@NotNull String input) throws ArgumentParseException {
+        validate("input", String.class, input);
+
+        EntitySelector selector = CACHE.get(input);
+        if (selector != null)
+            return selector;
+
+        selector = parse(input);
+        if (CACHE.size() >= MAX_CACHED)
+            CACHE.clear();
+        CACHE.put(input, selector);
+
+        return selector;
+    }
+
+    private static EntitySelector parse(String input) {
+        if (input.length() < 2 || input.charAt(0) != '@')
+            throw fail(input, "expected a selector starting with '@'");
+
+        Target target = Target.of(input.charAt(1));
+        if (target == null)
+            throw fail(input, "unknown target '" + input.charAt(1) + "'");
+
+        Sort sort = target.sort;
+        int limit = target.limit;
+        double minDistance = 0.0;
+        double maxDistance = Double.POSITIVE_INFINITY;
+        String type = null;
+        boolean typeInverted = false;
+
+        if (input.length() > 2) {
+            if (input.charAt(2) != '[' || input.charAt(input.length() - 1) != ']')
+                throw fail(input, "expected arguments between '[' and ']'");
+
+            boolean typed = false;
+            for (String argument : split(input, input.substring(3, input.length() - 1))) {
+                int separator = argument.indexOf('=');
+                if (separator == -1)
+                    throw fail(input, "expected '=' in argument '" + argument.trim() + "'");
+
+                String key = argument.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+                String value = argument.substring(separator + 1).trim();
+
+                //  Tags and repeated types match any of several types, which is left to the server as well
+                if (key.equals("type") && (typed || value.startsWith("#") || value.startsWith("!#")))
+                    return server(target);
+                switch (key) {
+                    case "distance" -> {
+                        int range = value.indexOf("..");
+                        if (range == -1) {
+                            minDistance = distance(input, value);
+                            maxDistance = minDistance;
+                        } else {
+                            String min = value.substring(0, range);
+                            String max = value.substring(range + 2);
+                            minDistance = min.isEmpty() ? 0.0 : distance(input, min);
+                            maxDistance = max.isEmpty() ? Double.POSITIVE_INFINITY : distance(input, max);
+                        }
+                    }
+                    case "r" -> maxDistance = distance(input, value);
+                    case "rm" -> minDistance = distance(input, value);
+                    case "limit" -> {
+                        limit = integer(input, value);
+                        if (limit < 1)
+                            throw fail(input, "limit must be at least 1");
+                    }
+                    case "sort" -> {
+                        sort = Sort.of(value);
+                        if (sort == null)
+                            throw fail(input, "unknown sort '" + value + "'");
+                    }
+                    case "type" -> {
+                        typeInverted = value.startsWith("!");
+                        String name = (typeInverted ? value.substring(1) : value).toLowerCase(Locale.ROOT);
+                        if (name.isEmpty())
+                            throw fail(input, "expected an entity type");
+                        type = (name.indexOf(':') == -1) ? "minecraft:" + name : name;
+                        typed = true;
+                    }
+                    default -> {
+                        return server(target);
+                    }
+                }
+            }
+        }
+
+        if (minDistance > maxDistance)
+            throw fail(input, "minimum distance is larger than maximum distance");
+        if (target == Target.SELF)
+            limit = 1;
+
+        return new EntitySelector(target, sort, limit, minDistance, maxDistance, type, typeInverted, true);
+    }
+
+    private static EntitySelector server(Target target) {
+        return new EntitySelector(target, target.sort, target.limit, 0.0, Double.POSITIVE_INFINITY, null, false, false);
+    }
+
+    private static List<String> split(String input, String arguments) {
+        List<String> split = new ArrayList<>();
+        if (arguments.isBlank())
+            return split;
+
+        //  Values such as scores, nbt and quoted names may contain commas themselves
+        int depth = 0;
+        int start = 0;
+        char quote = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (quote != 0) {
+                if (c == '\\')
+                    i++;
+                else if (c == quote)
+                    quote = 0;
+            } else if (c == '"' || c == '\'')
+                quote = c;
+            else if (c == '{' || c == '[')
+                depth++;
+            else if (c == '}' || c == ']')
+                depth--;
+            else if (c == ',' && depth == 0) {
+                split.add(arguments.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (quote != 0 || depth != 0)
+            throw fail(input, "unbalanced quotes or brackets");
+        split.add(arguments.substring(start));
+
+        return split;
+    }
+
+    private static double distance(String input, String value) {
+        NumberScanner scanner = new NumberScanner();
+        if (!scanner.isDouble(value))
+            throw fail(input, "expected a distance, got '" + value + "'");
+        if (scanner.getDouble() < 0.0)
+            throw fail(input, "distance must be positive");
+        return scanner.getDouble();
+    }
+
+    private static int integer(String input, String value) {
+        NumberScanner scanner = new NumberScanner();
+        if (!scanner.isInt(value))
+            throw fail(input, "expected an integer, got '" + value + "'");
+        return scanner.getInt();
+    }
+
+    private static ArgumentParseException fail(String input, String reason) {
+        return ArgumentParseException.invalidInput("Invalid entity selector '%s': %s".formatted(input, reason), EntitySelector.class);
+    }
+
+    /**
+     * Selects the entities that match the selector, relative to the given position.
+     *
+     * @param source The entities of the world in which the selector is evaluated.
+     * @param self The entity that evaluates the selector, or null if it is not an entity.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param z The z-coordinate of the position.
+     * @param filter An additional filter that is applied before an entity is selected.
+     * @param <E> The type of the entities.
+     * @return A list of the selected entities, sorted and limited as specified by the selector.
+     * @throws UnsupportedOperationException If the selector must be evaluated by the server.
+     */
+    public <E> @NotNull List<E> select(@NotNull SelectorSource<E> source, @Nullable E self, double x, double y, double z,
+                                       @NotNull Predicate<? super E> filter) {
+        validate("source", SelectorSource.class, source);
+        validate("filter", Predicate.class, filter);
+        if (!this.isNative)
+            throw new UnsupportedOperationException("This selector must be evaluated by the server");
+
+        List<E> selected = new ArrayList<>();
+        double minSquared = this.minDistance * this.minDistance;
+        double maxSquared = this.maxDistance * this.maxDistance;
+        boolean bounded = this.maxDistance != Double.POSITIVE_INFINITY;
+
+        Consumer<E> collector = entity -> {
+            if (this.target.playersOnly && !source.isPlayer(entity))
+                return;
+            if (this.type != null && this.type.equals(source.getType(entity)) == this.typeInverted)
+                return;
+            if (bounded || minSquared > 0.0) {
+                double distance = distanceSquared(source, entity, x, y, z);
+                if (distance < minSquared || distance > maxSquared)
+                    return;
+            }
+            if (filter.test(entity))
+                selected.add(entity);
+        };
+
+        if (this.target == Target.SELF) {
+            if (self != null)
+                collector.accept(self);
+        } else if (bounded)
+            source.forEachNearby(x, y, z, this.maxDistance, collector);
+        else if (minSquared > 0.0)
+            source.forEachWorldEntity(collector);
+        else if (this.target.playersOnly)
+            source.forEachPlayer(collector);
+        else
+            source.forEachEntity(collector);
+
+        return order(source, selected, x, y, z);
+    }
+
+    private <E> List<E> order(SelectorSource<E> source, List<E> selected, double x, double y, double z) {
+        if (selected.size() <= 1)
+            return selected;
+
+        switch (this.sort) {
+            case NEAREST, FURTHEST -> {
+                Comparator<E> comparator = Comparator.comparingDouble(entity -> distanceSquared(source, entity, x, y, z));
+                if (this.sort == Sort.FURTHEST)
+                    comparator = comparator.reversed();
+
+                //  A single entity is found with a linear scan instead of sorting all of them
+                if (this.limit == 1)
+                    return new ArrayList<>(List.of(Collections.min(selected, comparator)));
+                selected.sort(comparator);
+            }
+            case RANDOM -> {
+                if (this.limit == 1)
+                    return new ArrayList<>(List.of(selected.get(ThreadLocalRandom.current().nextInt(selected.size()))));
+                Collections.shuffle(selected, ThreadLocalRandom.current());
+            }
+            default -> {}
+        }
+
+        return (selected.size() > this.limit) ? new ArrayList<>(selected.subList(0, this.limit)) : selected;
+    }
+
+    private static <E> double distanceSquared(SelectorSource<E> source, E entity, double x, double y, double z) {
+        double dx = source.getX(entity) - x;
+        double dy = source.getY(entity) - y;
+        double dz = source.getZ(entity) - z;
+
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    public @NotNull Target getTarget() {
+        return target;
+    }
+
+    public @NotNull Sort getSort() {
+        return sort;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public double getMinDistance() {
+        return minDistance;
+    }
+
+    public double getMaxDistance() {
+        return maxDistance;
+    }
+
+    public @Nullable String getEntityType() {
+        return type;
+    }
+
+    public boolean isEntityTypeInverted() {
+        return typeInverted;
+    }
+
+    /**
+     * Checks whether the selector can be evaluated by {@link #select}. Selectors with arguments
+     * that are not supported natively, such as {@code tag} or {@code scores}, must be evaluated
+     * by the server instead.
+     *
+     * @return True if the selector can be evaluated natively, false otherwise.
+     */
+    public boolean isNative() {
+        return isNative;
+    }
+
+    /**
+     * The target of a selector, which determines the default sort and limit.
+     */
+    public enum Target {
+
+        ALL_PLAYERS('a', true, Sort.ARBITRARY, Integer.MAX_VALUE),
+        ALL_ENTITIES('e', false, Sort.ARBITRARY, Integer.MAX_VALUE),
+        NEAREST_PLAYER('p', true, Sort.NEAREST, 1),
+        RANDOM_PLAYER('r', true, Sort.RANDOM, 1),
+        SELF('s', false, Sort.ARBITRARY, 1);
+
+        private final char symbol;
+        private final boolean playersOnly;
+        private final Sort sort;
+        private final int limit;
+
+        Target(char symbol, boolean playersOnly, Sort sort, int limit) {
+            this.symbol = symbol;
+            this.playersOnly = playersOnly;
+            this.sort = sort;
+            this.limit = limit;
+        }
+
+        private static @Nullable Target of(char symbol) {
+            for (Target target : values())
+                if (target.symbol == symbol)
+                    return target;
+            return null;
+        }
+
+    }
+
+    /**
+     * The order in which the selected entities are returned.
+     */
+    public enum Sort {
+
+        ARBITRARY,
+        NEAREST,
+        FURTHEST,
+        RANDOM;
+
+        private static @Nullable Sort of(String name) {
+            for (Sort sort : values())
+                if (sort.name().equalsIgnoreCase(name))
+                    return sort;
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.argument.selector;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * The entities that an {@link EntitySelector} selects from, as seen from the world in
+ * which the selector is evaluated. Platforms implement this on top of their own entities.
+ *
+ * @param <E> The type of the entities of the platform.
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public interface SelectorSource<E> {
+
+    /**
+     * Visits all players that are online, in any world.
+     *
+     * @param consumer The consumer of the players.
+     */
+    void forEachPlayer(@NotNull Consumer<E> consumer);
+
+    /**
+     * Visits all entities, in any world.
+     *
+     * @param consumer The consumer of the entities.
+     */
+    void forEachEntity(@NotNull Consumer<E> consumer);
+
+    /**
+     * Visits all entities of the world in which the selector is evaluated.
+     *
+     * @param consumer The consumer of the entities.
+     */
+    void forEachWorldEntity(@NotNull Consumer<E> consumer);
+
+    /**
+     * Visits the entities of the world in which the selector is evaluated that might be
+     * within the given radius of the given position. Entities that are further away may be
+     * visited as well, but implementations should only visit the chunks that intersect the radius.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param z The z-coordinate of the position.
+     * @param radius The radius around the position.
+     * @param consumer The consumer of the entities.
+     */
+    void forEachNearby(double x, double y, double z, double radius, @NotNull Consumer<E> consumer);
+
+    double getX(@NotNull E entity);
+
+    double getY(@NotNull E entity);
+
+    double getZ(@NotNull E entity);
+
+    /**
+     * Gets the key of the type of the given entity, such as {@code minecraft:zombie}.
+     *
+     * @param entity The entity.
+     * @return The key of the type of the entity.
+     */
+    @NotNull String getType(@NotNull E entity);
+
+    boolean isPlayer(@NotNull E entity);
+
+}
@@ -0,0 +1,191 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.permission;
+
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.api.entity.PlayerCommander;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Cache of the permission decisions of every player, keyed by the permission node. Asking
+ * the platform for a permission can be expensive when a permission plugin is installed, so
+ * a decision is reused until its time to live expires, or until it is invalidated because
+ * the permissions or the operator status of the player changed, or the player left.
+ * <p>
+ * Only the decisions of a {@link PlayerCommander} are cached, as players are identified by
+ * their unique id. Other commanders, like the console, are always asked directly.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class PermissionCache {
+
+    public static final long DEFAULT_TTL_MILLIS = 5000L;
+
+    private final Map<UUID, Decisions> decisions;
+    private volatile long ttlNanos;
+
+    /**
+     * Creates a new, empty {@link PermissionCache} with the default time to live.
+     */
+    public PermissionCache() {
+        this.decisions = new ConcurrentHashMap<>();
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * Sets how long a decision is reused. A time to live of 0 disables the cache.
+     *
+     * @param ttl The time to live, must not be negative.
+     * @param unit The unit of the time to live.
+     */
+    public void setTtl(long ttl, @NotNull TimeUnit unit) {
+        validate("unit", TimeUnit.class, unit);
+        if (ttl < 0)
+            throw new IllegalArgumentException("Time to live cannot be negative");
+
+        this.ttlNanos = unit.toNanos(ttl);
+        invalidateAll();
+    }
+
+    /**
+     * Checks if the given commander passes any of the given checks. A command without
+     * any checks can be executed by everyone.
+     *
+     * @param entity The commander to check.
+     * @param checks The compiled permission tiers of the command.
+     * @return True if the commander passes any check, false otherwise.
+     */
+    public boolean canExecute(@NotNull CommanderEntity entity, @NotNull PermissionCheck[] checks) {
+        validate("checks", PermissionCheck[].class, checks);
+        if (checks.length == 0)
+            return true;
+
+        for (PermissionCheck check : checks)
+            if (check.test(entity, this))
+                return true;
+        return false;
+    }
+
+    /**
+     * Checks if the given commander has the given permission.
+     *
+     * @param entity The commander to check.
+     * @param node The permission node.
+     * @return True if the commander has the permission, false otherwise.
+     */
+    public boolean hasPermission(@NotNull CommanderEntity entity, @NotNull String node) {
+        validate("entity", CommanderEntity.class, entity);
+        validate("node", String.class, node);
+
+        Decisions decisions = decisionsOf(entity);
+        if (decisions == null)
+            return entity.hasPermission(node);
+
+        long now = System.nanoTime();
+        Decision decision = decisions.nodes.get(node);
+        if (decision != null && decision.isValid(now))
+            return decision.granted;
+
+        boolean granted = entity.hasPermission(node);
+        decisions.nodes.put(node, new Decision(granted, now + this.ttlNanos));
+        return granted;
+    }
+
+    /**
+     * Checks if the given commander is an operator.
+     *
+     * @param entity The commander to check.
+     * @return True if the commander is an operator, false otherwise.
+     */
+    public boolean isOperator(@NotNull CommanderEntity entity) {
+        validate("entity", CommanderEntity.class, entity);
+
+        Decisions decisions = decisionsOf(entity);
+        if (decisions == null)
+            return entity.isOperator();
+
+        long now = System.nanoTime();
+        Decision decision = decisions.operator;
+        if (decision != null && decision.isValid(now))
+            return decision.granted;
+
+        boolean operator = entity.isOperator();
+        decisions.operator = new Decision(operator, now + this.ttlNanos);
+        return operator;
+    }
+
+    private Decisions decisionsOf(CommanderEntity entity) {
+        if (this.ttlNanos == 0L || !(entity instanceof PlayerCommander player))
+            return null;
+        return this.decisions.computeIfAbsent(player.getUniqueId(), uuid -> new Decisions());
+    }
+
+    /**
+     * Forgets all decisions of the player with the given unique id. This should be called when
+     * the permissions or the operator status of the player change, and when the player leaves.
+     *
+     * @param uuid The unique id of the player.
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        validate("uuid", UUID.class, uuid);
+
+        this.decisions.remove(uuid);
+    }
+
+    /**
+     * Forgets the decision on the given permission node of the player with the given unique id.
+     *
+     * @param uuid The unique id of the player.
+     * @param node The permission node that changed.
+     */
+    public void invalidate(@NotNull UUID uuid, @NotNull String node) {
+        validate("uuid", UUID.class, uuid);
+        validate("node", String.class, node);
+
+        Decisions decisions = this.decisions.get(uuid);
+        if (decisions != null)
+            decisions.nodes.remove(node);
+    }
+
+    /**
+     * Forgets the decisions of all players.
+     */
+    public void invalidateAll() {
+        this.decisions.clear();
+    }
+
+    /**
+     * Gets the amount of players of which decisions are cached.
+     *
+     * @return The amount of players in the cache.
+     */
+    public int size() {
+        return this.decisions.size();
+    }
+
+    private static final class Decisions {
+
+        private final Map<String, Decision> nodes = new ConcurrentHashMap<>();
+        private volatile Decision operator;
+
+    }
+
+    private record Decision(boolean granted, long expiresAt) {
+
+        private boolean isValid(long now) {
+            //  Compared by difference, as the nano time may overflow
+            return now - this.expiresAt < 0L;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.permission;
+
+import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * A {@link PermissionTier} that is flattened when its command is compiled. The parent of a
+ * {@link StandardPermission} is resolved into the permission nodes that have to be granted,
+ * such that a check does not walk the parent and does not inspect the type of the tier, and
+ * every node can be looked up in a {@link PermissionCache}.
+ * <p>
+ * Tiers of other types are checked through {@link PermissionTier#hasPermission(CommanderEntity)}.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class PermissionCheck {
+
+    private static final String[] NO_NODES = new String[0];
+
+    private static final int GLOBAL = 0;
+    private static final int OPERATOR = 1;
+    private static final int NODES = 2;
+    private static final int CUSTOM = 3;
+
+    private final int kind;
+    private final String[] nodes;
+    private final PermissionTier tier;
+
+    private PermissionCheck(int kind, String[] nodes, PermissionTier tier) {
+        this.kind = kind;
+        this.nodes = nodes;
+        this.tier = tier;
+    }
+
+    /**
+     * Flattens the given {@link PermissionTier} into a {@link PermissionCheck}.
+     *
+     * @param tier The tier to flatten.
+     * @return The flattened {@link PermissionCheck}.
+     */
+    public static @NotNull PermissionCheck compile(@NotNull PermissionTier tier) {
+        validate("tier", PermissionTier.class, tier);
+
+        if (tier instanceof GlobalPermission)
+            return new PermissionCheck(GLOBAL, NO_NODES, tier);
+        if (tier instanceof OperatorPermission)
+            return new PermissionCheck(OPERATOR, NO_NODES, tier);
+        if (!(tier instanceof StandardPermission standard))
+            return new PermissionCheck(CUSTOM, NO_NODES, tier);
+
+        //  A standard permission defers to an operator or global parent, or requires the node of its parent as well
+        PermissionTier parent = standard.getParent();
+        if (parent == null)
+            return new PermissionCheck(NODES, new String[] { standard.getPermission() }, tier);
+        if (parent instanceof OperatorPermission)
+            return new PermissionCheck(OPERATOR, NO_NODES, tier);
+        if (parent instanceof GlobalPermission)
+            return new PermissionCheck(GLOBAL, NO_NODES, tier);
+        if (parent instanceof StandardPermission standardParent)
+            return new PermissionCheck(NODES, new String[] { standardParent.getPermission(), standard.getPermission() }, tier);
+        return new PermissionCheck(CUSTOM, NO_NODES, tier);
+    }
+
+    /**
+     * Checks if the given commander passes the check, looking up the decisions in the given cache.
+     *
+     * @param entity The commander to check.
+     * @param cache The cache of the decisions.
+     * @return True if the commander passes the check, false otherwise.
+     */
+    public boolean test(@NotNull CommanderEntity entity, @NotNull PermissionCache cache) {
+        validate("entity", CommanderEntity.class, entity);
+
+        return switch (this.kind) {
+            case GLOBAL -> true;
+            case OPERATOR -> cache.isOperator(entity);
+            case NODES -> {
+                for (String node : this.nodes)
+                    if (!cache.hasPermission(entity, node))
+                        yield false;
+                yield true;
+            }
+            default -> this.tier.hasPermission(entity);
+        };
+    }
+
+    /**
+     * Gets the permission nodes that have to be granted to pass the check.
+     *
+     * @return A copy of the permission nodes, which is empty if the check does not depend on nodes.
+     */
+    public @NotNull String[] getNodes() {
+        return this.nodes.clone();
+    }
+
+    /**
+     * Gets the {@link PermissionTier} the check was compiled from.
+     *
+     * @return The tier of the check.
+     */
+    public @NotNull PermissionTier getTier() {
+        return this.tier;
+    }
+
+    //  Checks that require the same nodes are equal, such that commands with equal tiers share their decisions
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof PermissionCheck that)) return false;
+        if (this.kind != that.kind) return false;
+        return (this.kind == CUSTOM) ? this.tier == that.tier : Arrays.equals(this.nodes, that.nodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return (this.kind == CUSTOM) ? System.identityHashCode(this.tier) : 31 * this.kind + Arrays.hashCode(this.nodes);
+    }
+
+}
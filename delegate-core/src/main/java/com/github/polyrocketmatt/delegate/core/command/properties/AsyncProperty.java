@@ -4,6 +4,10 @@
 package com.github.polyrocketmatt.delegate.core.command.properties;
 
 import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 
 /**
  * Represents a {@link CommandProperty} that allows the command to be executed asynchronously.
@@ -15,11 +19,34 @@ public class AsyncProperty extends CommandProperty {
 
     private static final String ASYNC_IDENTIFIER = "executeAsync";
 
+    private final ExecutionMode mode;
+
     /**
-     * Creates a new {@link AsyncProperty}.
+     * Creates a new {@link AsyncProperty} that executes on the shared worker pool.
      */
     public AsyncProperty() {
+        this(ExecutionMode.POOLED);
+    }
+
+    /**
+     * Creates a new {@link AsyncProperty} with the given {@link ExecutionMode}.
+     *
+     * @param mode The mode in which the actions are executed.
+     */
+    public AsyncProperty(@NotNull ExecutionMode mode) {
         super(ASYNC_IDENTIFIER);
+        validate("mode", ExecutionMode.class, mode);
+
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the {@link ExecutionMode} in which the actions are executed.
+     *
+     * @return The mode in which the actions are executed.
+     */
+    public @NotNull ExecutionMode getMode() {
+        return mode;
     }
 
 }
@@ -5,29 +5,46 @@ package com.github.polyrocketmatt.delegate.core.command.tree;
 
 import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.command.tree.ICommandNode;
+import com.github.polyrocketmatt.delegate.core.command.CommandLine;
 import com.github.polyrocketmatt.delegate.core.command.DelegateCommand;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
 
 /**
  * Represents a node in the command tree. It contains a parent node,
  * a list of child nodes and the command to execute at this depth in the tree.
+ * <p>
+ * Every node keeps a case-folded index of the names and aliases of its children,
+ * such that a single level of the tree can be resolved in constant time. Tokens of a
+ * {@link CommandLine} are resolved against a sorted copy of the index instead, which
+ * compares the token in place without copying or folding it.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
  */
-public class CommandNode implements ICommandNode {
+public class CommandNode implements ICommandNode, CompletionNode {
 
     private CommandNode parent;
     private final List<CommandNode> children;
+    private final Map<String, CommandNode> index;
+    private final Set<String> names;
+    private volatile CompletionTrie completions;
+    private volatile SortedIndex sorted;
     private DelegateCommand command;
 
     /**
@@ -41,6 +58,8 @@ public class CommandNode implements ICommandNode {
 
         this.parent = null;
         this.children = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.names = new HashSet<>();
         this.command = command;
     }
 
@@ -57,11 +76,13 @@ public class CommandNode implements ICommandNode {
 
         this.parent = parent;
         this.children = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.names = new HashSet<>();
         this.command = command;
 
         //  If the parent doesn't have this node as a child, add it.
-        if (!parent.getChildren().contains(this))
-            parent.getChildren().add(this);
+        if (!parent.contains(this))
+            parent.link(this);
     }
 
     /**
@@ -86,17 +107,48 @@ public class CommandNode implements ICommandNode {
         validate("command", DelegateCommand.class, command);
 
         this.command = command;
+
+        //  The name and aliases might have changed, so the parent index must be rebuilt
+        if (this.parent != null)
+            this.parent.reindex();
     }
 
     /**
-     * Gets the list of child nodes.
+     * Gets an unmodifiable view of the list of child nodes. Children must be
+     * added through {@link #addChild(CommandNode)} to keep the index in sync.
      *
      * @return The list of child nodes.
      */
     @SuppressWarnings("unchecked")
     @Override
     public @NotNull List<CommandNode> getChildren() {
-        return children;
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Gets the child node that has the given name or alias, ignoring case.
+     *
+     * @param name The name or alias of the child.
+     * @return The child node, or null if no child matches the given name.
+     */
+    @Override
+    public @Nullable CommandNode getChild(@NotNull String name) {
+        validate("name", String.class, name);
+
+        return this.index.get(fold(name));
+    }
+
+    /**
+     * Checks if a child has exactly the given name. Unlike {@link #getChild(String)},
+     * aliases are not considered and the case of the name must match.
+     *
+     * @param name The name of the child.
+     * @return True if a child has the given name, false otherwise.
+     */
+    public boolean hasChildNamed(@NotNull String name) {
+        validate("name", String.class, name);
+
+        return this.names.contains(name);
     }
 
     @Override
@@ -117,18 +169,79 @@ public class CommandNode implements ICommandNode {
 
         //  Child must have this node as a parent
         if (child.getParent() != this)
-            setParent(this);
+            child.setParent(this);
 
         //  If the child already exists, don't add it again
-        if (this.children.contains(child))
+        if (contains(child))
             throw new IllegalArgumentException("Child node already exists");
-        this.children.add(child);
+        link(child);
     }
 
     private void setParent(@NotNull CommandNode parent) {
         this.parent = parent;
     }
 
+    private boolean contains(CommandNode child) {
+        CommandNode existing = this.index.get(fold(child.getNameDefinition().getValue()));
+
+        return existing != null && existing.equals(child);
+    }
+
+    private void link(CommandNode child) {
+        this.children.add(child);
+        this.indexChild(child);
+        this.completions = null;
+        this.sorted = null;
+    }
+
+    private void indexChild(CommandNode child) {
+        //  Earlier children take priority, which mirrors the order in which they would have been matched
+        this.index.putIfAbsent(fold(child.getNameDefinition().getValue()), child);
+        this.names.add(child.getNameDefinition().getValue());
+        for (CommandDefinition<String> alias : child.getAliasDefinitions())
+            this.index.putIfAbsent(fold(alias.getValue()), child);
+    }
+
+    private void reindex() {
+        this.index.clear();
+        this.names.clear();
+        for (CommandNode child : this.children)
+            this.indexChild(child);
+        this.completions = null;
+        this.sorted = null;
+    }
+
+    /**
+     * Gets the {@link CompletionTrie} of the names of the children. The trie is built
+     * on first use and rebuilt after the children have changed.
+     *
+     * @return The {@link CompletionTrie} of the names of the children.
+     */
+    @Override
+    public @NotNull CompletionTrie getCompletions() {
+        CompletionTrie current = this.completions;
+        if (current != null)
+            return current;
+
+        List<String> names = new ArrayList<>(this.children.size());
+        for (CommandNode child : this.children)
+            names.add(child.getNameDefinition().getValue());
+        current = CompletionTrie.of(names);
+        this.completions = current;
+
+        return current;
+    }
+
+    /**
+     * Gets the names of the children that start with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix to complete.
+     * @return An unmodifiable list of the names of the children that start with the prefix.
+     */
+    public @NotNull List<String> complete(@NotNull String prefix) {
+        return getCompletions().complete(prefix);
+    }
+
     /**
      * Checks if the command at this depth in the tree is verified, meaning
      * that it is a {@link VerifiedDelegateCommand}.
@@ -139,38 +252,60 @@ public class CommandNode implements ICommandNode {
         return command instanceof VerifiedDelegateCommand;
     }
 
+    @Override
+    public @Nullable DispatchPlan getDispatchPlan() {
+        return (command instanceof VerifiedDelegateCommand verified) ? verified.getDispatchPlan() : null;
+    }
+
     /**
-     * Uses breadth-first search to find a child node that has the same name
-     * as the first argument in the array of given names. If a child node has
-     * been found, it will be explored recursively until all names have been
-     * checked. If a child node has not been found, this node will be returned.
+     * Uses the child index to find the deepest node that is matched by the tokens
+     * of the given {@link CommandLine}, starting at the given token. Quoted tokens
+     * and assignments are never matched against children.
      * <p>
-     * The result is a {@link QueryResultNode} that contains the node that was
-     * found and an array of remaining names that are inferred to be arguments.
+     * The result is a {@link QueryResultCursor} that contains the node that was found
+     * and the index of the first token that is inferred to be an argument.
      *
-     * @param commandPattern The pattern of the currently matched command.
-     * @param names The array of names to search for.
-     * @return The {@link QueryResultNode} that contains the node that was found
+     * @param line The tokenized command line.
+     * @param from The index of the first token to match.
+     * @return The {@link QueryResultCursor} that contains the node that was found.
      */
-    public @NotNull QueryResultNode findDeepest(@NotNull String commandPattern, @NotNull String[] names) {
-        validate("commandPattern", String.class, commandPattern);
-        validate("names", String[].class, names);
-
-        for (String name : names)
-            validate("name", String.class, name);
-        if (this.children.isEmpty() || names.length == 0)
-            return new QueryResultNode(this, commandPattern, names);
-
-        String name = names[0];
-        String[] remaining = new String[names.length - 1];
-        System.arraycopy(names, 1, remaining, 0, remaining.length);
-        CommandNode child = this.children.stream()
-                .filter(c -> c.getCommand().getNameDefinition().getValue().equalsIgnoreCase(name) ||
-                        Arrays.stream(c.getCommand().getAliases()).anyMatch(alias -> alias.getValue().equalsIgnoreCase(name)))
-                .findFirst()
-                .orElse(null);
-        return child == null ? new QueryResultNode(this, commandPattern, names) :
-                child.findDeepest(commandPattern + " " + name, remaining);
+    public @NotNull QueryResultCursor findDeepest(@NotNull CommandLine line, int from) {
+        validate("line", CommandLine.class, line);
+
+        CommandNode current = this;
+        int cursor = from;
+
+        //  Leaves don't have an index to look up, so their arguments are never copied
+        while (cursor < line.size() && !current.index.isEmpty()) {
+            if (line.isQuoted(cursor) || line.isAssignment(cursor))
+                break;
+
+            CommandNode child = current.findChild(line, cursor);
+            if (child == null)
+                break;
+
+            current = child;
+            cursor++;
+        }
+
+        return new QueryResultCursor(current, cursor);
+    }
+
+    private @Nullable CommandNode findChild(CommandLine line, int token) {
+        String text = line.getLine();
+        int start = line.start(token);
+        int end = line.end(token);
+
+        //  Some characters outside ASCII fold into several, so such tokens are folded as a whole
+        for (int i = start; i < end; i++)
+            if (text.charAt(i) >= 0x80)
+                return this.index.get(fold(line.text(token)));
+
+        SortedIndex sorted = this.sorted;
+        if (sorted == null)
+            this.sorted = sorted = SortedIndex.of(this.index);
+
+        return sorted.find(text, start, end);
     }
 
     @Override
@@ -196,4 +331,52 @@ public class CommandNode implements ICommandNode {
         //  We assume equality if the commands are equal
         return this.command.equals(node.getCommand());
     }
+
+    /**
+     * The folded names and aliases of the children in sorted order, which can be searched
+     * for a region of a line.
+     */
+    private record SortedIndex(String[] keys, CommandNode[] nodes) {
+
+        private static SortedIndex of(Map<String, CommandNode> index) {
+            String[] keys = index.keySet().toArray(String[]::new);
+            Arrays.sort(keys);
+
+            CommandNode[] nodes = new CommandNode[keys.length];
+            for (int i = 0; i < keys.length; i++)
+                nodes[i] = index.get(keys[i]);
+
+            return new SortedIndex(keys, nodes);
+        }
+
+        private @Nullable CommandNode find(String line, int start, int end) {
+            int low = 0;
+            int high = this.keys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(this.keys[middle], line, start, end);
+                if (comparison < 0)
+                    low = middle + 1;
+                else if (comparison > 0)
+                    high = middle - 1;
+                else
+                    return this.nodes[middle];
+            }
+
+            return null;
+        }
+
+        private static int compare(String key, String line, int start, int end) {
+            int length = Math.min(key.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                int difference = key.charAt(i) - Character.toLowerCase(line.charAt(start + i));
+                if (difference != 0)
+                    return difference;
+            }
+
+            return key.length() - (end - start);
+        }
+
+    }
+
 }
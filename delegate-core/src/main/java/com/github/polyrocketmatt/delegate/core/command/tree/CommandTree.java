@@ -3,17 +3,23 @@
 
 package com.github.polyrocketmatt.delegate.core.command.tree;
 
+import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.command.tree.ICommandTree;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
 
 /**
  * Represents the root of multiple possible {@link CommandNode}s as roots.
+ * Roots are indexed by their case-folded name and aliases.
  *
  * @since 0.0.1
  * @author Matthias Kovacic
@@ -21,12 +27,14 @@ import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 public class CommandTree implements ICommandTree {
 
     private final List<CommandNode> roots;
+    private final Map<String, CommandNode> index;
 
     /**
      * Creates a new {@link CommandTree} with no roots.
      */
     public CommandTree() {
         this.roots = new ArrayList<>();
+        this.index = new HashMap<>();
     }
 
     /**
@@ -34,6 +42,7 @@ public class CommandTree implements ICommandTree {
      */
     public void clear() {
         this.roots.clear();
+        this.index.clear();
     }
 
     /**
@@ -45,14 +54,21 @@ public class CommandTree implements ICommandTree {
         validate("root", CommandNode.class, root);
 
         //  If the root already exists, throw an exception.
-        if (this.roots.contains(root))
+        CommandNode existing = this.index.get(fold(root.getNameDefinition().getValue()));
+        if (existing != null && existing.equals(root))
             throw new IllegalArgumentException("The root already exists in the tree");
 
         this.roots.add(root);
+
+        //  Earlier roots take priority when names or aliases collide
+        this.index.putIfAbsent(fold(root.getNameDefinition().getValue()), root);
+        for (CommandDefinition<String> alias : root.getAliasDefinitions())
+            this.index.putIfAbsent(fold(alias.getValue()), root);
     }
 
     /**
-     * Finds a root with the given identifier.
+     * Finds a root with the given identifier, which is either the name
+     * or one of the aliases of the root, ignoring case.
      *
      * @param identifier The identifier to search for.
      * @return The root with the given identifier, or null if none was found.
@@ -60,16 +76,19 @@ public class CommandTree implements ICommandTree {
     public @Nullable CommandNode find(@NotNull String identifier) {
         validate("identifier", String.class, identifier);
 
-        for (CommandNode node : this.roots)
-            if (node.getCommand().getNameDefinition().getValue().equalsIgnoreCase(identifier))
-                return node;
-        return null;
+        return this.index.get(fold(identifier));
     }
 
+    /**
+     * Gets an unmodifiable view of the list of roots. Roots must be
+     * added through {@link #add(CommandNode)} to keep the index in sync.
+     *
+     * @return The list of roots.
+     */
     @SuppressWarnings("unchecked")
     @Override
     public @NotNull List<CommandNode> getRoots() {
-        return roots;
+        return Collections.unmodifiableList(roots);
     }
 
     @Override
@@ -0,0 +1,43 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The part of a node of the command tree that is needed to complete commands. It is
+ * implemented by the live {@link CommandNode}s and by the immutable nodes of a
+ * {@link CompletionView}, which can be read from any thread.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public interface CompletionNode {
+
+    /**
+     * Gets the child node that has the given name or alias, ignoring case.
+     *
+     * @param name The name or alias of the child.
+     * @return The child node, or null if no child matches the given name.
+     */
+    @Nullable CompletionNode getChild(@NotNull String name);
+
+    /**
+     * Gets the {@link CompletionTrie} of the names of the children.
+     *
+     * @return The {@link CompletionTrie} of the names of the children.
+     */
+    @NotNull CompletionTrie getCompletions();
+
+    /**
+     * Gets the {@link DispatchPlan} of the command of the node, of which the arguments
+     * are completed once the arguments of the command are being typed.
+     *
+     * @return The {@link DispatchPlan} of the command, or null if the command is not verified.
+     */
+    @Nullable DispatchPlan getDispatchPlan();
+
+}
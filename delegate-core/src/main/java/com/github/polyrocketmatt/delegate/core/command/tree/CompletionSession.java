@@ -0,0 +1,166 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+
+/**
+ * Completion state of a single commander. Clients request completions on almost
+ * every key press, so the session remembers the node that was matched and the
+ * prefix that was completed. If the next request only extends the prefix, the
+ * previous result is narrowed instead of walking the tree and the trie again.
+ * <p>
+ * Once the arguments of a verified command are being typed, the {@link SuggestionProvider}
+ * of the argument at the position of the cursor is asked for suggestions as well.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class CompletionSession {
+
+    private static final String[] NO_PATH = new String[0];
+
+    private CompletionNode root;
+    private CompletionNode node;
+    private String[] path;
+    private CompletionTrie trie;
+    private CompletionTrie.Node cursor;
+    private String folded;
+
+    /**
+     * Creates a new, empty {@link CompletionSession}.
+     */
+    public CompletionSession() {
+        this.path = NO_PATH;
+    }
+
+    /**
+     * Completes the given arguments of the command with the given root. The
+     * arguments are matched against the children of the root, after which the names
+     * of the children of the deepest matched node that start with the first argument
+     * that was not matched are returned, together with the suggestions of the argument
+     * of the matched command at the position of the last argument.
+     *
+     * @param root The root of the command.
+     * @param arguments The arguments of the command, of which the last one is being typed.
+     * @return An unmodifiable list of the names that complete the arguments.
+     */
+    public synchronized @NotNull List<String> complete(@NotNull CompletionNode root, @NotNull String[] arguments) {
+        validate("root", CompletionNode.class, root);
+        validate("arguments", String[].class, arguments);
+
+        //  Continue from the previously matched node if the arguments that led to it did not change
+        CompletionNode current = root;
+        int depth = 0;
+        if (root == this.root && startsWith(arguments, this.path)) {
+            current = this.node;
+            depth = this.path.length;
+        }
+
+        while (depth < arguments.length) {
+            CompletionNode child = current.getChild(arguments[depth]);
+            if (child == null)
+                break;
+
+            current = child;
+            depth++;
+        }
+
+        if (root != this.root || current != this.node) {
+            this.root = root;
+            this.node = current;
+            this.path = Arrays.copyOf(arguments, depth);
+            this.folded = null;
+        }
+
+        String folded = (depth < arguments.length) ? fold(arguments[depth]) : "";
+        CompletionTrie trie = current.getCompletions();
+
+        //  Typing another character only has to walk that character from the previous result
+        if (trie == this.trie && this.folded != null && folded.startsWith(this.folded))
+            this.cursor = trie.find(this.cursor, folded, this.folded.length());
+        else
+            this.cursor = trie.find(trie.getRoot(), folded, 0);
+
+        this.trie = trie;
+        this.folded = folded;
+
+        List<String> children = trie.results(this.cursor);
+        int position = arguments.length - depth - 1;
+        DispatchPlan plan = current.getDispatchPlan();
+        if (position < 0 || plan == null)
+            return children;
+
+        List<String> suggestions = suggest(plan, position, arguments[arguments.length - 1]);
+        if (position > 0 || children.isEmpty())
+            return suggestions;
+        if (suggestions.isEmpty())
+            return children;
+
+        List<String> merged = new ArrayList<>(children.size() + suggestions.size());
+        merged.addAll(children);
+        merged.addAll(suggestions);
+
+        return Collections.unmodifiableList(merged);
+    }
+
+    private static List<String> suggest(DispatchPlan plan, int position, String typed) {
+        //  Named arguments are completed by the value after their identifier
+        int separator = typed.indexOf('=');
+        String prefix = typed.substring(separator + 1);
+        int index = (separator == -1) ? position : plan.indexOf(typed, 0, separator);
+
+        CommandArgument<?>[] arguments = plan.getArguments();
+        if (index < 0 || index >= arguments.length)
+            return List.of();
+
+        SuggestionProvider provider = arguments[index].getSuggestionProvider();
+        if (provider == null)
+            return List.of();
+
+        List<String> values = provider.suggest(prefix).get(prefix);
+        if (separator == -1 || values.isEmpty())
+            return values;
+
+        String identifier = typed.substring(0, separator + 1);
+        List<String> named = new ArrayList<>(values.size());
+        for (String value : values)
+            named.add(identifier + value);
+
+        return Collections.unmodifiableList(named);
+    }
+
+    private static boolean startsWith(String[] arguments, String[] path) {
+        if (arguments.length < path.length)
+            return false;
+        for (int i = 0; i < path.length; i++)
+            if (!arguments[i].equals(path[i]))
+                return false;
+        return true;
+    }
+
+    /**
+     * Forgets the previously matched node and prefix.
+     */
+    public synchronized void reset() {
+        this.root = null;
+        this.node = null;
+        this.path = NO_PATH;
+        this.trie = null;
+        this.cursor = null;
+        this.folded = null;
+    }
+
+}
@@ -0,0 +1,181 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+
+/**
+ * Case-insensitive prefix trie over a set of names, used to complete the names of
+ * the children of a {@link CommandNode}. The names are sorted by their case-folded
+ * form, such that all names below a node of the trie form a contiguous range, and
+ * completing a prefix only costs a walk over the characters of the prefix.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class CompletionTrie {
+
+    public static final CompletionTrie EMPTY = new CompletionTrie(new String[0]);
+
+    private final List<String> names;
+    private final Node root;
+
+    private CompletionTrie(String[] names) {
+        String[] folded = new String[names.length];
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < names.length; i++) {
+            folded[i] = fold(names[i]);
+            order[i] = i;
+        }
+
+        //  A stable sort keeps names that fold to the same value in their original order
+        Arrays.sort(order, Comparator.comparing(i -> folded[i]));
+
+        String[] sorted = new String[names.length];
+        this.root = new Node(0);
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = names[order[i]];
+            this.root.insert(folded[order[i]], i);
+        }
+
+        this.root.to = names.length;
+        this.names = List.of(sorted);
+    }
+
+    /**
+     * Creates a new {@link CompletionTrie} that contains the given names.
+     *
+     * @param names The names to complete.
+     * @return The {@link CompletionTrie} of the names.
+     */
+    public static @NotNull CompletionTrie of(@NotNull List<String> names) {
+        validate("names", List.class, names);
+        for (String name : names)
+            validate("name", String.class, name);
+
+        return names.isEmpty() ? EMPTY : new CompletionTrie(names.toArray(String[]::new));
+    }
+
+    /**
+     * Gets all names that start with the given prefix, ignoring case. The names are
+     * sorted by their case-folded form.
+     *
+     * @param prefix The prefix to complete.
+     * @return An unmodifiable list of names that start with the prefix.
+     */
+    public @NotNull List<String> complete(@NotNull String prefix) {
+        validate("prefix", String.class, prefix);
+
+        return results(find(this.root, fold(prefix), 0));
+    }
+
+    /**
+     * Gets the node that is reached by walking the given folded prefix, starting at
+     * the given node and the given offset in the prefix.
+     *
+     * @param from The node to start from.
+     * @param folded The case-folded prefix.
+     * @param offset The offset in the prefix at which the node was reached.
+     * @return The node that was reached, or null if no name starts with the prefix.
+     */
+    @Nullable Node find(@Nullable Node from, @NotNull String folded, int offset) {
+        Node current = from;
+        for (int i = offset; i < folded.length() && current != null; i++)
+            current = current.child(folded.charAt(i));
+        return current;
+    }
+
+    /**
+     * Gets all names below the given node.
+     *
+     * @param node The node of the trie.
+     * @return An unmodifiable list of the names below the node.
+     */
+    @NotNull List<String> results(@Nullable Node node) {
+        return (node == null) ? List.of() : this.names.subList(node.from, node.to);
+    }
+
+    @NotNull Node getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Gets the amount of names in the trie.
+     *
+     * @return The amount of names in the trie.
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys;
+        private Node[] children;
+        private final int from;
+        private int to;
+
+        private Node(int from) {
+            this.keys = NO_KEYS;
+            this.children = NO_CHILDREN;
+            this.from = from;
+            this.to = from;
+        }
+
+        private @Nullable Node child(char key) {
+            int index = Arrays.binarySearch(this.keys, key);
+
+            return (index < 0) ? null : this.children[index];
+        }
+
+        private void insert(String folded, int index) {
+            Node current = this;
+            for (int i = 0; i < folded.length(); i++) {
+                char key = folded.charAt(i);
+                int position = Arrays.binarySearch(current.keys, key);
+
+                if (position < 0) {
+                    //  Names are inserted in sorted order, so a new node starts the range of its names
+                    position = -position - 1;
+                    Node node = new Node(index);
+
+                    current.keys = insertAt(current.keys, position, key);
+                    current.children = insertAt(current.children, position, node);
+                }
+
+                current = current.children[position];
+                current.to = index + 1;
+            }
+        }
+
+        private static char[] insertAt(char[] array, int position, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, position);
+            System.arraycopy(array, position, result, position + 1, array.length - position);
+            result[position] = value;
+            return result;
+        }
+
+        private static Node[] insertAt(Node[] array, int position, Node value) {
+            Node[] result = new Node[array.length + 1];
+            System.arraycopy(array, 0, result, 0, position);
+            System.arraycopy(array, position, result, position + 1, array.length - position);
+            result[position] = value;
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,285 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCache;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCheck;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+
+/**
+ * Read-only view of the command tree that can be completed from any thread. When a
+ * root is added, an immutable copy of the root and its sub-commands is taken, such
+ * that completions never read the nodes of the tree while they are being modified.
+ * <p>
+ * The view reflects the sub-commands of a root at the moment it was added, which is
+ * after all of them have been processed.
+ * <p>
+ * Commanders only see the commands they are permitted to execute, together with the
+ * commands that lead to them. Such a filtered view is built once for every distinct
+ * combination of permission decisions, and is shared by all commanders with the same
+ * combination, such that the tree is only filtered again when a new combination shows up.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class CompletionView {
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new, empty {@link CompletionView}.
+     */
+    public CompletionView() {
+        this.snapshot = new Snapshot(Map.of(), Map.of());
+    }
+
+    /**
+     * Adds an immutable copy of the given root and its sub-commands to the view.
+     *
+     * @param root The root to add.
+     */
+    public void add(@NotNull CommandNode root) {
+        validate("root", CommandNode.class, root);
+
+        Node node = Node.of(root);
+        synchronized (this) {
+            //  Earlier roots take priority when names or aliases collide, like in the tree
+            Map<String, Node> roots = new HashMap<>(this.snapshot.roots);
+            roots.putIfAbsent(fold(root.getNameDefinition().getValue()), node);
+            for (CommandDefinition<String> alias : root.getAliasDefinitions())
+                roots.putIfAbsent(fold(alias.getValue()), node);
+
+            //  Roots and their checks are published together, filtered views are discarded as they do not contain the new root
+            Map<PermissionCheck, Integer> checks = new HashMap<>(this.snapshot.checks);
+            node.collect(checks);
+            this.snapshot = new Snapshot(Map.copyOf(roots), Map.copyOf(checks));
+        }
+    }
+
+    /**
+     * Finds the root with the given identifier, which is either the name or one of
+     * the aliases of the root, ignoring case.
+     *
+     * @param identifier The identifier to search for.
+     * @return The root with the given identifier, or null if none was found.
+     */
+    public @Nullable CompletionNode find(@NotNull String identifier) {
+        validate("identifier", String.class, identifier);
+
+        return this.snapshot.roots.get(fold(identifier));
+    }
+
+    /**
+     * Finds the root with the given identifier in the view of the given commander. The root
+     * and its sub-commands only contain the commands the commander is permitted to execute,
+     * and the commands that lead to them.
+     *
+     * @param identifier The identifier to search for.
+     * @param commander The commander that the view is filtered for.
+     * @param cache The cache of the permission decisions of the commander.
+     * @return The filtered root with the given identifier, or null if none was found or the commander may not use it.
+     */
+    public @Nullable CompletionNode find(@NotNull String identifier, @NotNull CommanderEntity commander, @NotNull PermissionCache cache) {
+        validate("identifier", String.class, identifier);
+
+        return findAll(commander, cache).get(fold(identifier));
+    }
+
+    /**
+     * Gets all roots in the view of the given commander, by their folded names and aliases.
+     * The roots and their sub-commands only contain the commands the commander is permitted
+     * to execute, and the commands that lead to them.
+     *
+     * @param commander The commander that the view is filtered for.
+     * @param cache The cache of the permission decisions of the commander.
+     * @return An unmodifiable map of the folded identifiers to the filtered roots.
+     */
+    public @NotNull Map<String, CompletionNode> findAll(@NotNull CommanderEntity commander, @NotNull PermissionCache cache) {
+        validate("commander", CommanderEntity.class, commander);
+        validate("cache", PermissionCache.class, cache);
+
+        //  A single snapshot is read, such that all roots in it have their checks collected
+        Snapshot snapshot = this.snapshot;
+        BitSet decisions = new BitSet(snapshot.checks.size());
+        for (Map.Entry<PermissionCheck, Integer> entry : snapshot.checks.entrySet())
+            if (entry.getKey().test(commander, cache))
+                decisions.set(entry.getValue());
+
+        return Collections.unmodifiableMap(snapshot.views.computeIfAbsent(decisions, snapshot::filter));
+    }
+
+    /**
+     * Gets the amount of filtered views that were built since the view last changed.
+     *
+     * @return The amount of filtered views.
+     */
+    public int getFilteredViewCount() {
+        return this.snapshot.views.size();
+    }
+
+    /**
+     * Removes all roots from the view.
+     */
+    public void clear() {
+        synchronized (this) {
+            this.snapshot = new Snapshot(Map.of(), Map.of());
+        }
+    }
+
+    /**
+     * The roots of the view and the distinct permission checks of their commands, together
+     * with the views that were filtered by the decisions on these checks.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, Node> roots;
+        private final Map<PermissionCheck, Integer> checks;
+        private final Map<BitSet, Map<String, Node>> views;
+
+        private Snapshot(Map<String, Node> roots, Map<PermissionCheck, Integer> checks) {
+            this.roots = roots;
+            this.checks = checks;
+            this.views = new ConcurrentHashMap<>();
+        }
+
+        private Map<String, Node> filter(BitSet decisions) {
+            Map<Node, Node> filtered = new IdentityHashMap<>();
+            Map<String, Node> roots = new HashMap<>();
+            for (Map.Entry<String, Node> entry : this.roots.entrySet()) {
+                Node node = entry.getValue().filter(this.checks, decisions, filtered);
+                if (node != null)
+                    roots.put(entry.getKey(), node);
+            }
+
+            return Map.copyOf(roots);
+        }
+
+    }
+
+    private static final class Node implements CompletionNode {
+
+        private final Map<String, Node> index;
+        private final List<String> names;
+        private final List<Node> children;
+        private final CompletionTrie completions;
+        private final DispatchPlan plan;
+
+        private Node(Map<String, Node> index, List<String> names, List<Node> children, DispatchPlan plan) {
+            this.index = index;
+            this.names = names;
+            this.children = children;
+            this.completions = CompletionTrie.of(names);
+            this.plan = plan;
+        }
+
+        private static Node of(CommandNode source) {
+            List<CommandNode> children = source.getChildren();
+            Map<String, Node> index = new HashMap<>();
+            List<String> names = new ArrayList<>(children.size());
+            List<Node> nodes = new ArrayList<>(children.size());
+
+            for (CommandNode child : children) {
+                String name = child.getNameDefinition().getValue();
+                Node node = of(child);
+
+                names.add(name);
+                nodes.add(node);
+                index.putIfAbsent(fold(name), node);
+                for (CommandDefinition<String> alias : child.getAliasDefinitions())
+                    index.putIfAbsent(fold(alias.getValue()), node);
+            }
+
+            return new Node(Map.copyOf(index), List.copyOf(names), List.copyOf(nodes), source.getDispatchPlan());
+        }
+
+        private void collect(Map<PermissionCheck, Integer> checks) {
+            if (this.plan != null)
+                for (PermissionCheck check : this.plan.getPermissionChecks())
+                    checks.putIfAbsent(check, checks.size());
+            for (Node child : this.children)
+                child.collect(checks);
+        }
+
+        private boolean isPermitted(Map<PermissionCheck, Integer> checks, BitSet decisions) {
+            PermissionCheck[] permissionChecks = this.plan.getPermissionChecks();
+            if (permissionChecks.length == 0)
+                return true;
+            for (PermissionCheck check : permissionChecks)
+                if (decisions.get(checks.get(check)))
+                    return true;
+            return false;
+        }
+
+        private @Nullable Node filter(Map<PermissionCheck, Integer> checks, BitSet decisions, Map<Node, Node> filtered) {
+            //  Aliases share their node, which is only filtered once
+            if (filtered.containsKey(this))
+                return filtered.get(this);
+
+            Map<String, Node> index = new HashMap<>();
+            List<String> names = new ArrayList<>(this.names.size());
+            List<Node> nodes = new ArrayList<>(this.children.size());
+            boolean unchanged = true;
+            for (int i = 0; i < this.children.size(); i++) {
+                Node child = this.children.get(i).filter(checks, decisions, filtered);
+                unchanged &= child == this.children.get(i);
+                if (child == null)
+                    continue;
+
+                names.add(this.names.get(i));
+                nodes.add(child);
+            }
+            for (Map.Entry<String, Node> entry : this.index.entrySet()) {
+                Node child = filtered.get(entry.getValue());
+                if (child != null)
+                    index.put(entry.getKey(), child);
+            }
+
+            //  Commands that cannot be executed are kept if they lead to commands that can, unverified leaves are kept as they are
+            boolean visible = (this.plan == null) ? this.children.isEmpty() || !nodes.isEmpty() : isPermitted(checks, decisions);
+            Node node = null;
+            if (visible && unchanged)
+                node = this;
+            else if (visible || !nodes.isEmpty())
+                node = new Node(Map.copyOf(index), List.copyOf(names), List.copyOf(nodes), this.plan);
+
+            filtered.put(this, node);
+            return node;
+        }
+
+        @Override
+        public @Nullable CompletionNode getChild(@NotNull String name) {
+            validate("name", String.class, name);
+
+            return this.index.get(fold(name));
+        }
+
+        @Override
+        public @NotNull CompletionTrie getCompletions() {
+            return this.completions;
+        }
+
+        @Override
+        public @Nullable DispatchPlan getDispatchPlan() {
+            return this.plan;
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.core.command.CommandLine;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Represents the result of a query on a {@link CommandTree} using a {@link CommandLine}.
+ * Instead of copying the remaining arguments, it points at the first token of the line
+ * that was not consumed by the query.
+ *
+ * @param node The node that was found.
+ * @param cursor The index of the first token that is inferred to be an argument.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public record QueryResultCursor(@NotNull CommandNode node, int cursor) {
+
+    public QueryResultCursor {
+        validate("node", CommandNode.class, node);
+        if (cursor < 0)
+            throw new IllegalArgumentException("Cursor cannot be negative");
+    }
+
+}
@@ -23,4 +23,8 @@ public class FailureTrigger extends CommandTrigger {
         return result.stream().allMatch(ActionItem.Result::isFailure);
     }
 
+    @Override
+    public boolean shouldTrigger(@NotNull CommandCapture capture) {
+        return capture.isAllFailure();
+    }
 }
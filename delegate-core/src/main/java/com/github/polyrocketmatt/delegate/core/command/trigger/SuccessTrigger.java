@@ -22,4 +22,9 @@ public class SuccessTrigger extends CommandTrigger {
     public boolean shouldTrigger(@NotNull List<ActionItem.Result> result) {
         return result.stream().allMatch(ActionItem.Result::isSuccess);
     }
+
+    @Override
+    public boolean shouldTrigger(@NotNull CommandCapture capture) {
+        return capture.isAllSuccess();
+    }
 }
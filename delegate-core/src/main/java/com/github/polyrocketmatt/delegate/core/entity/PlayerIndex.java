@@ -0,0 +1,163 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.entity;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.Suggestions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+
+/**
+ * Platform-independent index of the players that are online, which is kept up to date
+ * by the join and quit events of the platform. Players are found by their name, ignoring
+ * case, in constant time, and the names that start with a prefix are found through a
+ * sorted map of the case-folded names, without visiting any other players.
+ *
+ * @param <T> The type of the players of the platform.
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public final class PlayerIndex<T> {
+
+    private static final char HIGHEST = Character.MAX_VALUE;
+
+    private final Map<String, T> players;
+    private final NavigableMap<String, String> names;
+    private final SuggestionProvider suggestionProvider;
+
+    /**
+     * Creates a new, empty {@link PlayerIndex}.
+     */
+    public PlayerIndex() {
+        this.players = new ConcurrentHashMap<>();
+        this.names = new ConcurrentSkipListMap<>();
+        this.suggestionProvider = prefix -> Suggestions.of(complete(prefix).toArray(String[]::new));
+    }
+
+    /**
+     * Adds a player that joined to the index.
+     *
+     * @param name The name of the player.
+     * @param player The player.
+     */
+    public void add(@NotNull String name, @NotNull T player) {
+        validate("name", String.class, name);
+        validate("player", Object.class, player);
+
+        //  Both maps are updated while the entry of the player is locked, which keeps them consistent
+        this.players.compute(fold(name), (folded, current) -> {
+            this.names.put(folded, name);
+            return player;
+        });
+    }
+
+    /**
+     * Removes a player that quit from the index. If another player with the same name
+     * has been added in the meantime, that player is kept. Players are compared by identity.
+     *
+     * @param name The name of the player.
+     * @param player The player.
+     */
+    public void remove(@NotNull String name, @NotNull T player) {
+        validate("name", String.class, name);
+        validate("player", Object.class, player);
+
+        this.players.computeIfPresent(fold(name), (folded, current) -> {
+            if (current != player)
+                return current;
+
+            this.names.remove(folded);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the player with the given name, ignoring case.
+     *
+     * @param name The name of the player.
+     * @return The player, or null if no player with the given name is online.
+     */
+    public @Nullable T get(@NotNull String name) {
+        validate("name", String.class, name);
+
+        return this.players.get(fold(name));
+    }
+
+    /**
+     * Gets the player with the given name, ignoring case. If there is no such player,
+     * the player with the shortest name that starts with the given name is returned,
+     * which is how Bukkit matches player names.
+     *
+     * @param name The name or the start of the name of the player.
+     * @return The player, or null if no player name starts with the given name.
+     */
+    public @Nullable T match(@NotNull String name) {
+        validate("name", String.class, name);
+
+        String folded = fold(name);
+        T player = this.players.get(folded);
+        if (player != null)
+            return player;
+
+        String best = null;
+        for (String candidate : range(folded).keySet())
+            if (best == null || candidate.length() < best.length())
+                best = candidate;
+
+        return (best == null) ? null : this.players.get(best);
+    }
+
+    /**
+     * Gets the names of the players that start with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix of the names.
+     * @return An unmodifiable list of the names, sorted by their case-folded form.
+     */
+    public @NotNull List<String> complete(@NotNull String prefix) {
+        validate("prefix", String.class, prefix);
+
+        return List.copyOf(range(fold(prefix)).values());
+    }
+
+    private NavigableMap<String, String> range(String folded) {
+        //  All names that start with the prefix are sorted between the prefix and the prefix followed by the highest character
+        return this.names.subMap(folded, true, folded + HIGHEST, true);
+    }
+
+    /**
+     * Gets the {@link SuggestionProvider} that suggests the names of the players in the index.
+     *
+     * @return The {@link SuggestionProvider} of the index.
+     */
+    public @NotNull SuggestionProvider getSuggestionProvider() {
+        return this.suggestionProvider;
+    }
+
+    /**
+     * Gets the amount of players in the index.
+     *
+     * @return The amount of players in the index.
+     */
+    public int size() {
+        return this.players.size();
+    }
+
+    /**
+     * Removes all players from the index.
+     */
+    public void clear() {
+        this.players.clear();
+        this.names.clear();
+    }
+
+}
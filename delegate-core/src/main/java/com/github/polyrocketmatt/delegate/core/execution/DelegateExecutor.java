@@ -0,0 +1,260 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.execution;
+
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import com.github.polyrocketmatt.delegate.api.configuration.ExecutorConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Shared executor that runs the actions of asynchronous commands. The underlying
+ * pool is started lazily from the {@link ExecutorConfiguration} and can be drained
+ * when the platform is unhooked, after which it will be restarted on demand.
+ * <p>
+ * Tasks are never discarded. A task that cannot be queued, because the queue is full
+ * or because it was submitted while the executor was shutting down, is run on the
+ * calling thread instead.
+ * <p>
+ * Tasks submitted in {@link ExecutionMode#VIRTUAL} run on virtual threads when the
+ * runtime supports them (Java 21+). Since Delegate targets an older language level,
+ * virtual threads are created reflectively, falling back to the pool otherwise.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class DelegateExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = createVirtualThreadFactory("delegate-probe") != null;
+
+    //  Unlike CallerRunsPolicy, this also runs tasks that were submitted to a pool that is shutting down
+    private static final RejectedExecutionHandler CALLER_RUNS = (task, executor) -> task.run();
+
+    private final ExecutorConfiguration configuration;
+    private volatile ThreadPoolExecutor pool;
+    private volatile ExecutorService virtualExecutor;
+
+    /**
+     * Creates a new {@link DelegateExecutor} that is configured by the given configuration.
+     *
+     * @param configuration The configuration of the executor.
+     */
+    public DelegateExecutor(@NotNull ExecutorConfiguration configuration) {
+        validate("configuration", ExecutorConfiguration.class, configuration);
+
+        this.configuration = configuration;
+    }
+
+    /**
+     * Executes the given task on the shared pool. If the queue of the pool is full, or
+     * the pool is shutting down, the task is run on the calling thread instead.
+     *
+     * @param task The task to execute.
+     */
+    public void execute(@NotNull Runnable task) {
+        validate("task", Runnable.class, task);
+
+        getPool().execute(task);
+    }
+
+    /**
+     * Executes the given task in the given {@link ExecutionMode}. If virtual threads
+     * are not supported by the runtime, the task is executed on the shared pool. If the
+     * task cannot be queued, it is run on the calling thread instead.
+     *
+     * @param task The task to execute.
+     * @param mode The mode in which the task is executed.
+     */
+    public void execute(@NotNull Runnable task, @NotNull ExecutionMode mode) {
+        validate("task", Runnable.class, task);
+        validate("mode", ExecutionMode.class, mode);
+
+        ExecutorService virtual = (mode == ExecutionMode.VIRTUAL) ? getVirtualExecutor() : null;
+        if (virtual == null) {
+            getPool().execute(task);
+            return;
+        }
+
+        //  The virtual executor may have been shut down after it was retrieved
+        try {
+            virtual.execute(task);
+        } catch (RejectedExecutionException ex) {
+            task.run();
+        }
+    }
+
+    /**
+     * Checks if the runtime supports virtual threads.
+     *
+     * @return True if virtual threads are supported, false otherwise.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    /**
+     * Gets the maximum amount of workers that a single command invocation can occupy.
+     *
+     * @return The maximum amount of workers per invocation.
+     */
+    public int getStealCount() {
+        return Math.min(this.configuration.getStealCount(), this.configuration.getThreadCount());
+    }
+
+    /**
+     * Checks if the underlying pool is currently running.
+     *
+     * @return True if the pool is running, false otherwise.
+     */
+    public boolean isRunning() {
+        ThreadPoolExecutor current = this.pool;
+
+        return current != null && !current.isShutdown();
+    }
+
+    /**
+     * Stops accepting new tasks and waits for the submitted tasks to finish. If they
+     * don't finish within the given timeout, the remaining tasks are interrupted.
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return True if all tasks finished within the timeout, false otherwise.
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        validate("unit", TimeUnit.class, unit);
+
+        ExecutorService[] executors;
+        synchronized (this) {
+            executors = new ExecutorService[] { this.pool, this.virtualExecutor };
+            this.pool = null;
+            this.virtualExecutor = null;
+        }
+
+        for (ExecutorService executor : executors)
+            if (executor != null)
+                executor.shutdown();
+
+        //  Both executors share the same deadline
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean drained = true;
+        for (ExecutorService executor : executors) {
+            if (executor == null)
+                continue;
+
+            try {
+                if (!executor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    executor.shutdownNow();
+                    drained = false;
+                }
+            } catch (InterruptedException ex) {
+                executor.shutdownNow();
+                drained = false;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        return drained;
+    }
+
+    private ThreadPoolExecutor getPool() {
+        ThreadPoolExecutor current = this.pool;
+        if (current != null)
+            return current;
+
+        synchronized (this) {
+            if (this.pool == null)
+                this.pool = createPool();
+            return this.pool;
+        }
+    }
+
+    private @Nullable ExecutorService getVirtualExecutor() {
+        if (!VIRTUAL_THREADS_SUPPORTED)
+            return null;
+
+        ExecutorService current = this.virtualExecutor;
+        if (current != null)
+            return current;
+
+        synchronized (this) {
+            if (this.virtualExecutor == null)
+                this.virtualExecutor = createVirtualExecutor("%s-virtual".formatted(this.configuration.getThreadName()));
+            return this.virtualExecutor;
+        }
+    }
+
+    private static @Nullable ExecutorService createVirtualExecutor(String name) {
+        ThreadFactory factory = createVirtualThreadFactory(name);
+        if (factory == null)
+            return null;
+
+        try {
+            //  Executors.newThreadPerTaskExecutor(ThreadFactory) is only available on Java 21+
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static @Nullable ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            //  Thread.ofVirtual().name(name + "-", 1).factory()
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private ThreadPoolExecutor createPool() {
+        int threadCount = this.configuration.getThreadCount();
+        int queueBound = this.configuration.getQueueBound();
+        BlockingQueue<Runnable> queue = (queueBound == 0) ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(queueBound);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                queue, new NamedThreadFactory(this.configuration.getThreadName()), CALLER_RUNS);
+
+        //  Idle workers are released, so an unused executor doesn't hold on to any threads
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "%s-%d".formatted(this.name, this.counter.incrementAndGet()));
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+}
@@ -15,7 +15,6 @@ import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
 import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
-import com.github.polyrocketmatt.delegate.core.command.DelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
@@ -27,7 +26,14 @@ import com.github.polyrocketmatt.delegate.core.utils.Tuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
@@ -59,9 +65,60 @@ public class AttributeHandler implements IHandler {
     public VerifiedDelegateCommand process(@Nullable CommandNode parent, @NotNull AttributedDelegateCommand command, boolean register) throws CommandRegisterException {
         validate("command", AttributedDelegateCommand.class, command);
 
-        DelegateCommandBuilder chain = command.getAttributeChain();
-        Tuple<NameDefinition, DescriptionDefinition> header = processHeader(command.getAttributeChain());
-        AliasDefinition[] aliases = processAliases(chain);
+        CommandNode node = this.verify(parent, command);
+
+        //  Next, register the root node
+        if (register)
+            getDelegate().registerCommand(node);
+
+        //  Finally return the verified command
+        return (VerifiedDelegateCommand) node.getCommand();
+    }
+
+    /**
+     * Verifies the given chains in parallel on the common {@link ForkJoinPool}. Chains
+     * of separate roots do not share any state until they are added to the command tree,
+     * which is left to the caller.
+     *
+     * @param chains The chains of the roots to verify.
+     * @return The verified roots, in the order of the given chains.
+     * @throws CommandRegisterException If any chain is invalid, describing the errors of all chains.
+     */
+    public @NotNull List<CommandNode> verifyAll(@NotNull List<? extends DelegateCommandBuilder> chains) throws CommandRegisterException {
+        validate("chains", List.class, chains);
+        chains.forEach(chain -> validate("chain", DelegateCommandBuilder.class, chain));
+
+        CommandNode[] nodes = new CommandNode[chains.size()];
+        RuntimeException[] errors = new RuntimeException[chains.size()];
+        IntStream.range(0, chains.size()).parallel().forEach(i -> {
+            try {
+                nodes[i] = this.verify(null, new AttributedDelegateCommand(chains.get(i)));
+            } catch (RuntimeException ex) {
+                errors[i] = ex;
+            }
+        });
+
+        //  Errors are reported together, such that all invalid chains can be fixed at once
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < errors.length; i++)
+            if (errors[i] != null)
+                messages.add("[%d] %s".formatted(i, errors[i].getMessage()));
+        if (messages.isEmpty())
+            return List.of(nodes);
+
+        CommandRegisterException failure = new CommandRegisterException("Unable to verify %d of %d commands: %s"
+                .formatted(messages.size(), chains.size(), String.join(", ", messages)));
+        for (RuntimeException error : errors)
+            if (error != null)
+                failure.addSuppressed(error);
+        throw failure;
+    }
+
+    private CommandNode verify(@Nullable CommandNode parent, @NotNull AttributedDelegateCommand command) throws CommandRegisterException {
+        //  The chain is sorted by attribute type once, instead of being filtered again for every type
+        ClassifiedChain chain = new ClassifiedChain(command.getAttributeChain());
+        Tuple<NameDefinition, DescriptionDefinition> header = processHeader(chain);
+        AliasDefinition[] aliases = chain.aliases.toArray(AliasDefinition[]::new);
 
         this.checkUniqueName(parent, header.a().getValue());
 
@@ -69,12 +126,12 @@ public class AttributeHandler implements IHandler {
         for (AliasDefinition alias : aliases)
             this.checkUniqueName(parent, alias.getValue());
 
-        CommandBuffer<CommandArgument<?>> argumentBuffer = new CommandBuffer<>(this.processArguments(chain));
-        CommandBuffer<CommandProperty> propertyBuffer = new CommandBuffer<>(this.processProperties(chain));
-        CommandBuffer<CommandAction> actionBuffer = new CommandBuffer<>(this.processActions(chain));
-        CommandBuffer<CommandTrigger> triggerBuffer = new CommandBuffer<>(this.processTriggers(chain));
-        CommandBuffer<PermissionTier> permissionBuffer = new CommandBuffer<>(this.processPermissionTiers(chain));
-        CommandBuffer<ExceptAction> exceptBuffer = new CommandBuffer<>(this.processExceptions(chain));
+        CommandBuffer<CommandArgument<?>> argumentBuffer = new CommandBuffer<>(chain.arguments);
+        CommandBuffer<CommandProperty> propertyBuffer = new CommandBuffer<>(chain.properties);
+        CommandBuffer<CommandAction> actionBuffer = new CommandBuffer<>(chain.actions);
+        CommandBuffer<CommandTrigger> triggerBuffer = new CommandBuffer<>(chain.triggers);
+        CommandBuffer<PermissionTier> permissionBuffer = new CommandBuffer<>(chain.permissionTiers);
+        CommandBuffer<ExceptAction> exceptBuffer = new CommandBuffer<>(chain.exceptActions);
 
         //  Check identifiers after all attributes have been processed
         this.checkIdentifiers(chain);
@@ -97,111 +154,118 @@ public class AttributeHandler implements IHandler {
         //  Parse the CURRENT command's subcommands -> Auto-register to the parent in constructor
         this.processSubCommands(rootNode, chain);
 
-        //  Next, register the root node
-        if (register)
-            getDelegate().registerCommand(rootNode);
-
-        //  Finally return the verified command
-        return verifiedCommand;
+        return rootNode;
     }
 
-    private Tuple<NameDefinition, DescriptionDefinition> processHeader(DelegateCommandBuilder chain) throws AttributeException {
-        NameDefinition nameAttribute = chain.filter(NameDefinition.class).stream()
-                .map(NameDefinition.class::cast)
-                .findFirst()
-                .orElseThrow(() -> new AttributeException("Attribute chain must contain a name attribute"));
-        DescriptionDefinition descriptionAttribute = chain.filter(DescriptionDefinition.class).stream()
-                .map(DescriptionDefinition.class::cast)
-                .findFirst()
-                .orElseThrow(() -> new AttributeException("Attribute chain must contain a description attribute"));
-
-        return new Tuple<>(nameAttribute, descriptionAttribute);
-    }
+    private Tuple<NameDefinition, DescriptionDefinition> processHeader(ClassifiedChain chain) throws AttributeException {
+        if (chain.name == null)
+            throw new AttributeException("Attribute chain must contain a name attribute");
+        if (chain.description == null)
+            throw new AttributeException("Attribute chain must contain a description attribute");
 
-    private AliasDefinition[] processAliases(DelegateCommandBuilder chain) {
-        return chain.filter(AliasDefinition.class).stream()
-                .map(AliasDefinition.class::cast)
-                .toArray(AliasDefinition[]::new);
+        return new Tuple<>(chain.name, chain.description);
     }
 
-    private void checkIdentifiers(DelegateCommandBuilder chain) throws AttributeException {
-        List<CommandAttribute> filteredAttributes = chain.filter(attribute -> !(attribute instanceof SubcommandDefinition));
-        List<String> identifiers = filteredAttributes.stream().map(CommandAttribute::getIdentifier).toList();
-        if (filteredAttributes.size() != identifiers.stream().distinct().count()) {
-            List<String> duplicates = identifiers.stream()
-                    .filter(i -> identifiers.indexOf(i) != identifiers.lastIndexOf(i))
-                    .distinct()
-                    .toList();
-            throw new AttributeException("Attribute identifiers must be unique: %s".formatted(duplicates.get(0)));
-        }
+    private void checkIdentifiers(ClassifiedChain chain) throws AttributeException {
+        String duplicate = findDuplicate(chain.identifiers);
+        if (duplicate != null)
+            throw new AttributeException("Attribute identifiers must be unique: %s".formatted(duplicate));
     }
 
     private void checkUniqueName(CommandNode parent, String name) throws AttributeException {
-        if (parent != null) {
-            List<CommandNode> parentChildren = parent.getChildren();
-
-            if (parentChildren.stream().anyMatch(node -> node.getCommand().getNameDefinition().getValue().equals(name)))
-                throw new AttributeException("Command name must be unique: %s".formatted(name));
-        }
+        if (parent != null && parent.hasChildNamed(name))
+            throw new AttributeException("Command name must be unique: %s".formatted(name));
     }
 
-    private List<CommandArgument<?>> processArguments(DelegateCommandBuilder chain) {
-        return chain.getArguments();
-    }
+    private void processSubCommands(CommandNode parent, ClassifiedChain chain) {
+        //  Early abort if there are no sub-commands
+        if (chain.subcommands.isEmpty())
+            return;
 
-    private List<CommandProperty> processProperties(DelegateCommandBuilder chain) {
-        return chain.getProperties();
-    }
+        //  Process all attributed sub-commands
+        List<String> subCommandNames = new ArrayList<>(chain.subcommands.size());
+        for (SubcommandDefinition subcommand : chain.subcommands) {
+            VerifiedDelegateCommand processed = this.process(parent, new AttributedDelegateCommand(subcommand.getValue()), false);
 
-    private List<CommandAction> processActions(DelegateCommandBuilder chain) {
-        return chain.getActions();
-    }
+            subCommandNames.add(processed.getNameDefinition().getValue());
+        }
 
-    private List<CommandTrigger> processTriggers(DelegateCommandBuilder chain) {
-        return chain.getTriggers();
+        //  Make sure all verified sub-commands have unique names
+        String duplicate = findDuplicate(subCommandNames);
+        if (duplicate != null)
+            throw new AttributeException("Subcommand names must be unique: %s".formatted(duplicate));
     }
 
-    private List<PermissionTier> processPermissionTiers(DelegateCommandBuilder chain) {
-        return chain.getPermissionTiers();
-    }
+    private static @Nullable String findDuplicate(List<String> values) {
+        Set<String> seen = new HashSet<>();
+        boolean duplicated = false;
+        for (String value : values) {
+            if (!seen.add(value)) {
+                duplicated = true;
+                break;
+            }
+        }
 
-    private List<ExceptAction> processExceptions(DelegateCommandBuilder chain) {
-        return chain.getExceptActions();
+        if (!duplicated)
+            return null;
+
+        //  The first value that occurs more than once is reported, rather than the first repetition
+        Map<String, Integer> occurrences = new LinkedHashMap<>();
+        for (String value : values)
+            occurrences.merge(value, 1, Integer::sum);
+        for (Map.Entry<String, Integer> entry : occurrences.entrySet())
+            if (entry.getValue() > 1)
+                return entry.getKey();
+        return null;
     }
 
-    private void processSubCommands(CommandNode parent, DelegateCommandBuilder chain) {
-        //  In the current chain, find all sub-command definitions
-        List<DelegateCommandBuilder> subCommandChains = chain.filter(SubcommandDefinition.class)
-                .stream()
-                .map(SubcommandDefinition.class::cast)
-                .map(SubcommandDefinition::getValue)
-                .toList();
-
-        //  Early abort if there are no sub-commands
-        if (subCommandChains.isEmpty())
-            return;
-
-        List<AttributedDelegateCommand> attributedSubCommands = subCommandChains.stream()
-                .map(AttributedDelegateCommand::new)
-                .toList();
-
-        //  Process all attributed sub-commands
-        List<VerifiedDelegateCommand> processedSubCommands = attributedSubCommands.stream()
-                .map(command -> this.process(parent, command, false))
-                .toList();
-
-        //  Make sure all verified sub-commands have unique names
-        List<String> subCommandNames = processedSubCommands.stream()
-                .map(DelegateCommand::getNameDefinition)
-                .map(NameDefinition::getValue)
-                .toList();
-        if (subCommandNames.size() != subCommandNames.stream().distinct().count()) {
-            List<String> duplicates = subCommandNames.stream()
-                    .filter(i -> subCommandNames.indexOf(i) != subCommandNames.lastIndexOf(i))
-                    .distinct()
-                    .toList();
-            throw new AttributeException("Subcommand names must be unique: %s".formatted(duplicates.get(0)));
+    /**
+     * The attributes of a chain, sorted by their type in a single pass over the chain.
+     */
+    private static final class ClassifiedChain {
+
+        private NameDefinition name;
+        private DescriptionDefinition description;
+        private final List<AliasDefinition> aliases = new ArrayList<>();
+        private final List<SubcommandDefinition> subcommands = new ArrayList<>();
+        private final List<CommandArgument<?>> arguments = new ArrayList<>();
+        private final List<CommandProperty> properties = new ArrayList<>();
+        private final List<CommandAction> actions = new ArrayList<>();
+        private final List<CommandTrigger> triggers = new ArrayList<>();
+        private final List<PermissionTier> permissionTiers = new ArrayList<>();
+        private final List<ExceptAction> exceptActions = new ArrayList<>();
+        private final List<String> identifiers = new ArrayList<>();
+
+        private ClassifiedChain(DelegateCommandBuilder chain) {
+            for (CommandAttribute attribute : chain.getAttributes()) {
+                //  Sub-commands are identified by their own chain
+                if (attribute instanceof SubcommandDefinition subcommand) {
+                    this.subcommands.add(subcommand);
+                    continue;
+                }
+
+                this.identifiers.add(attribute.getIdentifier());
+                if (attribute instanceof NameDefinition nameDefinition && this.name == null)
+                    this.name = nameDefinition;
+                else if (attribute instanceof DescriptionDefinition descriptionDefinition && this.description == null)
+                    this.description = descriptionDefinition;
+                else if (attribute instanceof AliasDefinition alias)
+                    this.aliases.add(alias);
+                else if (attribute instanceof CommandArgument<?> argument)
+                    this.arguments.add(argument);
+                else if (attribute instanceof CommandProperty property)
+                    this.properties.add(property);
+                else if (attribute instanceof CommandAction action)
+                    this.actions.add(action);
+                else if (attribute instanceof CommandTrigger trigger)
+                    this.triggers.add(trigger);
+                else if (attribute instanceof PermissionTier tier)
+                    this.permissionTiers.add(tier);
+                else if (attribute instanceof ExceptAction exceptAction)
+                    this.exceptActions.add(exceptAction);
+            }
         }
+
     }
 
 }
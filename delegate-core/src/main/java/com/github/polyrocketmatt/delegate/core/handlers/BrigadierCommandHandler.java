@@ -5,42 +5,43 @@ package com.github.polyrocketmatt.delegate.core.handlers;
 
 import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
-import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.argument.Context;
 import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
-import com.github.polyrocketmatt.delegate.core.command.properties.AsyncProperty;
-import com.github.polyrocketmatt.delegate.core.command.properties.CatchExceptionProperty;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.RulePipeline;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.LiteralMessage;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
-import com.mojang.brigadier.context.ParsedArgument;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 import static com.mojang.brigadier.builder.RequiredArgumentBuilder.argument;
 
 public class BrigadierCommandHandler extends DelegateCommandHandler {
 
+    private final ThreadLocal<CompletableFuture<CommandCapture>> pending = new ThreadLocal<>();
     private CommandDispatcher<CommanderEntity> dispatcher;
 
     public BrigadierCommandHandler() {
-        super(32, 8);
-
         this.dispatcher = new CommandDispatcher<>();
     }
 
@@ -78,6 +79,35 @@ public class BrigadierCommandHandler extends DelegateCommandHandler {
         }
     }
 
+    /**
+     * Handles the given {@link CommandDispatchInformation} without waiting for the actions
+     * of the command to finish.
+     *
+     * @param information The {@link CommandDispatchInformation} to handle.
+     * @return A stage that completes with the {@link CommandCapture} once the actions, triggers
+     * and event of the command have been executed.
+     */
+    @Override
+    public CompletionStage<CommandCapture> handleAsync(CommandDispatchInformation information) {
+        String command = information.command() + " " + String.join(" ", information.arguments());
+        CompletableFuture<CommandCapture> result = new CompletableFuture<>();
+
+        //  Brigadier executes the command on the calling thread, which picks up the pending result
+        this.pending.set(result);
+        try {
+            dispatcher.execute(command, information.commander());
+        } catch (CommandSyntaxException ex) {
+            result.completeExceptionally(new CommandExecutionException(information, ex.getMessage(), FeedbackType.BRIGADIER_SYNTAX,
+                    new Object[]{ ex.getMessage() }));
+        } catch (RuntimeException ex) {
+            result.completeExceptionally(ex);
+        } finally {
+            this.pending.remove();
+        }
+
+        return result;
+    }
+
     private LiteralArgumentBuilder<CommanderEntity> constructCommand(CommandNode node) throws CommandRegisterException {
         //  For any given node, we receive a possible command. We thus create a literal argument builder
         LiteralArgumentBuilder<CommanderEntity> builder = LiteralArgumentBuilder.literal(node.getNameDefinition().getValue());
@@ -138,77 +168,107 @@ public class BrigadierCommandHandler extends DelegateCommandHandler {
         //  Only if there is a verified command on the current level do we add the command actions/triggers/excepts
         if (node.isVerified()) {
             VerifiedDelegateCommand command = (VerifiedDelegateCommand) node.getCommand();
-            CommandBuffer<CommandAction> actions = command.getActionBuffer();
-
-            //  Check if command can be executed asynchronous
-            boolean async = command.getPropertyBuffer().stream()
-                    .anyMatch(property -> property instanceof AsyncProperty);
-
-            //  Check if the command is executed safely
-            boolean safeExecute = command.getPropertyBuffer().stream()
-                    .anyMatch(property -> property instanceof CatchExceptionProperty);
-
-            if (actions != null)
-                builder.executes(context -> {
-                    //  Resolve context
-                    List<Argument<?>> arguments = resolveContext(context);
-                    String[] args = arguments.stream()
-                            .map(Argument::identifier)
-                            .toArray(String[]::new);
-                    CommandDispatchInformation information = new CommandDispatchInformation(context.getSource(), node.getNameDefinition().getValue(), args);
-
-                    try {
-                        //  This is the execution loop where actions, excepts, triggers and events are executed
-                        //      1. Actions
-                        List<CommandCapture.Capture> captures = execute(context.getSource(), actions, arguments, async);
-                        CommandCapture capture = new CommandCapture(captures);
-
-                        //      2. Triggers
-                        this.executeTriggers(information, command, capture);
-
-                        //      3. Fire event
-                        return getDelegate().getPlatform().dispatch(information, capture) ? 1 : 0;
-                    } catch (Exception ex) {
-                        //      4. Excepts
-                        if (safeExecute) {
-                            CommandBuffer<ExceptAction> exceptActions = command.getExceptBuffer();
-                            List<String> exceptArguments = new ArrayList<>();
-
-                            exceptArguments.add(information.command());
-                            exceptArguments.addAll(Arrays.asList(information.arguments()));
-
-                            if (exceptActions != null) {
-                                for (ExceptAction action : exceptActions)
-                                    action.run(information.commander(), FeedbackType.BRIGADIER_EXCEPTION, exceptArguments);
-                            }
+            DispatchPlan plan = command.getDispatchPlan();
+            String name = node.getNameDefinition().getValue();
+            String[] identifiers = Arrays.stream(plan.getArguments())
+                    .filter(CommandArgument::isRequired)
+                    .map(CommandArgument::getIdentifier)
+                    .toArray(String[]::new);
+
+            builder.executes(context -> {
+                //  Resolve context
+                Context arguments = resolveContext(context, plan);
+                CommandDispatchInformation information = new CommandDispatchInformation(context.getSource(), name, identifiers.clone());
+
+                //  If the command was dispatched through handleAsync, the result is forwarded to it
+                CompletableFuture<CommandCapture> pending = this.pending.get();
+
+                //  Asynchronous commands chain their triggers and event after the last group of actions
+                if (plan.isAsync()) {
+                    dispatch(information, command, arguments).whenComplete((capture, ex) -> {
+                        if (ex == null) {
+                            if (pending != null)
+                                pending.complete(capture);
+
+                            return;
                         }
-                        return generateEventFromException(information, ex) ? 1 : 0;
-                    }
-                });
+
+                        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                        if (cause instanceof Exception exception)
+                            except(information, plan, exception);
+                        if (pending != null)
+                            pending.completeExceptionally(cause);
+                    });
+
+                    return 1;
+                }
+
+                try {
+                    //  This is the execution loop where actions, excepts, triggers and events are executed
+                    //      1. Actions
+                    CommandCapture.Capture[] captures = execute(context.getSource(), plan, arguments);
+                    CommandCapture capture = CommandCapture.of(captures);
+
+                    //      2. Triggers
+                    this.executeTriggers(information, command, capture);
+
+                    //      3. Fire event
+                    boolean dispatched = getDelegate().getPlatform().dispatch(information, capture);
+                    if (pending != null)
+                        pending.complete(capture);
+
+                    return dispatched ? 1 : 0;
+                } catch (Exception ex) {
+                    if (pending != null)
+                        pending.completeExceptionally(ex);
+
+                    //      4. Excepts
+                    return except(information, plan, ex) ? 1 : 0;
+                }
+            });
         } else
             throw new CommandRegisterException("Command node must be verified before an execution scheme can be constructed!");
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Argument<?>> resolveContext(CommandContext<CommanderEntity> context) throws CommandRegisterException {
-        //  Hacky reflection way to get the arguments from the context
-        try {
-            Field argumentsMap = context.getClass().getField("arguments");
-            argumentsMap.setAccessible(true);
-            Map<String, ParsedArgument<CommanderEntity, ?>> arguments = (Map<String, ParsedArgument<CommanderEntity, ?>>) argumentsMap.get(null);
-            List<Argument<?>> parsedArguments = new ArrayList<>();
+    private boolean except(CommandDispatchInformation information, DispatchPlan plan, Exception ex) {
+        if (plan.isCatchingExceptions())
+            for (ExceptAction action : plan.getExceptActions())
+                action.run(information, FeedbackType.BRIGADIER_EXCEPTION);
 
-            for (String key : arguments.keySet()) {
-                ParsedArgument<CommanderEntity, ?> argument = arguments.get(key);
-                Argument<?> parsedArgument = new Argument<>(key, argument.getResult());
+        //  The failure only carries the message, so the stack of the exception is printed while debugging
+        if (getDelegate().isVerbose())
+            ex.printStackTrace();
 
-                parsedArguments.add(parsedArgument);
-            }
+        return generateEventFromFailure(new CommandFailure(information, FeedbackType.BRIGADIER_EXCEPTION, new Object[] { String.valueOf(ex.getMessage()) }));
+    }
 
-            return parsedArguments;
-        } catch (IllegalArgumentException | IllegalAccessException | NoSuchFieldException ex) {
+    private Context resolveContext(CommandContext<CommanderEntity> context, DispatchPlan plan) throws CommandRegisterException, CommandSyntaxException {
+        CommandArgument<?>[] commandArguments = plan.getArguments();
+        RulePipeline[] rulePipelines = plan.getRulePipelines();
+        List<Argument<?>> arguments = new ArrayList<>(commandArguments.length);
+
+        //  Arguments are resolved in the order of their slots, optional arguments are not part of the tree
+        try {
+            for (CommandArgument<?> argument : commandArguments)
+                arguments.add(argument.isRequired() ? resolveArgument(context, argument) : argument.getDefault());
+        } catch (IllegalArgumentException ex) {
             throw new CommandRegisterException("Unable to resolve arguments from context.", ex);
         }
+
+        //  Rules are checked on the values Brigadier already parsed, failing like any other invalid argument
+        for (int i = 0; i < commandArguments.length; i++) {
+            String failure = rulePipelines[i].test(commandArguments[i], null, arguments.get(i).output());
+            if (failure != null)
+                throw new SimpleCommandExceptionType(new LiteralMessage(failure)).create();
+        }
+
+        return new Context(plan.getArgumentSlots(), arguments);
+    }
+
+    private <T> Argument<T> resolveArgument(CommandContext<CommanderEntity> context, CommandArgument<T> argument) {
+        String identifier = argument.getIdentifier();
+
+        return new Argument<>(identifier, context.getArgument(identifier, argument.getArgumentType()));
     }
 
     @Override
@@ -0,0 +1,50 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.handlers;
+
+import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
+import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+
+/**
+ * The reason a command could not be dispatched because of the input of its commander,
+ * like an unknown command or an argument of the wrong type. Such failures are returned
+ * by the handler instead of thrown, as building an exception for every mistyped command
+ * is far more expensive than reporting it.
+ * <p>
+ * A {@link CommandExecutionException} is only built if a caller needs one, in which case
+ * its stack trace is only captured in verbose mode.
+ *
+ * @param information The {@link CommandDispatchInformation} that failed.
+ * @param type The {@link FeedbackType} of the failure.
+ * @param args The arguments of the feedback.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+record CommandFailure(@NotNull CommandDispatchInformation information, @NotNull FeedbackType type, @NotNull Object[] args) {
+
+    /**
+     * Renders the configured feedback of the failure.
+     *
+     * @return The feedback for the commander.
+     */
+    @NotNull String render() {
+        return getDelegate().getConfiguration().getTemplate(this.type).render(this.args);
+    }
+
+    /**
+     * Builds a {@link CommandExecutionException} that describes the failure.
+     *
+     * @return The exception of the failure.
+     */
+    @NotNull CommandExecutionException toException() {
+        return new CommandExecutionException(this.information, getDelegate().getConfiguration().getTemplate(this.type),
+                this.type, this.args, getDelegate().isVerbose());
+    }
+
+}
@@ -3,116 +3,141 @@
 
 package com.github.polyrocketmatt.delegate.core.handlers;
 
-import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
 import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
 import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import com.github.polyrocketmatt.delegate.api.command.trigger.CommandTrigger;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
-import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import com.github.polyrocketmatt.delegate.api.handlers.CommandHandler;
 import com.github.polyrocketmatt.delegate.core.DelegateCore;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
+import com.github.polyrocketmatt.delegate.core.execution.DelegateExecutor;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public abstract class DelegateCommandHandler extends CommandHandler {
 
-    private final int availableProcessors;
-    private final int maxStealCount;
+    public abstract void clearCommandCache();
 
-    public DelegateCommandHandler(int availableProcessors, int maxStealCount) {
-        this.availableProcessors = availableProcessors;
-        this.maxStealCount = maxStealCount;
+    boolean generateEventFromFailure(CommandFailure failure) {
+        //  Failures are caused by input, so their stack is only of interest while debugging
+        return generateEvent(failure.information(), failure.render(), DelegateCore.getDelegate().isVerbose() ? failure.toException() : null);
     }
 
-    public abstract void clearCommandCache();
-
-    protected boolean generateEventFromException(CommandDispatchInformation information, Exception ex) {
-        StackTraceElement[] stackTrace = ex.getStackTrace();
+    private boolean generateEvent(CommandDispatchInformation information, String message, Exception ex) {
         StringBuilder builder = new StringBuilder("\n");
-        for (StackTraceElement element : stackTrace)
-            builder.append(element.toString()).append("     \n");
+        if (ex != null && DelegateCore.getDelegate().isVerbose())
+            for (StackTraceElement element : ex.getStackTrace())
+                builder.append(element.toString()).append("     \n");
 
-        CommandCapture capture = new CommandCapture(List.of(
-                new CommandCapture.Capture("exception", new ActionItem<>(ActionItem.Result.FAILURE, ex.getMessage())),
+        CommandCapture capture = CommandCapture.of(
+                new CommandCapture.Capture("exception", new ActionItem<>(ActionItem.Result.FAILURE, message)),
                 new CommandCapture.Capture("stacktrace", new ActionItem<>(ActionItem.Result.FAILURE, builder.toString()))
-        ));
+        );
 
         return DelegateCore.getDelegate().getPlatform().dispatch(information, capture);
     }
 
-    protected CommandExecutionException exceptOrThrow(
+    CommandFailure fail(
             CommandDispatchInformation information,
             VerifiedDelegateCommand cmd,
             FeedbackType type,
-            Object... args)
-            throws CommandExecutionException {
+            Object... args) {
         if (cmd != null) {
-            CommandBuffer<ExceptAction> actions = cmd.getExceptBuffer();
-            List<String> arguments = new ArrayList<>();
+            for (ExceptAction action : cmd.getDispatchPlan().getExceptActions())
+                action.run(information, type);
+        }
 
-            arguments.add(information.command());
-            arguments.addAll(Arrays.asList(information.arguments()));
+        return new CommandFailure(information, type, args);
+    }
 
-            if (actions != null) {
-                for (ExceptAction action : actions)
-                    action.run(information.commander(), type, arguments);
-            }
-        }
+    protected CommandCapture.Capture[] execute(CommanderEntity commander, DispatchPlan plan, List<Argument<?>> arguments) {
+        //  Actions are already grouped in order of precedence, so every action writes to its own slot
+        CommandCapture.Capture[] captures = new CommandCapture.Capture[plan.getActionCount()];
+        int slot = 0;
+        for (CommandAction[] group : plan.getActionGroups())
+            for (CommandAction action : group)
+                captures[slot++] = new CommandCapture.Capture(action.getIdentifier(), action.run(commander, arguments));
 
-        return new CommandExecutionException(information, DelegateCore.getDelegate().getConfiguration().get(type), type, args);
+        return captures;
     }
 
-    protected List<CommandCapture.Capture> execute(CommanderEntity commander, CommandBuffer<CommandAction> actions, List<Argument<?>> arguments, boolean async) {
-        //  Run all command actions in order of precedence
-        List<Integer> precedences = actions.stream()
-                .map(CommandAction::getPrecedence)
-                .sorted()
-                .toList();
-
-        //  Initialize parameters
-        int availableThreadCount = Math.min(this.availableProcessors, this.maxStealCount);
-        int threadCount = Math.min(availableThreadCount, actions.size());
-
-        //  Verification of arguments ensures correct order of arguments
-        List<CommandCapture.Capture> captures = new ArrayList<>();
-        ExecutorService executor = new ForkJoinPool(threadCount);
-
-        for (int precedence : precedences) {
-            List<CommandAction> actionsWithCurrentPrecedence = actions.stream()
-                    .filter(action -> action.getPrecedence() == precedence)
-                    .toList();
-
-            if (async) {
-                for (CommandAction action : actionsWithCurrentPrecedence)
-                    executor.execute(() -> captures.add(new CommandCapture.Capture(action.getIdentifier(), action.run(commander, arguments))));
-            } else {
-                for (CommandAction action : actionsWithCurrentPrecedence)
-                    captures.add(new CommandCapture.Capture(action.getIdentifier(), action.run(commander, arguments)));
+    protected CompletableFuture<CommandCapture.Capture[]> executeAsync(CommanderEntity commander, DispatchPlan plan, List<Argument<?>> arguments) {
+        //  Synchronous commands are executed right away, resulting in a completed future
+        if (!plan.isAsync()) {
+            try {
+                return CompletableFuture.completedFuture(execute(commander, plan, arguments));
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
             }
         }
 
-        return captures;
+        DelegateExecutor executor = DelegateCore.getDelegate().getExecutor();
+        CommandCapture.Capture[] captures = new CommandCapture.Capture[plan.getActionCount()];
+        ExecutionMode mode = plan.getExecutionMode();
+        Executor submitter = task -> executor.execute(task, mode);
+        boolean virtual = mode == ExecutionMode.VIRTUAL && DelegateExecutor.isVirtualThreadSupported();
+        int stealCount = executor.getStealCount();
+
+        //  A group is only started once all actions of the previous group have finished
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        int base = 0;
+        for (CommandAction[] group : plan.getActionGroups()) {
+            //  Each group is split in at most as many slices as a single invocation can occupy workers,
+            //  except for virtual threads, where every action gets its own thread
+            int slices = virtual ? group.length : Math.min(stealCount, group.length);
+            int groupBase = base;
+
+            chain = chain.thenCompose(ignored -> {
+                CompletableFuture<?>[] tasks = new CompletableFuture[slices];
+
+                for (int slice = 0; slice < slices; slice++) {
+                    int offset = slice;
+
+                    //  Slots are disjoint, completing the tasks publishes them to the next stage
+                    tasks[slice] = CompletableFuture.runAsync(() -> {
+                        for (int i = offset; i < group.length; i += slices)
+                            captures[groupBase + i] = new CommandCapture.Capture(group[i].getIdentifier(), group[i].run(commander, arguments));
+                    }, submitter);
+                }
+
+                return CompletableFuture.allOf(tasks);
+            });
+            base += group.length;
+        }
+
+        return chain.thenApply(ignored -> captures);
+    }
+
+    protected CompletableFuture<CommandCapture> dispatch(CommandDispatchInformation information, VerifiedDelegateCommand command, List<Argument<?>> arguments) {
+        //  Triggers and the event only see the capture once all actions have finished
+        return executeAsync(information.commander(), command.getDispatchPlan(), arguments).thenApply(captures -> {
+            CommandCapture capture = CommandCapture.of(captures);
+
+            executeTriggers(information, command, capture);
+            DelegateCore.getDelegate().getPlatform().dispatch(information, capture);
+
+            return capture;
+        });
     }
 
     protected void executeTriggers(CommandDispatchInformation information, VerifiedDelegateCommand command, CommandCapture capture) {
-        CommandBuffer<CommandTrigger> triggers = command.getTriggerBuffer();
-        List<ActionItem.Result> results = capture.getResults();
+        CommandTrigger[] triggers = command.getDispatchPlan().getTriggers();
+        if (triggers.length == 0)
+            return;
 
         //  TODO: Async triggers?
-        triggers.forEach(trigger -> {
-            if (trigger.shouldTrigger(results))
+        for (CommandTrigger trigger : triggers)
+            if (trigger.shouldTrigger(capture))
                 trigger.call(information, capture);
-        });
     }
 
 }
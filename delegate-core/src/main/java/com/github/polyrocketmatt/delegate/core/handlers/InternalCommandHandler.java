@@ -3,34 +3,43 @@
 
 package com.github.polyrocketmatt.delegate.core.handlers;
 
-import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
 import com.github.polyrocketmatt.delegate.api.command.IDelegateCommand;
+import com.github.polyrocketmatt.delegate.api.command.RegistrationBatch;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.argument.Context;
 import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
-import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
-import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
+import com.github.polyrocketmatt.delegate.core.command.CommandLine;
+import com.github.polyrocketmatt.delegate.core.command.DispatchPlan;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
-import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
-import com.github.polyrocketmatt.delegate.core.command.properties.AsyncProperty;
-import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
-import com.github.polyrocketmatt.delegate.core.command.properties.CatchExceptionProperty;
-import com.github.polyrocketmatt.delegate.core.command.properties.IgnoreNonPresentProperty;
-import com.github.polyrocketmatt.delegate.core.command.properties.IgnoreNullProperty;
+import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.RulePipeline;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandTree;
-import com.github.polyrocketmatt.delegate.core.command.tree.QueryResultNode;
+import com.github.polyrocketmatt.delegate.core.command.tree.CompletionNode;
+import com.github.polyrocketmatt.delegate.core.command.tree.CompletionSession;
+import com.github.polyrocketmatt.delegate.core.command.tree.CompletionView;
+import com.github.polyrocketmatt.delegate.core.command.tree.QueryResultCursor;
 import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 
 /**
@@ -42,20 +51,38 @@ import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 public class InternalCommandHandler extends DelegateCommandHandler {
 
     private final CommandTree commandTree;
+    private final CompletionView completionView;
+    private final Map<Object, CompletionSession> sessions;
+    private final List<IDelegateCommand> pendingRegistrations;
+    private int openBatches;
 
     /**
      * Creates a new {@link InternalCommandHandler} instance.
      */
-    //  TODO: Add a configuration for max available processors
     public InternalCommandHandler() {
-        super(32, 8);
         this.commandTree = new CommandTree();
+        this.completionView = new CompletionView();
+
+        //  Sessions are forgotten together with the sender they belong to
+        this.sessions = Collections.synchronizedMap(new WeakHashMap<>());
+        this.pendingRegistrations = new ArrayList<>();
+        this.openBatches = 0;
     }
 
     public CommandTree getCommandTree() {
         return commandTree;
     }
 
+    /**
+     * Gets the read-only {@link CompletionView} of the command tree, which can be
+     * completed from any thread.
+     *
+     * @return The {@link CompletionView} of the command tree.
+     */
+    public CompletionView getCompletionView() {
+        return completionView;
+    }
+
     /**
      * Adds a {@link CommandNode} to the command tree structure.
      *
@@ -71,10 +98,11 @@ public class InternalCommandHandler extends DelegateCommandHandler {
         //  We check the current node against the current parent's sub-commands
         if (level == null) {
             //  If the parent is null, we're just checking the root nodes
-            if (this.commandTree.getRoots().stream().anyMatch(rootNode -> match(node, rootNode)))
+            if (hasRoot(node.getNameDefinition().getValue()))
                 throw new CommandRegisterException("Cannot overwrite command node with the same name: %s".formatted(node.getNameDefinition().getValue()));
             else {
                 this.commandTree.add(node);
+                this.completionView.add(node);
 
                 //  Since we're adding a root, we must register the command with the platform
                 registerToServer(node.getCommand());
@@ -84,217 +112,293 @@ public class InternalCommandHandler extends DelegateCommandHandler {
 
     private void registerToServer(IDelegateCommand command) {
         getDelegate().getPlatform().registerToPlatform(command);
-        getDelegate().getPlatform().registerToPlayers(command);
-    }
 
-    private boolean match(CommandNode left, CommandNode right) {
-        return left.getNameDefinition().getValue().equals(right.getNameDefinition().getValue());
+        //  Within a batch, the players only receive the commands once the batch is closed
+        synchronized (this.pendingRegistrations) {
+            if (this.openBatches > 0) {
+                this.pendingRegistrations.add(command);
+                return;
+            }
+        }
+
+        getDelegate().getPlatform().registerToPlayers(command);
     }
 
     /**
-     * Handles the given {@link CommandDispatchInformation} and tries to execute the
-     * command associated with the information.
+     * Opens a {@link RegistrationBatch}. Roots that are registered while a batch is open are
+     * registered to the platform immediately, but are sent to the players together once the
+     * outermost batch is closed.
      *
-     * @param commandDispatchInformation The {@link CommandDispatchInformation} to handle.
-     * @return True if the information was handled successfully, false otherwise.
-     * @throws CommandExecutionException If an error occurred while parsing the information.
+     * @return The opened batch.
      */
-    //  TODO: Add default execution routines on exception against argument parsing
-    @Override
-    public boolean handle(CommandDispatchInformation commandDispatchInformation) throws CommandExecutionException {
-        CommandDispatchInformation information = commandDispatchInformation;
-        CommanderEntity commander = information.commander();
-        String commandName = information.command();
-        String[] commandArguments = information.arguments();
-        boolean safeExecuteTopLevel = getDelegate().isVerbose();
-
-        //  Parse information arguments until command in root node doesn't exist
-        CommandNode root = this.commandTree.find(commandName);
+    public RegistrationBatch beginRegistration() {
+        synchronized (this.pendingRegistrations) {
+            this.openBatches++;
+        }
 
-        //  If the root is null, the command doesn't exist
-        if (root == null)
-            return generateEventFromException(information, exceptOrThrow(information, null, FeedbackType.COMMAND_NON_EXISTENT, commandName));
+        return new RegistrationBatch() {
+            private boolean closed = false;
 
-        //  Parse in arguments to find the deepest node
-        QueryResultNode queryResultNode = root.findDeepest(commandName, commandArguments);
-        CommandNode executionNode = queryResultNode.node();
-        String matchedCommandPattern = queryResultNode.commandPattern();
+            @Override
+            public void close() throws CommandRegisterException {
+                List<IDelegateCommand> commands;
+                synchronized (pendingRegistrations) {
+                    if (closed)
+                        return;
+                    closed = true;
+                    if (--openBatches > 0 || pendingRegistrations.isEmpty())
+                        return;
 
-        //  Check that the execution node is the actual intended command
-        //  TODO: Refactor this...
-        if (!executionNode.getNameDefinition().getValue().equals(commandName))
-            return generateEventFromException(information, exceptOrThrow(information, null, FeedbackType.COMMAND_NON_EXISTENT, commandName));
+                    commands = List.copyOf(pendingRegistrations);
+                    pendingRegistrations.clear();
+                }
 
-        //  Check if the command is verified
-        if (!executionNode.isVerified())
-            if (safeExecuteTopLevel) {
-                try {
-                    throw exceptOrThrow(information, null, FeedbackType.COMMAND_UNVERIFIED, matchedCommandPattern);
-                } catch (Exception ex) { return generateEventFromException(information, ex); }
-            } else
-                return false;
-
-        //  We can then parse the remaining arguments, apply rules to them and parse them.
-        VerifiedDelegateCommand command = (VerifiedDelegateCommand) executionNode.getCommand();
+                getDelegate().getPlatform().registerToPlayers(commands);
+            }
+        };
+    }
 
-        //  Check if the command is executed safely
-        boolean safeExecute = command.getPropertyBuffer().stream()
-                .anyMatch(property -> property instanceof CatchExceptionProperty);
+    /**
+     * Checks if a root with the given name is registered, ignoring case like the platforms do.
+     *
+     * @param name The name of the root.
+     * @return True if a root with the given name is registered, false otherwise.
+     */
+    public boolean hasRoot(@NotNull String name) {
+        CommandNode existing = this.commandTree.find(name);
 
-        try {
-            String[] remainingArguments = queryResultNode.remainingArgs();
+        return existing != null && fold(existing.getNameDefinition().getValue()).equals(fold(name));
+    }
 
-            //  Check if the provided command has too many arguments
-            //  If this is the case, we tried executing a non-existent command
-            if (command.getArgumentBuffer().size() < remainingArguments.length)
-                throw exceptOrThrow(information, command, FeedbackType.COMMAND_NON_EXISTENT, matchedCommandPattern + " " + String.join(" ", remainingArguments));
+    /**
+     * Handles the given {@link CommandDispatchInformation} and tries to execute the
+     * command associated with the information. If the command is asynchronous, its
+     * triggers and event are executed once all of its actions have finished.
+     *
+     * @param information The {@link CommandDispatchInformation} to handle.
+     * @return True if the information was handled successfully, false otherwise.
+     * @throws CommandExecutionException If an error occurred while parsing the information.
+     */
+    //  TODO: Add default execution routines on exception against argument parsing
+    @Override
+    public boolean handle(CommandDispatchInformation information) throws CommandExecutionException {
+        Invocation invocation = new Invocation(information);
+        CommandFailure failure = resolve(invocation);
+        if (failure != null)
+            return report(invocation, failure);
+
+        //  Asynchronous commands chain their triggers and event after the last group of actions
+        DispatchPlan plan = invocation.command.getDispatchPlan();
+        if (plan.isAsync()) {
+            dispatch(invocation.information, invocation.command, invocation.arguments)
+                    .whenComplete((capture, ex) -> reportAsync(invocation, ex));
 
-            //  Before argument verification, we combine string arguments
-            information = this.combineStringArguments(information);
+            return true;
+        }
 
-            //  Verify arguments
-            String[] verifiedArguments = this.verifyArguments(information, command, remainingArguments);
-            List<Argument<?>> parsedArguments = this.parseArguments(information, command, verifiedArguments);
+        //  We can execute the command with the remaining arguments
+        CommandCapture.Capture[] captures = this.execute(information.commander(), plan, invocation.arguments);
+        CommandCapture capture = CommandCapture.of(captures);
 
-            //  Check if the commander has permission to execute the command
-            if (!canExecute(information.commander(), command.getPermissionBuffer()))
-                throw exceptOrThrow(information, command, FeedbackType.UNAUTHORIZED, matchedCommandPattern);
+        //  Execute triggers
+        this.executeTriggers(invocation.information, invocation.command, capture);
 
-            CommandBuffer<CommandAction> actions = command.getActionBuffer();
-            boolean async = command.getPropertyBuffer().stream()
-                    .anyMatch(property -> property instanceof AsyncProperty);
+        //  Call event for other plugins possibly?
+        return getDelegate().getPlatform().dispatch(invocation.information, capture);
+    }
 
-            //  We can execute the command with the remaining arguments
-            List<CommandCapture.Capture> captures = this.execute(commander, actions, parsedArguments, async);
-            CommandCapture capture = new CommandCapture(captures);
+    /**
+     * Handles the given {@link CommandDispatchInformation} without waiting for the actions
+     * of the command to finish.
+     *
+     * @param information The {@link CommandDispatchInformation} to handle.
+     * @return A stage that completes with the {@link CommandCapture} once the actions, triggers
+     * and event of the command have been executed.
+     */
+    @Override
+    public CompletionStage<CommandCapture> handleAsync(CommandDispatchInformation information) {
+        Invocation invocation = new Invocation(information);
+        CommandFailure failure = resolve(invocation);
+        if (failure != null) {
+            report(invocation, failure);
+
+            //  The stage can only describe the failure through an exception
+            return CompletableFuture.failedFuture(failure.toException());
+        }
 
-            //  Execute triggers
-            this.executeTriggers(information, command, capture);
+        return dispatch(invocation.information, invocation.command, invocation.arguments)
+                .whenComplete((capture, ex) -> reportAsync(invocation, ex));
+    }
 
-            //  Call event for other plugins possibly?
-            return getDelegate().getPlatform().dispatch(information, capture);
-        } catch (CommandExecutionException ex) {
-            if (safeExecute)
-                return generateEventFromException(information, ex);
+    private void reportAsync(Invocation invocation, @Nullable Throwable ex) {
+        if (ex == null)
+            return;
 
-            //  Inform the commander of the error
-            commander.sendMessage(ex.getFeedback());
-        }
+        //  Nobody waits for the actions of an asynchronous command, so their exceptions are reported like any other failure
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        if (getDelegate().isVerbose())
+            cause.printStackTrace();
 
-        return false;
+        String command = invocation.information.command();
+        report(invocation, fail(invocation.information, invocation.command, FeedbackType.ACTIONS_EXCEPTION, command, String.valueOf(cause.getMessage())));
     }
 
-    public List<String> findCompletions(String[] matched) {
-        String commandName = matched[0];
-        String[] commandArguments = Arrays.copyOfRange(matched, 1, matched.length);
+    private @Nullable CommandFailure resolve(Invocation invocation) {
+        CommandDispatchInformation information = invocation.information;
+        String commandName = information.command();
+
+        //  Resolve the root by its name or one of its aliases
         CommandNode root = this.commandTree.find(commandName);
 
         //  If the root is null, the command doesn't exist
         if (root == null)
-            return List.of();
-
-        //  The matched node is the closest we got to the command
-        QueryResultNode queryResultNode = root.findDeepest(commandName, commandArguments);
-        CommandNode matchedNode = queryResultNode.node();
-
-        //  If the matched node is null, we can't complete
-        if (matchedNode == null)
-            return List.of();
+            return fail(information, null, FeedbackType.COMMAND_NON_EXISTENT, commandName);
 
-        List<String> childCommandNames = matchedNode.getChildren().stream()
-                .map(node -> node.getNameDefinition().getValue())
-                .toList();
+        //  Tokenize the line once, all further steps read from the offsets of its tokens
+        CommandLine line = CommandLine.of(commandName, information.arguments());
 
-        //  If there is an argument that isn't empty
-        if (Arrays.stream(queryResultNode.remainingArgs()).anyMatch(arg -> !arg.isEmpty())) {
-            //  Try to match children as good as possible
-            List<String> childMatches = new ArrayList<>();
-
-            for (String childName : childCommandNames)
-                if (childName.startsWith(queryResultNode.remainingArgs()[0]))
-                    childMatches.add(childName);
-
-            return childMatches;
-        }
+        //  Parse in arguments to find the deepest node
+        QueryResultCursor queryResult = root.findDeepest(line, 1);
+        CommandNode executionNode = queryResult.node();
+        int cursor = queryResult.cursor();
 
-        //  We can now return the names of the children
-        return childCommandNames;
-    }
+        //  Check if the command is verified
+        if (!executionNode.isVerified())
+            return fail(information, null, FeedbackType.COMMAND_UNVERIFIED, line.prefix(cursor));
 
-    private boolean canExecute(CommanderEntity commander, CommandBuffer<PermissionTier> permissionTiers) {
-        if (permissionTiers.size() == 0)
-            return true;
-        return permissionTiers.stream().anyMatch(tier -> tier.hasPermission(commander));
+        //  We can then parse the remaining arguments, apply rules to them and parse them.
+        VerifiedDelegateCommand command = (VerifiedDelegateCommand) executionNode.getCommand();
+        DispatchPlan plan = command.getDispatchPlan();
+        invocation.command = command;
+
+        //  Check if the commander has permission to execute the command, before any argument is verified or parsed
+        if (!getDelegate().getPermissionCache().canExecute(information.commander(), plan.getPermissionChecks()))
+            return fail(information, command, FeedbackType.UNAUTHORIZED, line.prefix(cursor));
+
+        //  A quote that is not terminated would hand the rest of the line to a single parser
+        if (line.hasUnterminatedQuote())
+            return fail(information, command, FeedbackType.ARGS_UNTERMINATED_QUOTE, line.raw(line.size() - 1));
+
+        //  Check if the provided command has too many arguments
+        //  If this is the case, we tried executing a non-existent command
+        if (plan.getArguments().length < line.size() - cursor)
+            return fail(information, command, FeedbackType.COMMAND_NON_EXISTENT, line.getLine());
+
+        //  Verify arguments
+        String[] verifiedArguments = new String[line.size() - cursor];
+        int[] tokens = new int[verifiedArguments.length];
+        CommandFailure failure = this.verifyArguments(information, command, line, cursor, verifiedArguments, tokens);
+        if (failure != null)
+            return failure;
+
+        //  The arguments are shared by all actions, which find them through the slots of the plan
+        List<Argument<?>> parsedArguments = new ArrayList<>(verifiedArguments.length);
+        failure = this.parseArguments(information, command, line, verifiedArguments, tokens, parsedArguments);
+        if (failure != null)
+            return failure;
+        invocation.arguments = new Context(plan.getArgumentSlots(), parsedArguments);
+
+        //  Quoted strings are combined into a single argument, which is only reflected in the dispatch information
+        //  once the arguments were verified, failures report the arguments as they were dispatched
+        if (line.hasQuotes() || line.size() != information.arguments().length + 1)
+            invocation.information = new CommandDispatchInformation(information.commander(), information.command(), line.texts(1));
+        return null;
     }
 
-    private CommandDispatchInformation combineStringArguments(CommandDispatchInformation information) {
-        List<String> combinedStringArguments = new ArrayList<>();
-        StringBuilder buffer = new StringBuilder();
+    private boolean report(Invocation invocation, CommandFailure failure) {
+        //  If no command was resolved, an event is generated, unless the command is unverified and we're not verbose
+        if (invocation.command == null) {
+            if (failure.type() == FeedbackType.COMMAND_UNVERIFIED && !getDelegate().isVerbose())
+                return false;
 
-        for (String argument : information.arguments()) {
-            if (argument.startsWith("\"") && !argument.endsWith("\"")) {
-                buffer.append(argument.substring(1)).append(" ");
+            return generateEventFromFailure(failure);
+        }
 
-                continue;
-            }
+        //  Check if the command is executed safely
+        if (invocation.command.getDispatchPlan().isCatchingExceptions())
+            return generateEventFromFailure(failure);
 
-            if (argument.endsWith("\"") && !argument.startsWith("\"")) {
-                buffer.append(argument, 0, argument.length() - 1);
-                combinedStringArguments.add(buffer.toString());
-                buffer = new StringBuilder();
+        //  Inform the commander of the error
+        invocation.information.commander().sendMessage(failure.render());
 
-                continue;
-            }
+        return false;
+    }
 
-            if (argument.startsWith("\"") && argument.endsWith("\"")) {
-                combinedStringArguments.add(argument.substring(1, argument.length() - 1));
+    /**
+     * Finds the completions of the given command and arguments for the given sender, only
+     * containing the commands the given commander is permitted to execute and the commands
+     * that lead to them. Every sender has its own {@link CompletionSession}, such that
+     * subsequent requests that only extend the last argument narrow the previous result.
+     * <p>
+     * Completions are read from the {@link CompletionView}, such that this method can be
+     * called from any thread.
+     *
+     * @param sender The platform-specific sender that requests the completions.
+     * @param commander The commander of the sender, whose permissions filter the completions.
+     * @param command The name of the command.
+     * @param arguments The arguments of the command, of which the last one is being typed.
+     * @return An unmodifiable list of completions.
+     */
+    public List<String> findCompletions(@NotNull Object sender, @NotNull CommanderEntity commander, @NotNull String command, @NotNull String[] arguments) {
+        CompletionNode root = this.completionView.find(command, commander, getDelegate().getPermissionCache());
 
-                continue;
-            }
+        //  If the root is null, the command doesn't exist or the commander may not use it
+        if (root == null)
+            return List.of();
 
-            combinedStringArguments.add(argument);
-        }
+        return this.sessions.computeIfAbsent(sender, key -> new CompletionSession()).complete(root, arguments);
+    }
 
-        return new CommandDispatchInformation(information.commander(), information.command(), combinedStringArguments.toArray(String[]::new));
+    /**
+     * Gets the commands the given commander can see by their folded names and aliases, which
+     * are the commands the commander is permitted to execute or any of the sub-commands of.
+     *
+     * @param commander The commander to get the visible commands of.
+     * @return An unmodifiable map of the folded identifiers to the visible commands.
+     */
+    public @NotNull Map<String, CompletionNode> getVisibleRoots(@NotNull CommanderEntity commander) {
+        return this.completionView.findAll(commander, getDelegate().getPermissionCache());
     }
 
-    private String[] verifyArguments(CommandDispatchInformation information, VerifiedDelegateCommand command, String[] arguments) {
-        CommandBuffer<CommandProperty> commandProperties = command.getPropertyBuffer();
-        CommandBuffer<CommandArgument<?>> commandArguments = command.getArgumentBuffer();
-        String[] verifiedArguments = new String[arguments.length];
+    private @Nullable CommandFailure verifyArguments(CommandDispatchInformation information, VerifiedDelegateCommand command, CommandLine line, int cursor, String[] verifiedArguments, int[] tokens) {
+        DispatchPlan plan = command.getDispatchPlan();
+        CommandArgument<?>[] commandArguments = plan.getArguments();
+        int argumentCount = verifiedArguments.length;
 
         //  Check properties
-        boolean ignoreNull = commandProperties.stream().anyMatch(property -> property instanceof IgnoreNullProperty);
-        boolean ignoreNonPresent = commandProperties.stream().anyMatch(property -> property instanceof IgnoreNonPresentProperty);
+        boolean ignoreNull = plan.isIgnoringNull();
+        boolean ignoreNonPresent = plan.isIgnoringNonPresent();
 
         //  Check argument counts
-        if (commandArguments.size() > arguments.length && !ignoreNonPresent && !ignoreNull)
-            throw exceptOrThrow(information, command, FeedbackType.ARGS_INVALID_COUNT, commandArguments.size(), arguments.length);
+        if (commandArguments.length > argumentCount && !ignoreNonPresent && !ignoreNull)
+            return fail(information, command, FeedbackType.ARGS_INVALID_COUNT, commandArguments.length, argumentCount);
 
-        //  Check argument types
+        //  Check argument types, the token of every argument is kept such that its quotes can be restored
         int isAssigmentOperator = 0;
-        for (int i = 0; i < arguments.length; i++) {
-            String argument = arguments[i];
-            String[] parts = argument.split("=", 2);
+        for (int i = 0; i < argumentCount; i++) {
+            int token = cursor + i;
 
-            if (parts.length == 2) {
-                //  Find the argument index in the argument buffer
-                int argumentIndex = commandArguments.indexWhere(arg -> arg.getIdentifier().equals(parts[0]));
+            if (line.isAssignment(token)) {
+                //  Find the argument index in the argument buffer, directly from the line
+                int argumentIndex = plan.indexOf(line.getLine(), line.start(token), line.separator(token));
                 if (argumentIndex == -1)
-                    throw exceptOrThrow(information, command, FeedbackType.ARGS_INVALID_IDENTIFIER, parts[0]);
+                    return fail(information, command, FeedbackType.ARGS_INVALID_IDENTIFIER, line.key(token));
 
                 //  Check if the argument was already parsed
                 if (verifiedArguments[argumentIndex] != null)
-                    throw exceptOrThrow(information, command, FeedbackType.ARGS_DUPLICATE_IDENTIFIER, parts[0]);
+                    return fail(information, command, FeedbackType.ARGS_DUPLICATE_IDENTIFIER, line.key(token));
 
-                verifiedArguments[argumentIndex] = parts[1];
+                verifiedArguments[argumentIndex] = line.value(token);
+                tokens[argumentIndex] = token;
                 isAssigmentOperator++;
             } else {
                 if (isAssigmentOperator != 0)
-                    throw exceptOrThrow(information, command, FeedbackType.ARGS_INVALID_FORMAT,
-                            Objects.requireNonNullElse(commandArguments.get(i).getIdentifier(), "unknown"), "=", " ");
-                else
-                    verifiedArguments[i] = argument;
+                    return fail(information, command, FeedbackType.ARGS_INVALID_FORMAT,
+                            Objects.requireNonNullElse(commandArguments[i].getIdentifier(), "unknown"), "=", " ");
+                else {
+                    verifiedArguments[i] = line.text(token);
+                    tokens[i] = token;
+                }
             }
         }
 
@@ -302,42 +406,59 @@ public class InternalCommandHandler extends DelegateCommandHandler {
         if (!ignoreNull)
             for (int i = 0; i < verifiedArguments.length; i++)
                 if (verifiedArguments[i] == null)
-                    throw exceptOrThrow(information, command, FeedbackType.ARGS_INVALID_TYPE, commandArguments.get(i).getIdentifier(), arguments[i]);
-
-        //  Parse all argument rules, the index should be equal to the amount of command arguments
-        //  except if the ignore non-present property is set.
-        int maxIndex = Math.min(verifiedArguments.length, commandArguments.size());
-        for (int i = 0; i < maxIndex; i++) {
-            CommandArgument<?> commandArgument = commandArguments.get(i);
-            String argument = verifiedArguments[i];
-
-            commandArgument.parseRules(argument);
-        }
+                    return fail(information, command, FeedbackType.ARGS_INVALID_TYPE, commandArguments[i].getIdentifier(), line.raw(cursor + i));
 
-        return verifiedArguments;
+        return null;
     }
 
-    private List<Argument<?>> parseArguments(CommandDispatchInformation information, VerifiedDelegateCommand command, String[] arguments) {
-        List<Argument<?>> parsedArguments = new ArrayList<>();
-        CommandBuffer<CommandArgument<?>> commandArguments = command.getArgumentBuffer();
+    private @Nullable CommandFailure parseArguments(CommandDispatchInformation information, VerifiedDelegateCommand command, CommandLine line, String[] arguments, int[] tokens, List<Argument<?>> parsedArguments) {
+        DispatchPlan plan = command.getDispatchPlan();
+        CommandArgument<?>[] commandArguments = plan.getArguments();
+        RulePipeline[] rulePipelines = plan.getRulePipelines();
 
-        //  Parse all arguments
+        //  Parse all arguments, after which their rules are checked on the parsed values
         for (int i = 0; i < arguments.length; i++) {
-            CommandArgument<?> commandArgument = commandArguments.get(i);
+            CommandArgument<?> commandArgument = commandArguments[i];
             String argument = arguments[i];
+            Argument<?> parsedArgument;
 
+            //  Arguments and rules see the value without its quotes, except strings, which only keep a quoted value whole with them
+            String input = (argument != null && commandArgument instanceof StringArgument) ? raw(line, tokens[i]) : argument;
             try {
-                parsedArguments.add(commandArgument.parse(argument));
+                parsedArgument = commandArgument.parse(information.commander(), input);
             } catch (ArgumentParseException ex) {
-                throw exceptOrThrow(information, command, FeedbackType.ARGS_INVALID_PARSE_RESULT, Objects.requireNonNullElse(argument, "null"), ex.getParseType().getName());
+                return fail(information, command, FeedbackType.ARGS_INVALID_PARSE_RESULT, Objects.requireNonNullElse(argument, "null"), ex.getParseType().getName());
             }
+
+            String failure = rulePipelines[i].test(commandArgument, argument, parsedArgument.output());
+            if (failure != null)
+                return fail(information, command, FeedbackType.ARGS_RULE_FAILURE, commandArgument.getIdentifier(), failure);
+            parsedArguments.add(parsedArgument);
         }
 
-        return parsedArguments;
+        return null;
+    }
+
+    private static String raw(CommandLine line, int token) {
+        return line.isAssignment(token) ? line.rawValue(token) : line.raw(token);
     }
 
     @Override
     public void clearCommandCache() {
         this.commandTree.clear();
+        this.completionView.clear();
+        this.sessions.clear();
+    }
+
+    private static final class Invocation {
+
+        private CommandDispatchInformation information;
+        private VerifiedDelegateCommand command;
+        private List<Argument<?>> arguments;
+
+        private Invocation(CommandDispatchInformation information) {
+            this.information = information;
+        }
+
     }
 }
@@ -16,10 +16,15 @@ import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionExceptio
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
 import com.github.polyrocketmatt.delegate.api.exception.DelegateRuntimeException;
 import com.github.polyrocketmatt.delegate.core.DelegateCore;
+import com.github.polyrocketmatt.delegate.core.entity.PlayerIndex;
 import com.github.polyrocketmatt.delegate.impl.command.PaperCommandBuilder;
 import com.github.polyrocketmatt.delegate.impl.command.PaperCommandFactory;
 import com.github.polyrocketmatt.delegate.impl.entity.PaperPlayerCommander;
+import com.github.polyrocketmatt.delegate.impl.event.AsyncCompletionListener;
+import com.github.polyrocketmatt.delegate.impl.event.CommandVisibilityListener;
 import com.github.polyrocketmatt.delegate.impl.event.DelegateCommandEvent;
+import com.github.polyrocketmatt.delegate.impl.event.PermissionCacheListener;
+import com.github.polyrocketmatt.delegate.impl.event.PlayerIndexListener;
 import org.bstats.bukkit.Metrics;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
@@ -30,30 +35,51 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.command.TabExecutor;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 
 public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
 
     private static final int BUKKIT_DELEGATE_ID = 17314;
+    private static final long EXECUTOR_DRAIN_TIMEOUT_SECONDS = 5L;
+    private static final long MAIN_THREAD_TIMEOUT_MILLIS = 100L;
 
     private static final PaperCommandFactory factory = new PaperCommandFactory();
+    private static final PlayerIndex<Player> players = new PlayerIndex<>();
 
     private final Plugin plugin;
     private final CommandMap commandMap;
-    private final List<IDelegateCommand> commands = new ArrayList<>();
+    private final Map<String, IDelegateCommand> commands = new HashMap<>();
+    private final AtomicBoolean syncScheduled = new AtomicBoolean(false);
+    private final PlayerIndexListener playerListener = new PlayerIndexListener(players);
+    private final PermissionCacheListener permissionListener = new PermissionCacheListener(getDelegate().getPermissionCache());
+    private final CommandVisibilityListener visibilityListener = new CommandVisibilityListener(commands.keySet());
+    private final AsyncCompletionListener completionListener = new AsyncCompletionListener();
     private final boolean metricsEnabled;
+    private final MethodHandle commandConstructor;
+    private final MethodHandle syncCommandsMethod;
 
     protected Delegate(JavaPlugin plugin, boolean metricsEnabled) {
         this.plugin = plugin;
@@ -66,9 +92,23 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
             throw new DelegateRuntimeException("Unable to retrieve command map", ex);
         }
 
+        //  Reflection is only used once, instead of for every command that is registered
+        this.commandConstructor = findCommandConstructor();
+        this.syncCommandsMethod = findSyncCommandsMethod(Bukkit.getServer());
+
         this.metricsEnabled = metricsEnabled;
         if (metricsEnabled)
             new Metrics(plugin, BUKKIT_DELEGATE_ID);
+
+        //  Players that are already online are indexed, later players are added and removed by the listener
+        for (Player player : Bukkit.getOnlinePlayers())
+            players.add(player.getName(), player);
+        Bukkit.getPluginManager().registerEvents(playerListener, plugin);
+        Bukkit.getPluginManager().registerEvents(permissionListener, plugin);
+        Bukkit.getPluginManager().registerEvents(visibilityListener, plugin);
+
+        //  Paper completes commands off the main thread, which keeps completions from competing with ticks
+        Bukkit.getPluginManager().registerEvents(completionListener, plugin);
     }
 
     public static void hook(JavaPlugin plugin) {
@@ -81,9 +121,15 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
     }
 
     public static void unhook(JavaPlugin plugin) {
+        unhook(plugin, EXECUTOR_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static void unhook(JavaPlugin plugin, long timeout, TimeUnit unit) {
         Delegate delegate = (Delegate) getDelegate().getPlatform();
         delegate.unregister();
 
+        //  Let running asynchronous actions finish before the platform is released
+        getDelegate().getExecutor().shutdown(timeout, unit);
         getDelegate().setPlatform(null);
     }
 
@@ -91,10 +137,47 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
         return DelegateCore.getDelegateAPI();
     }
 
+    public static PlayerIndex<Player> getPlayerIndex() {
+        return players;
+    }
+
     public static PaperCommandBuilder create(@NotNull String name, @NotNull String description) {
         return factory.create(name, description);
     }
 
+    /**
+     * Gets the value of the given supplier on the main server thread. This is used by
+     * completions that are requested asynchronously but have to read world state. If
+     * the main thread does not respond in time, null is returned.
+     *
+     * @param supplier The supplier of the value.
+     * @return The value of the supplier, or null if it could not be retrieved in time.
+     */
+    public static <T> @Nullable T callSync(@NotNull Supplier<T> supplier) {
+        validate("supplier", Supplier.class, supplier);
+
+        if (Bukkit.isPrimaryThread())
+            return supplier.get();
+
+        Delegate delegate = (Delegate) getDelegate().getPlatform();
+        Future<T> future = Bukkit.getScheduler().callSyncMethod(delegate.getPlugin(), supplier::get);
+        try {
+            return future.get(MAIN_THREAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException ex) {
+            //  A busy main thread is expected under load, so this does not warrant a stack trace
+            future.cancel(false);
+            if (getDelegate().isVerbose())
+                delegate.getPlugin().getLogger().warning("Main thread did not respond within " + MAIN_THREAD_TIMEOUT_MILLIS + " ms");
+        } catch (ExecutionException ex) {
+            if (getDelegate().isVerbose())
+                delegate.getPlugin().getLogger().warning("Unable to compute value on the main thread: " + ex.getCause());
+        }
+
+        return null;
+    }
+
     private Plugin getPlugin() {
         return plugin;
     }
@@ -114,7 +197,29 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
         return factory.create(name, description);
     }
 
-    @SuppressWarnings("unchecked")
+    private static MethodHandle findCommandConstructor() {
+        try {
+            Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+            constructor.setAccessible(true);
+
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new DelegateRuntimeException("Unable to retrieve command constructor", ex);
+        }
+    }
+
+    private static @Nullable MethodHandle findSyncCommandsMethod(Server server) {
+        //  Servers that do not send the command tree to players do not have this method
+        try {
+            Method method = server.getClass().getDeclaredMethod("syncCommands");
+            method.setAccessible(true);
+
+            return MethodHandles.lookup().unreflect(method).bindTo(server);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
     @Override
     public void registerToPlatform(@NotNull IDelegateCommand command) throws CommandRegisterException {
         validate("command", IDelegateCommand.class, command);
@@ -123,38 +228,66 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
             throw new CommandRegisterException("Plugin is not hooked into Delegate!");
         if (this.commandMap == null)
             throw new CommandRegisterException("Unable to retrieve command map!");
-        if (commands.stream().anyMatch(cmd -> cmd.getNameDefinition().getValue().equalsIgnoreCase(command.getNameDefinition().getValue())))
-            throw new CommandRegisterException("Command already registered: %s".formatted(command.getNameDefinition().getValue()));
-        commands.add(command);
 
+        String name = command.getNameDefinition().getValue();
+        if (commands.putIfAbsent(fold(name), command) != null)
+            throw new CommandRegisterException("Command already registered: %s".formatted(name));
+
+        PluginCommand cmd;
         try {
-            Constructor<PluginCommand> commandConstructor = (Constructor<PluginCommand>) PluginCommand.class.getDeclaredConstructors()[0];
-            commandConstructor.setAccessible(true);
-            PluginCommand cmd = commandConstructor.newInstance(command.getNameDefinition().getValue(), this.getPlugin());
+            cmd = (PluginCommand) commandConstructor.invoke(name, this.getPlugin());
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new CommandRegisterException("Unable to register command: %s".formatted(name), ex);
+        }
 
-            //  Register command to the command map
-            commandMap.register(command.getNameDefinition().getValue(), cmd);
+        //  Register command to the command map
+        commandMap.register(name, cmd);
 
-            //  Set the command/tab executors
-            cmd.setExecutor(this);
-            cmd.setTabCompleter(this);
+        //  Set the command/tab executors
+        cmd.setExecutor(this);
+        cmd.setTabCompleter(this);
 
-            //  Setting description
-            cmd.setDescription(command.getDescriptionDefinition().getValue());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            throw new CommandRegisterException("Unable to register command: %s".formatted(command.getNameDefinition().getValue()), ex);
-        }
+        //  Setting description
+        cmd.setDescription(command.getDescriptionDefinition().getValue());
     }
 
     @Override
     public void registerToPlayers(@NotNull IDelegateCommand name) throws CommandRegisterException {
-        try {
-            Server server = Bukkit.getServer();
-            Method syncCommandMethod = server.getClass().getDeclaredMethod("syncCommands");
+        if (syncCommandsMethod == null)
+            throw new CommandRegisterException("Unable to sync commands to players");
+
+        //  Commands that are registered during the same tick are sent to the players at once
+        if (syncScheduled.compareAndSet(false, true))
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (syncScheduled.compareAndSet(true, false))
+                    syncCommands();
+            });
+    }
 
-            syncCommandMethod.setAccessible(true);
-            syncCommandMethod.invoke(server);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+    @Override
+    public void registerToPlayers(@NotNull List<IDelegateCommand> commands) throws CommandRegisterException {
+        if (syncCommandsMethod == null)
+            throw new CommandRegisterException("Unable to sync commands to players");
+        if (commands.isEmpty())
+            return;
+        if (!Bukkit.isPrimaryThread()) {
+            registerToPlayers(commands.get(0));
+            return;
+        }
+
+        //  A batch is sent right away, which makes a sync that is still scheduled redundant
+        syncScheduled.set(false);
+        syncCommands();
+    }
+
+    private void syncCommands() throws CommandRegisterException {
+        try {
+            syncCommandsMethod.invoke();
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
             throw new CommandRegisterException("Unable to sync commands to players", ex);
         }
     }
@@ -165,6 +298,12 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
     }
 
     private void unregister() throws CommandRegisterException {
+        HandlerList.unregisterAll(playerListener);
+        HandlerList.unregisterAll(permissionListener);
+        HandlerList.unregisterAll(visibilityListener);
+        getDelegate().getPermissionCache().invalidateAll();
+        players.clear();
+        HandlerList.unregisterAll(completionListener);
         commands.clear();
     }
 
@@ -212,15 +351,14 @@ public class Delegate implements IPlatform, CommandExecutor, TabExecutor {
 
     @Override
     public List<String> onTabComplete(@NotNull CommandSender commandSender, @NotNull Command command, @NotNull String label, String[] args) {
+        //  Completions that were not handled by the asynchronous listener end up here
         //  If we're using brigadier, we don't need to do anything here
         if (getDelegateAPI().useBrigadier())
             return null;
 
-        String[] newArgs = new String[args.length + 1];
-        newArgs[0] = command.getName();
-        System.arraycopy(args, 0, newArgs, 1, args.length);
+        CommanderEntity entity = (commandSender instanceof Player) ? new PaperPlayerCommander((Player) commandSender) : new ConsoleCommander();
 
-        return getDelegate().getInternalCommandHandler().findCompletions(newArgs);
+        return getDelegate().getInternalCommandHandler().findCompletions(commandSender, entity, command.getName(), args);
     }
 
 }
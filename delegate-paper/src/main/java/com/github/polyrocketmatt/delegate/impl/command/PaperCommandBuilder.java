@@ -16,6 +16,7 @@ import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefiniti
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
 import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.AttributeException;
 import com.github.polyrocketmatt.delegate.core.command.DelegateCommandBuilder;
@@ -324,6 +325,17 @@ public class PaperCommandBuilder extends DelegateCommandBuilder {
         return this.with(new AsyncProperty());
     }
 
+    /**
+     * Append a new {@link AsyncProperty} with the given {@link ExecutionMode} to the chain.
+     *
+     * @param mode The mode in which the actions are executed.
+     * @return The current chain.
+     */
+    @Override
+    public @NotNull PaperCommandBuilder withAsync(@NotNull ExecutionMode mode) {
+        return this.with(new AsyncProperty(mode));
+    }
+
     /**
      * Append a new {@link IgnoreNullProperty} to the chain.
      *
@@ -6,22 +6,27 @@ package com.github.polyrocketmatt.delegate.impl.command.argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
+import com.github.polyrocketmatt.delegate.core.command.argument.selector.EntitySelector;
+import com.github.polyrocketmatt.delegate.impl.entity.PaperPlayerCommander;
 import com.mojang.brigadier.StringReader;
-import com.mojang.brigadier.exceptions.CommandExceptionType;
-import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 public class EntitySelectorArgument<T extends Entity> extends CommandArgument<List<T>> {
 
+    private static final SuggestionProvider SUGGESTIONS = SuggestionProvider.of("@a", "@e", "@p", "@r", "@s");
+
     private final Class<T> entityType;
 
     /**
@@ -38,33 +43,55 @@ public class EntitySelectorArgument<T extends Entity> extends CommandArgument<Li
     private EntitySelectorArgument(String identifier, String argumentDescription, Class<T> entityType, List<T> defaultValue,
                                    boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription,  (Class<List<T>>) ((Class) List.class), new Argument<>(identifier, defaultValue), isOptional, rules);
+        withSuggestions(SUGGESTIONS);
         this.entityType = entityType;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public @NotNull Argument<List<T>> parse(@Nullable String input) {
+        return select(input, null);
+    }
+
+    @Override
+    public @NotNull Argument<List<T>> parse(@NotNull CommanderEntity commander, @Nullable String input) {
+        return select(input, (commander instanceof PaperPlayerCommander player) ? player.getPlayer() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Argument<List<T>> select(@Nullable String input, @Nullable Entity self) {
         if (input == null)
             return getDefault();
 
+        EntitySelector selector;
         try {
-            if (input.startsWith("@")) {
-                List<T> entities = new ArrayList<>();
-                Bukkit.selectEntities(Bukkit.getConsoleSender(), input).forEach(entity -> {
-                    if (entityType.isInstance(entity))
-                        entities.add((T) entity);
-                });
-
-                return new Argument<>(getIdentifier(), entities);
-            } else {
-                throw new CommandSyntaxException(new CommandExceptionType() {
-                }, () -> "Expected Bukkit-style entity selector, got " + input);
+            selector = EntitySelector.compile(input);
+        } catch (ArgumentParseException ex) {
+            return invalid(ex);
+        }
+
+        //  Arguments such as tag or scores are only understood by the server, which evaluates the selector itself
+        if (!selector.isNative()) {
+            try {
+                List<Entity> entities = Bukkit.selectEntities((self instanceof Player player) ? player : Bukkit.getConsoleSender(), input);
+                return new Argument<>(getIdentifier(), (List<T>) (List<?>) entities.stream().filter(entityType::isInstance).toList());
+            } catch (IllegalArgumentException ex) {
+                return invalid(ex);
             }
-        } catch (CommandSyntaxException ex) {
-            if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a float", Float.class);
-            return getDefault();
         }
+
+        //  Selectors are relative to the commander, the console selects from the spawn of the main world
+        Location origin = (self != null) ? self.getLocation() : Bukkit.getWorlds().get(0).getSpawnLocation();
+        List<Entity> entities = selector.select(new WorldSelectorSource(origin.getWorld()), self,
+                origin.getX(), origin.getY(), origin.getZ(), entityType::isInstance);
+
+        //  Only entities of the requested type were selected
+        return new Argument<>(getIdentifier(), (List<T>) (List<?>) entities);
+    }
+
+    private Argument<List<T>> invalid(Exception ex) {
+        if (getDefault().output() == null)
+            throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be an entity selector", ex, List.class);
+        return getDefault();
     }
 
     @Override
@@ -6,8 +6,10 @@ package com.github.polyrocketmatt.delegate.impl.command.argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.NonNullRule;
+import com.github.polyrocketmatt.delegate.impl.Delegate;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.bukkit.Bukkit;
@@ -17,9 +19,16 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class WorldArgument extends CommandArgument<World> {
 
+    //  Worlds are rarely loaded or unloaded, so their names are listed at most once every few seconds.
+    //  Completions might be requested asynchronously, so the worlds are listed on the main thread.
+    //  If the main thread does not respond in time, the previous names are suggested without being cached.
+    private static final SuggestionProvider SUGGESTIONS = SuggestionProvider.cached(
+            () -> Delegate.callSync(() -> Bukkit.getWorlds().stream().map(World::getName).toArray(String[]::new)), 5, TimeUnit.SECONDS);
+
     /**
      * Creates a new {@link WorldArgument} with an identifier, a description, a default value and a
      * list of {@link ArgumentRule}s.
@@ -32,6 +41,7 @@ public class WorldArgument extends CommandArgument<World> {
      */
     private WorldArgument(String identifier, String argumentDescription, World defaultValue, boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription, World.class, new Argument<>(identifier, defaultValue), isOptional, rules);
+        withSuggestions(SUGGESTIONS);
     }
 
     @Override
@@ -52,7 +62,7 @@ public class WorldArgument extends CommandArgument<World> {
             reader.setCursor(start);
 
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a player", Player.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a player", Player.class);
             return getDefault().output();
         }
     }
@@ -0,0 +1,64 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.api.entity.ConsoleCommander;
+import com.github.polyrocketmatt.delegate.core.handlers.InternalCommandHandler;
+import com.github.polyrocketmatt.delegate.impl.entity.PaperPlayerCommander;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegateAPI;
+
+/**
+ * Completes the arguments of Delegate commands from the asynchronous tab completion
+ * event of Paper, such that completions are not computed on the main server thread.
+ * The completions are read from the read-only completion view of the command tree,
+ * filtered by the permissions of the sender.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class AsyncCompletionListener implements Listener {
+
+    @EventHandler(ignoreCancelled = true)
+    public void onAsyncTabComplete(@NotNull AsyncTabCompleteEvent event) {
+        if (event.isHandled() || !event.isCommand() || getDelegateAPI().useBrigadier())
+            return;
+
+        String buffer = event.getBuffer();
+        int start = buffer.startsWith("/") ? 1 : 0;
+        int space = buffer.indexOf(' ', start);
+
+        //  The name of the command itself is completed by the server
+        if (space == -1)
+            return;
+
+        String command = buffer.substring(start, space);
+        int namespace = command.indexOf(':');
+        if (namespace != -1)
+            command = command.substring(namespace + 1);
+
+        //  Commands that were not registered through Delegate are left to the server
+        InternalCommandHandler handler = getDelegate().getInternalCommandHandler();
+        if (handler.getCompletionView().find(command) == null)
+            return;
+
+        //  A trailing space starts a new, empty argument
+        String[] arguments = buffer.substring(space + 1).split(" ", -1);
+
+        CommanderEntity commander = (event.getSender() instanceof Player player) ? new PaperPlayerCommander(player) : new ConsoleCommander();
+
+        event.setCompletions(new ArrayList<>(handler.findCompletions(event.getSender(), commander, command, arguments)));
+        event.setHandled(true);
+    }
+
+}
@@ -0,0 +1,64 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.core.command.tree.CompletionNode;
+import com.github.polyrocketmatt.delegate.core.handlers.InternalCommandHandler;
+import com.github.polyrocketmatt.delegate.impl.entity.PaperPlayerCommander;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.polyrocketmatt.delegate.api.StringUtils.fold;
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+
+/**
+ * Removes the Delegate commands a player is not permitted to use from the commands that
+ * are sent to the client, such that they are not suggested by the client. Commands are
+ * kept if the player can use any of their sub-commands.
+ * <p>
+ * Delegate commands are registered with their own name as namespace. Names with any other
+ * namespace belong to other plugins and are left to the server.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class CommandVisibilityListener implements Listener {
+
+    private final Set<String> namespaces;
+
+    /**
+     * Creates a new {@link CommandVisibilityListener}.
+     *
+     * @param namespaces The folded namespaces under which Delegate registered its commands.
+     */
+    public CommandVisibilityListener(@NotNull Set<String> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onPlayerCommandSend(@NotNull PlayerCommandSendEvent event) {
+        InternalCommandHandler handler = getDelegate().getInternalCommandHandler();
+        CommanderEntity commander = new PaperPlayerCommander(event.getPlayer());
+        Map<String, CompletionNode> visible = handler.getVisibleRoots(commander);
+
+        event.getCommands().removeIf(name -> {
+            //  Commands are also sent with their namespace, only the namespaces of Delegate are stripped
+            int separator = name.indexOf(':');
+            if (separator != -1 && !namespaces.contains(fold(name.substring(0, separator))))
+                return false;
+            String command = fold(name.substring(separator + 1));
+
+            //  Commands that were not registered through Delegate are left to the server
+            return handler.getCompletionView().find(command) != null && !visible.containsKey(command);
+        });
+    }
+
+}
@@ -0,0 +1,44 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.github.polyrocketmatt.delegate.core.entity.PlayerIndex;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Keeps the {@link PlayerIndex} of the online players up to date.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class PlayerIndexListener implements Listener {
+
+    private final PlayerIndex<Player> index;
+
+    public PlayerIndexListener(@NotNull PlayerIndex<Player> index) {
+        validate("index", PlayerIndex.class, index);
+
+        this.index = index;
+    }
+
+    //  Players are added before other plugins see them join and removed after they have seen them quit
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        index.add(event.getPlayer().getName(), event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        index.remove(event.getPlayer().getName(), event.getPlayer());
+    }
+
+}
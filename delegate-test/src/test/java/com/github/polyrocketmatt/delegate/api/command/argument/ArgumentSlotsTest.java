@@ -0,0 +1,33 @@
+package com.github.polyrocketmatt.delegate.api.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArgumentSlotsTest {
+
+    @Test
+    public void testOf() {
+        ArgumentSlots slots = ArgumentSlots.of("a", "b", "a");
+
+        assertEquals(3, slots.size());
+        assertEquals(0, slots.indexOf("a"));
+        assertEquals(1, slots.indexOf("b"));
+        assertEquals(-1, slots.indexOf("c"));
+        assertEquals("a", slots.getIdentifier(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> slots.getIdentifier(3));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertSame(ArgumentSlots.EMPTY, ArgumentSlots.of());
+        assertEquals(0, ArgumentSlots.EMPTY.size());
+    }
+
+    @Test
+    public void testOfIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> ArgumentSlots.of((String[]) null));
+        assertThrows(IllegalArgumentException.class, () -> ArgumentSlots.of("a", null));
+    }
+
+}
@@ -7,7 +7,9 @@ import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRuleResult;
 import com.github.polyrocketmatt.delegate.api.command.argument.rule.RuleData;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.RulePipeline;
 import com.mojang.brigadier.StringReader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -151,7 +153,19 @@ public class CommandArgumentTest {
     }
 
     @Test
-    public void testParseRules() {
+    public void testWithSuggestions() {
+        CommandArgumentImpl argument = new CommandArgumentImpl(identifier, argumentDescription, argumentType,
+                defaultValue, false, argumentRules);
+        SuggestionProvider provider = SuggestionProvider.of("a", "b");
+
+        assertNull(argument.getSuggestionProvider());
+        assertEquals(argument, argument.withSuggestions(provider));
+        assertEquals(provider, argument.getSuggestionProvider());
+        assertThrows(IllegalArgumentException.class, () -> argument.withSuggestions(null));
+    }
+
+    @Test
+    public void testRulePipeline() {
         argumentRules.clear();
 
         CommandArgumentImpl argument = new CommandArgumentImpl(identifier, argumentDescription, argumentType,
@@ -159,12 +173,14 @@ public class CommandArgumentTest {
 
         argument.withRules(ruleA, ruleB);
 
+        RulePipeline pipeline = RulePipeline.compile(argument.getArgumentRules());
+
         assertEquals(2, argument.getArgumentRules().size());
-        assertDoesNotThrow(() -> argument.parseRules("test"));
-        assertDoesNotThrow(() -> argument.parseRules("a"));
-        assertDoesNotThrow(() -> argument.parseRules("abcdefghi"));
-        assertThrows(ArgumentParseException.class, () -> argument.parseRules(""));
-        assertThrows(ArgumentParseException.class, () -> argument.parseRules("abcdefghij"));
+        assertNull(pipeline.test(argument, "test", "test"));
+        assertNull(pipeline.test(argument, "a", "a"));
+        assertNull(pipeline.test(argument, "abcdefghi", "abcdefghi"));
+        assertNotNull(pipeline.test(argument, "", ""));
+        assertNotNull(pipeline.test(argument, "abcdefghij", "abcdefghij"));
     }
 
 }
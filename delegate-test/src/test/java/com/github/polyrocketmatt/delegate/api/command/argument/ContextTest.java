@@ -85,4 +85,80 @@ public class ContextTest {
         assertThrows(IndexOutOfBoundsException.class, () -> context.get(4));
     }
 
+    @Test
+    public void testSlotConstructor() {
+        ArgumentSlots slots = ArgumentSlots.of("arg1", "arg2", "arg3", "arg4", "arg5");
+        Context context = new Context(slots, argumentsValid);
+
+        assertEquals("test", context.find("arg1"));
+        assertEquals(1, context.find("arg2", Integer.class));
+        assertNull(context.find("arg4"));
+
+        //  The fifth slot was not provided
+        assertThrows(IllegalArgumentException.class, () -> context.find("arg5"));
+        assertThrows(IllegalArgumentException.class, () -> context.find("arg5", String.class));
+    }
+
+    @Test
+    public void testDuplicateIdentifiers() {
+        Context context = new Context(List.of(new Argument<>("arg", 1), new Argument<>("arg", 2)));
+
+        assertEquals(1, context.getInt("arg"));
+    }
+
+    @Test
+    public void testOf() {
+        Context context = new Context(argumentsValid);
+
+        assertSame(context, Context.of(context));
+        assertEquals(4, Context.of(argumentsValid).size());
+    }
+
+    @Test
+    public void testPrimitiveAccessors() {
+        Context context = new Context(List.of(
+                new Argument<>("int", -5),
+                new Argument<>("long", Long.MAX_VALUE),
+                new Argument<>("float", 1.5f),
+                new Argument<>("double", -2.25),
+                new Argument<>("boolean", true),
+                new Argument<>("string", "test")
+        ));
+
+        assertEquals(-5, context.getInt("int"));
+        assertEquals(Long.MAX_VALUE, context.getLong("long"));
+        assertEquals(1.5f, context.getFloat("float"));
+        assertEquals(-2.25, context.getDouble("double"));
+        assertTrue(context.getBoolean("boolean"));
+    }
+
+    @Test
+    public void testPrimitiveWidening() {
+        Context context = new Context(List.of(
+                new Argument<>("int", 7),
+                new Argument<>("long", 8L),
+                new Argument<>("float", 0.5f)
+        ));
+
+        assertEquals(7L, context.getLong("int"));
+        assertEquals(7.0f, context.getFloat("int"));
+        assertEquals(7.0, context.getDouble("int"));
+        assertEquals(8.0, context.getDouble("long"));
+        assertEquals(0.5, context.getDouble("float"));
+        assertThrows(IllegalArgumentException.class, () -> context.getInt("long"));
+        assertThrows(IllegalArgumentException.class, () -> context.getLong("float"));
+    }
+
+    @Test
+    public void testPrimitiveAccessorsIllegal() {
+        Context context = new Context(argumentsValid);
+
+        assertThrows(IllegalArgumentException.class, () -> context.getInt("arg1"));
+        assertThrows(IllegalArgumentException.class, () -> context.getBoolean("arg2"));
+        assertThrows(IllegalArgumentException.class, () -> context.getInt("arg3"));
+        assertThrows(IllegalArgumentException.class, () -> context.getDouble("arg4"));
+        assertThrows(IllegalArgumentException.class, () -> context.getInt("arg5"));
+        assertThrows(IllegalArgumentException.class, () -> context.getInt(null));
+    }
+
 }
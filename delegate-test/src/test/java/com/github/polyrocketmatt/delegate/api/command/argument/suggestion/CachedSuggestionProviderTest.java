@@ -0,0 +1,74 @@
+package com.github.polyrocketmatt.delegate.api.command.argument.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedSuggestionProviderTest {
+
+    @Test
+    public void testCached() {
+        AtomicInteger queries = new AtomicInteger();
+        CachedSuggestionProvider provider = new CachedSuggestionProvider(() -> {
+            queries.incrementAndGet();
+            return new String[] { "b", "a" };
+        }, 1, TimeUnit.HOURS);
+
+        assertEquals(List.of("a", "b"), provider.suggest("").get(""));
+        assertEquals(List.of("b"), provider.suggest("b").get("b"));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testExpired() {
+        AtomicInteger queries = new AtomicInteger();
+        CachedSuggestionProvider provider = new CachedSuggestionProvider(() -> new String[] { "v" + queries.incrementAndGet() }, 0, TimeUnit.SECONDS);
+
+        assertEquals(List.of("v1"), provider.suggest("").get(""));
+        assertEquals(List.of("v2"), provider.suggest("").get(""));
+    }
+
+    @Test
+    public void testInvalidate() {
+        AtomicInteger queries = new AtomicInteger();
+        CachedSuggestionProvider provider = new CachedSuggestionProvider(() -> new String[] { "v" + queries.incrementAndGet() }, 1, TimeUnit.HOURS);
+
+        assertEquals(List.of("v1"), provider.suggest("").get(""));
+        provider.invalidate();
+        assertEquals(List.of("v2"), provider.suggest("").get(""));
+    }
+
+    @Test
+    public void testNullSource() {
+        CachedSuggestionProvider provider = new CachedSuggestionProvider(() -> null, 1, TimeUnit.HOURS);
+
+        assertEquals(Suggestions.EMPTY, provider.suggest(""));
+    }
+
+    @Test
+    public void testNullNotCached() {
+        AtomicInteger queries = new AtomicInteger();
+        CachedSuggestionProvider provider = new CachedSuggestionProvider(() -> {
+            int query = queries.incrementAndGet();
+            return (query == 2) ? null : new String[] { "v" + query };
+        }, 0, TimeUnit.SECONDS);
+
+        //  A source that did not respond keeps the previous values, and is queried again on the next request
+        assertEquals(List.of("v1"), provider.suggest("").get(""));
+        assertEquals(List.of("v1"), provider.suggest("").get(""));
+        assertEquals(List.of("v3"), provider.suggest("").get(""));
+        assertEquals(3, queries.get());
+    }
+
+    @Test
+    public void testIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedSuggestionProvider(null, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new CachedSuggestionProvider(() -> new String[0], 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new CachedSuggestionProvider(() -> new String[0], -1, TimeUnit.SECONDS));
+    }
+
+}
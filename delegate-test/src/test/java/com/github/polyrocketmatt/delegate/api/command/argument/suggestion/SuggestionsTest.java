@@ -0,0 +1,83 @@
+package com.github.polyrocketmatt.delegate.api.command.argument.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SuggestionsTest {
+
+    @Test
+    public void testOf() {
+        Suggestions suggestions = Suggestions.of("beta", "Alpha", "alps", "gamma");
+
+        assertFalse(suggestions.isAsync());
+        assertEquals(List.of("Alpha", "alps", "beta", "gamma"), suggestions.get(""));
+        assertEquals(List.of("Alpha", "alps"), suggestions.get("al"));
+        assertEquals(List.of("Alpha"), suggestions.get("ALPH"));
+        assertEquals(List.of("gamma"), suggestions.get("g"));
+        assertEquals(List.of(), suggestions.get("alphabet"));
+        assertEquals(List.of(), suggestions.get("z"));
+    }
+
+    @Test
+    public void testOfCopies() {
+        String[] values = new String[] { "b", "a" };
+        Suggestions suggestions = Suggestions.of(values);
+        values[0] = "c";
+
+        assertEquals(List.of("a", "b"), suggestions.get(""));
+    }
+
+    @Test
+    public void testOfSorted() {
+        Suggestions suggestions = Suggestions.ofSorted(new String[] { "a", "ab", "b" });
+
+        assertEquals(List.of("a", "ab"), suggestions.get("a"));
+        assertEquals(List.of("ab"), suggestions.get("AB"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(List.of(), Suggestions.EMPTY.get(""));
+        assertEquals(List.of(), Suggestions.EMPTY.get("a"));
+    }
+
+    @Test
+    public void testAsync() {
+        Suggestions suggestions = Suggestions.async(CompletableFuture.completedFuture(List.of("one", "two", "three")), 1, TimeUnit.SECONDS);
+
+        assertTrue(suggestions.isAsync());
+        assertEquals(List.of("two", "three"), suggestions.get("T"));
+        assertEquals(List.of("one", "two", "three"), suggestions.get(""));
+    }
+
+    @Test
+    public void testAsyncTimeout() {
+        Suggestions suggestions = Suggestions.async(new CompletableFuture<List<String>>(), 10, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+
+        assertEquals(List.of(), suggestions.get(""));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testAsyncFailure() {
+        Suggestions suggestions = Suggestions.async(CompletableFuture.failedFuture(new IllegalStateException()), 1, TimeUnit.SECONDS);
+
+        assertEquals(List.of(), suggestions.get(""));
+    }
+
+    @Test
+    public void testIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> Suggestions.of((String[]) null));
+        assertThrows(IllegalArgumentException.class, () -> Suggestions.of("a", null));
+        assertThrows(IllegalArgumentException.class, () -> Suggestions.ofSorted(null));
+        assertThrows(IllegalArgumentException.class, () -> Suggestions.async(null, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> Suggestions.EMPTY.get(null));
+    }
+
+}
@@ -140,4 +140,47 @@ public class CommandCaptureTest {
         assertNull(capture.getCaptureOf("a5"));
     }
 
+    @Test
+    public void testOf() {
+        CommandCapture capture = CommandCapture.of(validCaptures.toArray(CommandCapture.Capture[]::new));
+
+        assertEquals(4, capture.size());
+        assertEquals(validCaptures.get(3), capture.getCaptureOf("a4"));
+        assertThrows(IllegalArgumentException.class, () -> CommandCapture.of((CommandCapture.Capture[]) null));
+        assertThrows(IllegalArgumentException.class, () -> CommandCapture.of(invalidCaptures.toArray(CommandCapture.Capture[]::new)));
+    }
+
+    @Test
+    public void testSummary() {
+        CommandCapture capture = new CommandCapture(validCaptures);
+        CommandCapture empty = CommandCapture.of();
+
+        assertEquals(3, capture.getSuccessCount());
+        assertEquals(1, capture.getFailureCount());
+        assertFalse(capture.isAllSuccess());
+        assertFalse(capture.isAllFailure());
+        assertEquals(0, empty.getSuccessCount());
+        assertEquals(0, empty.getFailureCount());
+        assertTrue(empty.isAllSuccess());
+        assertTrue(empty.isAllFailure());
+    }
+
+    @Test
+    public void testGetResultsCached() {
+        CommandCapture capture = new CommandCapture(validCaptures);
+
+        assertSame(capture.getResults(), capture.getResults());
+        assertThrows(UnsupportedOperationException.class, () -> capture.getResults().add(ActionItem.Result.SUCCESS));
+    }
+
+    @Test
+    public void testGetCaptureOfDuplicate() {
+        CommandCapture.Capture first = new CommandCapture.Capture("a1", new ActionItem<>(ActionItem.Result.SUCCESS, 1));
+        CommandCapture.Capture second = new CommandCapture.Capture("a1", new ActionItem<>(ActionItem.Result.FAILURE, 2));
+        CommandCapture capture = CommandCapture.of(first, second);
+
+        assertSame(first, capture.getCaptureOf("a1"));
+        assertEquals(1, capture.getResultOf("a1").getItem());
+    }
+
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class SuccessActionResultTest {
 
@@ -15,4 +16,11 @@ public class SuccessActionResultTest {
         assertNull(successActionResult.getItem());
     }
 
+    @Test
+    public void testInstance() {
+        assertEquals(ActionItem.Result.SUCCESS, SuccessActionResult.INSTANCE.getResult());
+        assertNull(SuccessActionResult.INSTANCE.getItem());
+        assertSame(SuccessActionResult.INSTANCE, SuccessActionResult.INSTANCE);
+    }
+
 }
@@ -0,0 +1,68 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.api.command.feedback;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.IllegalFormatConversionException;
+import java.util.MissingFormatArgumentException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedbackTemplateTest {
+
+    @Test
+    public void testCompileIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackTemplate.compile(null));
+    }
+
+    @Test
+    public void testRenderMatchesFormat() {
+        for (FeedbackType type : FeedbackType.values()) {
+            Object[] args = new Object[] { 1, 2, 3 };
+            if (!type.getDefaultMessage().contains("%d"))
+                args = new Object[] { "a", "b", "c" };
+
+            assertEquals(type.getDefaultMessage(), type.getDefaultTemplate().getPattern());
+            assertEquals(type.getDefaultMessage().formatted(args), type.getDefaultTemplate().render(args));
+        }
+    }
+
+    @Test
+    public void testLiterals() {
+        assertEquals("", FeedbackTemplate.compile("").render());
+        assertEquals("No arguments", FeedbackTemplate.compile("No arguments").render());
+        assertEquals("100%", FeedbackTemplate.compile("%d%%").render(100));
+        assertEquals("a" + System.lineSeparator() + "b", FeedbackTemplate.compile("%s%n%s").render("a", "b"));
+    }
+
+    @Test
+    public void testConversions() {
+        FeedbackTemplate template = FeedbackTemplate.compile("%s: %d");
+
+        assertEquals("null: null", template.render(null, null));
+        assertEquals("a: -5", template.render("a", -5));
+        assertEquals("a: 5", template.render("a", 5L));
+        assertEquals("a: 12345678901234567890", template.render("a", new BigInteger("12345678901234567890")));
+        assertEquals("a: 1", template.render("a", 1, "unused"));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        FeedbackTemplate template = FeedbackTemplate.compile("%s: %d");
+
+        assertThrows(MissingFormatArgumentException.class, () -> template.render("a"));
+        assertThrows(IllegalFormatConversionException.class, () -> template.render("a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> template.render((Object[]) null));
+    }
+
+    @Test
+    public void testFallbackToFormat() {
+        assertEquals("  5", FeedbackTemplate.compile("%3d").render(5));
+        assertEquals("b a", FeedbackTemplate.compile("%2$s %1$s").render("a", "b"));
+        assertEquals("1.50", FeedbackTemplate.compile("%.2f").render(1.5));
+    }
+
+}
@@ -5,6 +5,7 @@ import com.github.polyrocketmatt.delegate.api.configuration.DelegateConfiguratio
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DelegateConfigurationTest {
 
@@ -24,4 +25,13 @@ public class DelegateConfigurationTest {
         assertEquals("Unauthorized", configuration.get(FeedbackType.UNAUTHORIZED));
     }
 
+    @Test
+    public void testTemplates() {
+        DelegateConfiguration configuration = new DelegateConfiguration()
+                .setFeedback(FeedbackType.UNAUTHORIZED, "No access to %s");
+
+        assertSame(FeedbackType.COMMAND_NON_EXISTENT.getDefaultTemplate(), configuration.getTemplate(FeedbackType.COMMAND_NON_EXISTENT));
+        assertEquals("No access to test", configuration.getTemplate(FeedbackType.UNAUTHORIZED).render("test"));
+    }
+
 }
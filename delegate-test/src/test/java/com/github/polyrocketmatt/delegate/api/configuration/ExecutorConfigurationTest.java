@@ -0,0 +1,48 @@
+package com.github.polyrocketmatt.delegate.api.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecutorConfigurationTest {
+
+    @Test
+    public void testDefaults() {
+        ExecutorConfiguration configuration = new ExecutorConfiguration();
+
+        assertTrue(configuration.getThreadCount() > 0);
+        assertTrue(configuration.getStealCount() > 0);
+        assertTrue(configuration.getQueueBound() >= 0);
+        assertEquals("delegate-worker", configuration.getThreadName());
+    }
+
+    @Test
+    public void testSetters() {
+        ExecutorConfiguration configuration = new ExecutorConfiguration()
+                .setThreadCount(4)
+                .setStealCount(2)
+                .setQueueBound(0)
+                .setThreadName("worker");
+
+        assertEquals(4, configuration.getThreadCount());
+        assertEquals(2, configuration.getStealCount());
+        assertEquals(0, configuration.getQueueBound());
+        assertEquals("worker", configuration.getThreadName());
+    }
+
+    @Test
+    public void testInvalidSetters() {
+        ExecutorConfiguration configuration = new ExecutorConfiguration();
+
+        assertThrows(IllegalArgumentException.class, () -> configuration.setThreadCount(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setStealCount(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setQueueBound(-1));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setThreadName(null));
+    }
+
+    @Test
+    public void testDelegateConfiguration() {
+        assertNotNull(new DelegateConfiguration().getExecutorConfiguration());
+    }
+
+}
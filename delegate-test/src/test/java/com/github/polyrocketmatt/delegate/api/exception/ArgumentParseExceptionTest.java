@@ -5,6 +5,7 @@ import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class ArgumentParseExceptionTest {
 
@@ -15,6 +16,18 @@ public class ArgumentParseExceptionTest {
         } catch (ArgumentParseException ex) {
             assertEquals("test", ex.getMessage());
             assertEquals(String.class, ex.getParseType());
+            assertNotEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void testInvalidInput() {
+        try {
+            throw ArgumentParseException.invalidInput("test", String.class);
+        } catch (ArgumentParseException ex) {
+            assertEquals("test", ex.getMessage());
+            assertEquals(String.class, ex.getParseType());
+            assertEquals(0, ex.getStackTrace().length);
         }
     }
 
@@ -2,12 +2,18 @@ package com.github.polyrocketmatt.delegate.api.exception;// Copyright (c) Matthi
 // Licensed under the MIT license.
 
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackTemplate;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.entity.ConsoleCommander;
 import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import org.junit.jupiter.api.Test;
 
+import java.util.IllegalFormatConversionException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CommandExecutionExceptionTest {
 
@@ -30,4 +36,38 @@ public class CommandExecutionExceptionTest {
         }
     }
 
+    @Test
+    public void testTemplateConstructor() {
+        CommandDispatchInformation dispatch = new CommandDispatchInformation(
+                new ConsoleCommander(),
+                "test",
+                new String[] { "arg1", "arg2" }
+        );
+        CommandExecutionException ex = new CommandExecutionException(dispatch, FeedbackTemplate.compile("No access to %s"), FeedbackType.UNAUTHORIZED, new Object[] { "test" });
+
+        assertEquals(FeedbackType.UNAUTHORIZED, ex.getFeedbackType());
+        assertEquals("No access to test", ex.getMessage());
+        assertEquals("No access to test", ex.getFeedback());
+        assertSame(ex.getMessage(), ex.getMessage());
+        assertNotEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    public void testStacklessConstructor() {
+        CommandDispatchInformation dispatch = new CommandDispatchInformation(new ConsoleCommander(), "test", new String[0]);
+        CommandExecutionException ex = new CommandExecutionException(dispatch, FeedbackTemplate.compile("No access to %s"), FeedbackType.UNAUTHORIZED, new Object[] { "test" }, false);
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("No access to test", ex.getFeedback());
+    }
+
+    @Test
+    public void testRenderingIsDeferred() {
+        CommandDispatchInformation dispatch = new CommandDispatchInformation(new ConsoleCommander(), "test", new String[0]);
+        CommandExecutionException ex = new CommandExecutionException(dispatch, FeedbackTemplate.compile("%d"), FeedbackType.ARGS_INVALID_COUNT, new Object[] { "test" });
+
+        //  Mismatched arguments only fail once the feedback is rendered
+        assertThrows(IllegalFormatConversionException.class, ex::getFeedback);
+    }
+
 }
@@ -11,12 +11,14 @@ import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
 import com.github.polyrocketmatt.delegate.api.command.definition.CommandDefinition;
 import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
 import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import com.github.polyrocketmatt.delegate.api.exception.AttributeException;
 import com.github.polyrocketmatt.delegate.core.command.DelegateCommandBuilder;
 import com.github.polyrocketmatt.delegate.core.command.argument.BoolArgument;
 import com.github.polyrocketmatt.delegate.core.command.argument.DoubleArgument;
 import com.github.polyrocketmatt.delegate.core.command.argument.FloatArgument;
 import com.github.polyrocketmatt.delegate.core.command.argument.IntArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.LongArgument;
 import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
 import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
 import com.github.polyrocketmatt.delegate.core.command.definition.SubcommandDefinition;
@@ -114,6 +116,16 @@ public class CommandBuilderImpl extends DelegateCommandBuilder {
         return this.with(BoolArgument.of(name, description, defaultValue));
     }
 
+    @Override
+    public @NotNull CommandBuilderImpl withLong(@NotNull String name, @NotNull String description) {
+        return this.with(LongArgument.of(name, description));
+    }
+
+    @Override
+    public @NotNull CommandBuilderImpl withLong(@NotNull String name, @NotNull String description, long defaultValue) {
+        return this.with(LongArgument.of(name, description, defaultValue));
+    }
+
     @Override
     public @NotNull CommandBuilderImpl withDefinition(@NotNull CommandDefinition<?> definition) {
         return this.with(definition);
@@ -141,6 +153,11 @@ public class CommandBuilderImpl extends DelegateCommandBuilder {
         return this.with(new AsyncProperty());
     }
 
+    @Override
+    public @NotNull CommandBuilderImpl withAsync(@NotNull ExecutionMode mode) {
+        return this.with(new AsyncProperty(mode));
+    }
+
     @Override
     public @NotNull CommandBuilderImpl withIgnoreNull() {
         return this.with(new IgnoreNullProperty());
@@ -0,0 +1,154 @@
+package com.github.polyrocketmatt.delegate.core.command;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandLineTest {
+
+    @Test
+    public void testPlainTokens() {
+        CommandLine line = CommandLine.tokenize("test a  b c");
+
+        assertEquals(4, line.size());
+        assertEquals("test", line.text(0));
+        assertEquals("a", line.text(1));
+        assertEquals("b", line.text(2));
+        assertEquals("c", line.text(3));
+        assertFalse(line.hasQuotes());
+        assertFalse(line.isQuoted(1));
+        assertFalse(line.isAssignment(1));
+    }
+
+    @Test
+    public void testOffsets() {
+        CommandLine line = CommandLine.tokenize("test abc");
+
+        assertEquals(5, line.start(1));
+        assertEquals(8, line.end(1));
+        assertEquals("test abc", line.prefix(2));
+        assertEquals("test", line.prefix(1));
+        assertEquals("", line.prefix(0));
+    }
+
+    @Test
+    public void testQuotedTokens() {
+        CommandLine line = CommandLine.tokenize("test \"hello world\" x \"a\"b c\"");
+
+        assertEquals(4, line.size());
+        assertTrue(line.hasQuotes());
+        assertTrue(line.isQuoted(1));
+        assertEquals("hello world", line.text(1));
+        assertEquals("x", line.text(2));
+        assertEquals("a\"b c", line.text(3));
+        assertEquals("\"hello world\"", line.raw(1));
+        assertEquals("x", line.raw(2));
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        CommandLine line = CommandLine.tokenize("test \"hello world");
+
+        assertEquals(2, line.size());
+        assertEquals("hello world", line.text(1));
+        assertEquals("", CommandLine.tokenize("test \"").text(1));
+        assertTrue(line.hasUnterminatedQuote());
+        assertTrue(CommandLine.tokenize("test \"").hasUnterminatedQuote());
+        assertTrue(CommandLine.tokenize("test a=\"b c").hasUnterminatedQuote());
+        assertTrue(CommandLine.tokenize("test \"a\"b").hasUnterminatedQuote());
+        assertFalse(CommandLine.tokenize("test \"a b\" c=\"d\" e").hasUnterminatedQuote());
+        assertFalse(CommandLine.tokenize("test a\"b").hasUnterminatedQuote());
+    }
+
+    @Test
+    public void testQuotedTokenIsLiteral() {
+        CommandLine line = CommandLine.tokenize("test \"a=b\"");
+
+        assertFalse(line.isAssignment(1));
+        assertEquals("a=b", line.text(1));
+    }
+
+    @Test
+    public void testAssignments() {
+        CommandLine line = CommandLine.tokenize("test a=1 b==2 c=");
+
+        assertTrue(line.isAssignment(1));
+        assertEquals(6, line.separator(1));
+        assertEquals("a", line.key(1));
+        assertEquals("1", line.value(1));
+        assertEquals("b", line.key(2));
+        assertEquals("=2", line.value(2));
+        assertEquals("c", line.key(3));
+        assertEquals("", line.value(3));
+        assertEquals(-1, line.separator(0));
+        assertThrows(IllegalArgumentException.class, () -> line.key(0));
+        assertThrows(IllegalArgumentException.class, () -> line.value(0));
+    }
+
+    @Test
+    public void testQuotedAssignment() {
+        CommandLine line = CommandLine.tokenize("test name=\"hello world\" x");
+
+        assertEquals(3, line.size());
+        assertTrue(line.isAssignment(1));
+        assertFalse(line.isQuoted(1));
+        assertTrue(line.hasQuotes());
+        assertEquals("name", line.key(1));
+        assertEquals("hello world", line.value(1));
+        assertEquals("\"hello world\"", line.rawValue(1));
+        assertEquals("x", line.text(2));
+        assertThrows(IllegalArgumentException.class, () -> line.rawValue(2));
+    }
+
+    @Test
+    public void testTexts() {
+        CommandLine line = CommandLine.tokenize("test \"a b\" c=d e=\"f g\"");
+
+        assertArrayEquals(new String[] { "a b", "c=d", "e=f g" }, line.texts(1));
+        assertArrayEquals(new String[0], line.texts(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> line.texts(5));
+    }
+
+    @Test
+    public void testOf() {
+        CommandLine line = CommandLine.of("test", new String[] { "\"hello", "world\"", "x" });
+
+        assertEquals("test \"hello world\" x", line.getLine());
+        assertEquals(3, line.size());
+        assertEquals("hello world", line.text(1));
+        assertEquals(1, CommandLine.of("test", new String[0]).size());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, CommandLine.tokenize("").size());
+        assertEquals(0, CommandLine.tokenize("   ").size());
+    }
+
+    @Test
+    public void testManyTokens() {
+        StringBuilder builder = new StringBuilder("test");
+        for (int i = 0; i < 100; i++)
+            builder.append(' ').append(i);
+        CommandLine line = CommandLine.tokenize(builder.toString());
+
+        assertEquals(101, line.size());
+        assertEquals("99", line.text(100));
+    }
+
+    @Test
+    public void testOutOfBounds() {
+        CommandLine line = CommandLine.tokenize("test");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> line.text(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> line.text(-1));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.tokenize(null));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.of(null, new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.of("test", null));
+    }
+
+}
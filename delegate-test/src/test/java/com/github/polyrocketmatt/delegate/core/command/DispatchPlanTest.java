@@ -0,0 +1,148 @@
+package com.github.polyrocketmatt.delegate.core.command;
+
+import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
+import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
+import com.github.polyrocketmatt.delegate.api.command.property.CommandProperty;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import com.github.polyrocketmatt.delegate.core.command.action.RunnableAction;
+import com.github.polyrocketmatt.delegate.core.command.argument.IntArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.IntMaxRule;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.IntMinRule;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.RulePipeline;
+import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionTierType;
+import com.github.polyrocketmatt.delegate.core.command.properties.AsyncProperty;
+import com.github.polyrocketmatt.delegate.core.command.properties.IgnoreNullProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DispatchPlanTest {
+
+    private final RunnableAction actionA = new RunnableAction("a", 2, () -> {});
+    private final RunnableAction actionB = new RunnableAction("b", 0, () -> {});
+    private final RunnableAction actionC = new RunnableAction("c", 2, () -> {});
+    private final RunnableAction actionD = new RunnableAction("d", 1, () -> {});
+
+    private VerifiedDelegateCommand.VerifiedCommandBuilder createBuilder() {
+        return VerifiedDelegateCommand.create()
+                .buildNameDefinition(new NameDefinition("test"))
+                .buildDescriptionDefinition(new DescriptionDefinition("A simple description"))
+                .buildAliasDefinitions(new AliasDefinition[0]);
+    }
+
+    @Test
+    public void testEmptyPlan() {
+        DispatchPlan plan = createBuilder().build().getDispatchPlan();
+
+        assertFalse(plan.isAsync());
+        assertFalse(plan.isCatchingExceptions());
+        assertFalse(plan.isIgnoringNull());
+        assertFalse(plan.isIgnoringNonPresent());
+        assertEquals(0, plan.getArguments().length);
+        assertEquals(0, plan.getActionGroups().length);
+        assertEquals(0, plan.getActionCount());
+        assertEquals(0, plan.getPermissionTiers().length);
+        assertEquals(0, plan.getTriggers().length);
+        assertEquals(0, plan.getExceptActions().length);
+    }
+
+    @Test
+    public void testPropertyFlags() {
+        DispatchPlan plan = createBuilder()
+                .buildPropertyBuffer(new CommandBuffer<CommandProperty>(List.of(new AsyncProperty(), new IgnoreNullProperty())))
+                .build()
+                .getDispatchPlan();
+
+        assertTrue(plan.isAsync());
+        assertTrue(plan.isIgnoringNull());
+        assertTrue(plan.hasFlag(DispatchPlan.ASYNC | DispatchPlan.IGNORE_NULL));
+        assertFalse(plan.isCatchingExceptions());
+        assertFalse(plan.isIgnoringNonPresent());
+    }
+
+    @Test
+    public void testExecutionMode() {
+        DispatchPlan pooled = createBuilder()
+                .buildPropertyBuffer(new CommandBuffer<CommandProperty>(List.of(new AsyncProperty())))
+                .build()
+                .getDispatchPlan();
+        DispatchPlan virtual = createBuilder()
+                .buildPropertyBuffer(new CommandBuffer<CommandProperty>(List.of(new AsyncProperty(ExecutionMode.VIRTUAL))))
+                .build()
+                .getDispatchPlan();
+
+        assertEquals(ExecutionMode.POOLED, pooled.getExecutionMode());
+        assertTrue(virtual.isAsync());
+        assertEquals(ExecutionMode.VIRTUAL, virtual.getExecutionMode());
+    }
+
+    @Test
+    public void testActionGroups() {
+        DispatchPlan plan = createBuilder()
+                .buildActionBuffer(new CommandBuffer<CommandAction>(List.of(actionA, actionB, actionC, actionD)))
+                .build()
+                .getDispatchPlan();
+        CommandAction[][] groups = plan.getActionGroups();
+
+        assertEquals(4, plan.getActionCount());
+        assertEquals(3, groups.length);
+        assertArrayEquals(new CommandAction[] { actionB }, groups[0]);
+        assertArrayEquals(new CommandAction[] { actionD }, groups[1]);
+        assertArrayEquals(new CommandAction[] { actionA, actionC }, groups[2]);
+    }
+
+    @Test
+    public void testArgumentSlots() {
+        CommandArgument<?> argumentA = IntArgument.of("a", "An integer");
+        CommandArgument<?> argumentB = StringArgument.of("b", "A string");
+        DispatchPlan plan = createBuilder()
+                .buildArgumentBuffer(new CommandBuffer<CommandArgument<?>>(List.of(argumentA, argumentB)))
+                .buildPermissionBuffer(new CommandBuffer<PermissionTier>(List.of(PermissionTierType.OPERATOR.getTier())))
+                .build()
+                .getDispatchPlan();
+
+        assertArrayEquals(new CommandArgument<?>[] { argumentA, argumentB }, plan.getArguments());
+        assertEquals(0, plan.indexOf("a"));
+        assertEquals(1, plan.indexOf("b"));
+        assertEquals(-1, plan.indexOf("c"));
+        assertEquals(1, plan.indexOf("a=1 b=2", 4, 5));
+        assertEquals(0, plan.indexOf("a=1 b=2", 0, 1));
+        assertEquals(-1, plan.indexOf("a=1 b=2", 0, 3));
+        assertEquals(2, plan.getArgumentSlots().size());
+        assertEquals("b", plan.getArgumentSlots().getIdentifier(1));
+        assertEquals(1, plan.getPermissionTiers().length);
+        assertEquals(1, plan.getPermissionChecks().length);
+        assertSame(plan.getPermissionTiers()[0], plan.getPermissionChecks()[0].getTier());
+    }
+
+    @Test
+    public void testRulePipelines() {
+        CommandArgument<?> argumentA = IntArgument.of("a", "An integer", new IntMinRule(0), new IntMaxRule(10));
+        CommandArgument<?> argumentB = StringArgument.of("b", "A string");
+        DispatchPlan plan = createBuilder()
+                .buildArgumentBuffer(new CommandBuffer<CommandArgument<?>>(List.of(argumentA, argumentB)))
+                .build()
+                .getDispatchPlan();
+        RulePipeline[] pipelines = plan.getRulePipelines();
+
+        assertEquals(2, pipelines.length);
+        assertEquals(1, pipelines[0].size());
+        assertSame(RulePipeline.EMPTY, pipelines[1]);
+        assertNull(pipelines[0].test(argumentA, "5", 5));
+        assertNotNull(pipelines[0].test(argumentA, "11", 11));
+    }
+
+    @Test
+    public void testCompileNull() {
+        assertThrows(IllegalArgumentException.class, () -> DispatchPlan.compile(null));
+    }
+
+}
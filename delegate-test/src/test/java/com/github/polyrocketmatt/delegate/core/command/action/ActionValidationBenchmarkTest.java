@@ -0,0 +1,72 @@
+package com.github.polyrocketmatt.delegate.core.command.action;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.argument.Context;
+import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.core.CommanderEntityImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs an action with a plain list of arguments, which is validated on every call, and with
+ * a {@link Context}, which was validated once when it was created.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class ActionValidationBenchmarkTest {
+
+    private static final int ARGUMENTS = 16;
+    private static final int ITERATIONS = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    private final CommanderEntity commander = new CommanderEntityImpl();
+    private final ConsumerAction action = new ConsumerAction("bench", (entity, context) -> {});
+
+    private List<Argument<?>> createArguments() {
+        List<Argument<?>> arguments = new ArrayList<>(ARGUMENTS);
+        for (int i = 0; i < ARGUMENTS; i++)
+            arguments.add(new Argument<>("a" + i, i));
+        return arguments;
+    }
+
+    private long run(List<Argument<?>> arguments) {
+        long start = System.nanoTime();
+        int successes = 0;
+
+        for (int i = 0; i < ITERATIONS; i++)
+            if (action.run(commander, arguments).getResult() == ActionItem.Result.SUCCESS)
+                successes++;
+
+        assertEquals(ITERATIONS, successes);
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testTrustedContext(TestReporter reporter) {
+        List<Argument<?>> arguments = createArguments();
+        Context context = new Context(arguments);
+        long validated = Long.MAX_VALUE;
+        long trusted = Long.MAX_VALUE;
+
+        //  The first rounds double as warm-up, so only the fastest round counts
+        for (int round = 0; round < ROUNDS; round++) {
+            validated = Math.min(validated, run(arguments));
+            trusted = Math.min(trusted, run(context));
+        }
+
+        reporter.publishEntry("validated ms for %d runs".formatted(ITERATIONS), String.valueOf(TimeUnit.NANOSECONDS.toMillis(validated)));
+        reporter.publishEntry("trusted ms for %d runs".formatted(ITERATIONS), String.valueOf(TimeUnit.NANOSECONDS.toMillis(trusted)));
+    }
+
+}
@@ -5,6 +5,7 @@ package com.github.polyrocketmatt.delegate.core.command.action;
 
 import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.argument.Context;
 import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.core.command.permission.PermissionTierType;
@@ -205,4 +206,27 @@ public class ConsumerActionTest {
         assertEquals(ClassCastException.class, result.getItem().getClass());
     }
 
+    @Test
+    public void testContextIsPassedThrough() {
+        ConsumerCommanderEntity entity = new ConsumerCommanderEntity();
+        Context context = new Context(List.of(new Argument<>("primary", 1)));
+        List<Context> received = new ArrayList<>();
+        ConsumerAction action = new ConsumerAction((sender, actual) -> received.add(actual));
+
+        //  A context was validated when it was created, so it is handed to the action as it is
+        assertTrue(action.run(entity, context).getResult().isSuccess());
+        assertSame(context, received.get(0));
+    }
+
+    @Test
+    public void testUntrustedListValidated() {
+        ConsumerCommanderEntity entity = new ConsumerCommanderEntity();
+        List<Argument<?>> arguments = new ArrayList<>();
+        arguments.add(new Argument<>("primary", 1));
+        arguments.add(null);
+        ConsumerAction action = new ConsumerAction((sender, context) -> fail("The action should not run"));
+
+        assertThrows(IllegalArgumentException.class, () -> action.run(entity, arguments));
+    }
+
 }
@@ -4,12 +4,14 @@
 package com.github.polyrocketmatt.delegate.core.command.action;
 
 import com.github.polyrocketmatt.delegate.api.AttributeType;
+import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
 import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
 import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
@@ -87,4 +89,22 @@ public class ExceptActionTest {
         assertDoesNotThrow(() -> action.run(commander, type, arguments));
     }
 
+    @Test
+    public void testExecuteInformation() {
+        ExceptCommanderEntity commander = new ExceptCommanderEntity();
+        CommandDispatchInformation information = new CommandDispatchInformation(commander, "test", new String[] { "a", "b" });
+        List<String> received = new ArrayList<>();
+        ExceptAction action = new ExceptAction((entity, feedback, args) -> {
+            assertSame(commander, entity);
+            assertEquals(FeedbackType.UNAUTHORIZED, feedback);
+            received.addAll(args);
+        });
+
+        action.run(information, FeedbackType.UNAUTHORIZED);
+
+        assertEquals(List.of("test", "a", "b"), received);
+        assertThrows(IllegalArgumentException.class, () -> action.run(null, FeedbackType.UNAUTHORIZED));
+        assertThrows(IllegalArgumentException.class, () -> action.run(information, null));
+    }
+
 }
@@ -84,6 +84,15 @@ public class DoubleRangeArgumentTest {
         assertEquals(new DelegateDoubleRange(0.1, 3.14), parsedArgumentB.output());
     }
 
+    @Test
+    public void testNegativeBounds() {
+        DoubleRangeArgument argument = DoubleRangeArgument.of("identifier", "description");
+
+        assertEquals(new DelegateDoubleRange(-1.5, -0.5), argument.parse("-1.5--0.5").output());
+        assertEquals(new DelegateDoubleRange(-1.5, 2.5), argument.parse("-1.5-2.5").output());
+        assertEquals(new DelegateDoubleRange(-1.5, -0.5), argument.parse(new StringReader("-1.5--0.5 rest")));
+    }
+
     @Test
     public void testInternalParserInputNull() {
         DelegateDoubleRange range = new DelegateDoubleRange(0.0, 1.0);
@@ -102,7 +111,7 @@ public class DoubleRangeArgumentTest {
         assertThrows(ArgumentParseException.class, () -> argument.parse("not a range"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0_0"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0L_0"));
-        assertThrows(ArgumentParseException.class, () -> argument.parse("0--0"));
+        assertThrows(ArgumentParseException.class, () -> argument.parse("0--"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0-0-1"));
     }
 
@@ -114,7 +123,7 @@ public class DoubleRangeArgumentTest {
         Argument<DelegateDoubleRange> parsedArgumentB = argument.parse("not a number");
         Argument<DelegateDoubleRange> parsedArgumentC = argument.parse("0_0");
         Argument<DelegateDoubleRange> parsedArgumentD = argument.parse("0L_0");
-        Argument<DelegateDoubleRange> parsedArgumentE = argument.parse("0--0");
+        Argument<DelegateDoubleRange> parsedArgumentE = argument.parse("0--");
         Argument<DelegateDoubleRange> parsedArgumentF = argument.parse("0-0-1");
 
         assertEquals(range, parsedArgumentA.output());
@@ -141,7 +150,7 @@ public class DoubleRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertThrows(ArgumentParseException.class, () -> argument.parse(readerA));
@@ -160,7 +169,7 @@ public class DoubleRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertEquals(range, argument.parse(readerA));
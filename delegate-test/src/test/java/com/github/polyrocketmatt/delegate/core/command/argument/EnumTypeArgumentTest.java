@@ -2,6 +2,7 @@ package com.github.polyrocketmatt.delegate.core.command.argument;
 
 import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.argument.suggestion.SuggestionProvider;
 import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.IntMaxRule;
 import com.github.polyrocketmatt.delegate.core.command.argument.rule.IntMinRule;
@@ -10,6 +11,8 @@ import com.mojang.brigadier.StringReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -22,6 +25,12 @@ public class EnumTypeArgumentTest {
         HIGH
     }
 
+    private enum CaseEnum {
+        value,
+        VALUE,
+        Other
+    }
+
     @BeforeEach
     public void setup() {
         getDelegate().setVerbose(true);
@@ -147,4 +156,34 @@ public class EnumTypeArgumentTest {
         assertEquals(TestEnum.LOW, argument.parse(readerB));
     }
 
+    @Test
+    public void testSuggestions() {
+        EnumTypeArgument<TestEnum> argument = EnumTypeArgument.of("identifier", "description", TestEnum.class);
+        SuggestionProvider provider = argument.getSuggestionProvider();
+
+        assertNotNull(provider);
+        assertEquals(List.of("high", "low", "medium"), provider.suggest("").get(""));
+        assertEquals(List.of("low"), provider.suggest("L").get("L"));
+        assertSame(provider, EnumTypeArgument.of("other", "description", TestEnum.class).getSuggestionProvider());
+    }
+
+    @Test
+    public void testCaseInsensitiveLookup() {
+        EnumTypeArgument<CaseEnum> argument = EnumTypeArgument.of("identifier", "description", CaseEnum.class);
+
+        assertEquals(CaseEnum.value, argument.parse("VaLuE").output());
+        assertEquals(CaseEnum.value, argument.parse(new StringReader("VALUE")));
+        assertEquals(CaseEnum.Other, argument.parse("other").output());
+        assertEquals(List.of("other", "value"), argument.getSuggestionProvider().suggest("").get(""));
+    }
+
+    @Test
+    public void testBrigadierParserKeepsCursor() {
+        EnumTypeArgument<TestEnum> argument = EnumTypeArgument.of("identifier", "description", TestEnum.LOW, TestEnum.class);
+        StringReader reader = new StringReader("unknown rest");
+
+        assertEquals(TestEnum.LOW, argument.parse(reader));
+        assertEquals(0, reader.getCursor());
+    }
+
 }
@@ -84,6 +84,15 @@ public class FloatRangeArgumentTest {
         assertEquals(new DelegateFloatRange(0.1f, 3.14f), parsedArgumentB.output());
     }
 
+    @Test
+    public void testNegativeBounds() {
+        FloatRangeArgument argument = FloatRangeArgument.of("identifier", "description");
+
+        assertEquals(new DelegateFloatRange(-1.5f, -0.5f), argument.parse("-1.5--0.5").output());
+        assertEquals(new DelegateFloatRange(-1.5f, 2.5f), argument.parse("-1.5-2.5").output());
+        assertEquals(new DelegateFloatRange(-1.5f, -0.5f), argument.parse(new StringReader("-1.5--0.5 rest")));
+    }
+
     @Test
     public void testInternalParserInputNull() {
         DelegateFloatRange range = new DelegateFloatRange(0.0f, 1.0f);
@@ -102,7 +111,7 @@ public class FloatRangeArgumentTest {
         assertThrows(ArgumentParseException.class, () -> argument.parse("not a range"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0_0"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0L_0"));
-        assertThrows(ArgumentParseException.class, () -> argument.parse("0--0"));
+        assertThrows(ArgumentParseException.class, () -> argument.parse("0--"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0-0-1"));
     }
 
@@ -114,7 +123,7 @@ public class FloatRangeArgumentTest {
         Argument<DelegateFloatRange> parsedArgumentB = argument.parse("not a number");
         Argument<DelegateFloatRange> parsedArgumentC = argument.parse("0_0");
         Argument<DelegateFloatRange> parsedArgumentD = argument.parse("0L_0");
-        Argument<DelegateFloatRange> parsedArgumentE = argument.parse("0--0");
+        Argument<DelegateFloatRange> parsedArgumentE = argument.parse("0--");
         Argument<DelegateFloatRange> parsedArgumentF = argument.parse("0-0-1");
 
         assertEquals(range, parsedArgumentA.output());
@@ -141,7 +150,7 @@ public class FloatRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertThrows(ArgumentParseException.class, () -> argument.parse(readerA));
@@ -160,7 +169,7 @@ public class FloatRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertEquals(range, argument.parse(readerA));
@@ -84,6 +84,15 @@ public class IntRangeArgumentTest {
         assertEquals(new DelegateIntRange(0, 3), parsedArgumentB.output());
     }
 
+    @Test
+    public void testNegativeBounds() {
+        IntRangeArgument argument = IntRangeArgument.of("identifier", "description");
+
+        assertEquals(new DelegateIntRange(-5, -2), argument.parse("-5--2").output());
+        assertEquals(new DelegateIntRange(-5, 3), argument.parse("-5-3").output());
+        assertEquals(new DelegateIntRange(-5, -2), argument.parse(new StringReader("-5--2 rest")));
+    }
+
     @Test
     public void testInternalParserInputNull() {
         DelegateIntRange range = new DelegateIntRange(0, 1);
@@ -102,7 +111,7 @@ public class IntRangeArgumentTest {
         assertThrows(ArgumentParseException.class, () -> argument.parse("not a range"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0_0"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0L_0"));
-        assertThrows(ArgumentParseException.class, () -> argument.parse("0--0"));
+        assertThrows(ArgumentParseException.class, () -> argument.parse("0--"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0-0-1"));
     }
 
@@ -114,7 +123,7 @@ public class IntRangeArgumentTest {
         Argument<DelegateIntRange> parsedArgumentB = argument.parse("not a number");
         Argument<DelegateIntRange> parsedArgumentC = argument.parse("0_0");
         Argument<DelegateIntRange> parsedArgumentD = argument.parse("0L_0");
-        Argument<DelegateIntRange> parsedArgumentE = argument.parse("0--0");
+        Argument<DelegateIntRange> parsedArgumentE = argument.parse("0--");
         Argument<DelegateIntRange> parsedArgumentF = argument.parse("0-0-1");
 
         assertEquals(range, parsedArgumentA.output());
@@ -141,7 +150,7 @@ public class IntRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertThrows(ArgumentParseException.class, () -> argument.parse(readerA));
@@ -160,7 +169,7 @@ public class IntRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertEquals(range, argument.parse(readerA));
@@ -84,6 +84,15 @@ public class LongRangeArgumentTest {
         assertEquals(new DelegateLongRange(0L, 3L), parsedArgumentB.output());
     }
 
+    @Test
+    public void testNegativeBounds() {
+        LongRangeArgument argument = LongRangeArgument.of("identifier", "description");
+
+        assertEquals(new DelegateLongRange(-5L, -2L), argument.parse("-5--2").output());
+        assertEquals(new DelegateLongRange(-5L, 3L), argument.parse("-5-3").output());
+        assertEquals(new DelegateLongRange(-5L, -2L), argument.parse(new StringReader("-5--2 rest")));
+    }
+
     @Test
     public void testInternalParserInputNull() {
         DelegateLongRange range = new DelegateLongRange(0L, 1L);
@@ -102,7 +111,7 @@ public class LongRangeArgumentTest {
         assertThrows(ArgumentParseException.class, () -> argument.parse("not a range"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0_0"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0L_0"));
-        assertThrows(ArgumentParseException.class, () -> argument.parse("0--0"));
+        assertThrows(ArgumentParseException.class, () -> argument.parse("0--"));
         assertThrows(ArgumentParseException.class, () -> argument.parse("0-0-1"));
     }
 
@@ -114,7 +123,7 @@ public class LongRangeArgumentTest {
         Argument<DelegateLongRange> parsedArgumentB = argument.parse("not a number");
         Argument<DelegateLongRange> parsedArgumentC = argument.parse("0_0");
         Argument<DelegateLongRange> parsedArgumentD = argument.parse("0L_0");
-        Argument<DelegateLongRange> parsedArgumentE = argument.parse("0--0");
+        Argument<DelegateLongRange> parsedArgumentE = argument.parse("0--");
         Argument<DelegateLongRange> parsedArgumentF = argument.parse("0-0-1");
 
         assertEquals(range, parsedArgumentA.output());
@@ -141,7 +150,7 @@ public class LongRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertThrows(ArgumentParseException.class, () -> argument.parse(readerA));
@@ -160,7 +169,7 @@ public class LongRangeArgumentTest {
         StringReader readerB = new StringReader("not a number");
         StringReader readerC = new StringReader("0_0");
         StringReader readerD = new StringReader("0L_0");
-        StringReader readerE = new StringReader("0--0");
+        StringReader readerE = new StringReader("0--");
         StringReader readerF = new StringReader("0-0-1");
 
         assertEquals(range, argument.parse(readerA));
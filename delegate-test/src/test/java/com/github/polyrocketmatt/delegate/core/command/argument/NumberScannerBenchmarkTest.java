@@ -0,0 +1,94 @@
+package com.github.polyrocketmatt.delegate.core.command.argument;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the cost of parsing invalid input to the cost of parsing valid input. Before the
+ * {@link NumberScanner}, every invalid number cost a {@link NumberFormatException} with a full
+ * stack trace, which made garbage input an order of magnitude more expensive than valid input.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class NumberScannerBenchmarkTest {
+
+    private static final int ITERATIONS = 50_000;
+    private static final int ROUNDS = 3;
+    private static final String[] VALID = { "12", "-5", "1024", "77", "-300" };
+    private static final String[] INVALID = { "12a", "abc", "1.0", "--5", "0_0" };
+
+    private long exceptions(String[] inputs) {
+        long start = System.nanoTime();
+        int sum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            try {
+                sum += Integer.parseInt(inputs[i % inputs.length]);
+            } catch (NumberFormatException ex) {
+                sum--;
+            }
+        }
+
+        assertNotEquals(0, sum);
+        return System.nanoTime() - start;
+    }
+
+    private long scanner(String[] inputs) {
+        NumberScanner scanner = new NumberScanner();
+        long start = System.nanoTime();
+        int sum = 0;
+        for (int i = 0; i < ITERATIONS; i++)
+            sum += scanner.isInt(inputs[i % inputs.length]) ? scanner.getInt() : -1;
+
+        assertNotEquals(0, sum);
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void testSameResults() {
+        NumberScanner scanner = new NumberScanner();
+
+        for (String[] inputs : new String[][] { VALID, INVALID }) {
+            for (String input : inputs) {
+                Integer expected;
+                try {
+                    expected = Integer.parseInt(input);
+                } catch (NumberFormatException ex) {
+                    expected = null;
+                }
+
+                assertEquals(expected != null, scanner.isInt(input), input);
+                if (expected != null)
+                    assertEquals(expected, scanner.getInt(), input);
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testInvalidInput(TestReporter reporter) {
+        long exceptionsValid = Long.MAX_VALUE;
+        long exceptionsInvalid = Long.MAX_VALUE;
+        long scannerValid = Long.MAX_VALUE;
+        long scannerInvalid = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            exceptionsValid = Math.min(exceptionsValid, exceptions(VALID));
+            exceptionsInvalid = Math.min(exceptionsInvalid, exceptions(INVALID));
+            scannerValid = Math.min(scannerValid, scanner(VALID));
+            scannerInvalid = Math.min(scannerInvalid, scanner(INVALID));
+        }
+
+        reporter.publishEntry("exceptions valid us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(exceptionsValid)));
+        reporter.publishEntry("exceptions invalid us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(exceptionsInvalid)));
+        reporter.publishEntry("scanner valid us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(scannerValid)));
+        reporter.publishEntry("scanner invalid us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(scannerInvalid)));
+    }
+
+}
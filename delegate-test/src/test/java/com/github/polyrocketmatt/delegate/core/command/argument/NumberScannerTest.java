@@ -0,0 +1,108 @@
+package com.github.polyrocketmatt.delegate.core.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumberScannerTest {
+
+    private final NumberScanner scanner = new NumberScanner();
+
+    @Test
+    public void testInt() {
+        assertTrue(scanner.isInt("42"));
+        assertEquals(42, scanner.getInt());
+        assertTrue(scanner.isInt("-17"));
+        assertEquals(-17, scanner.getInt());
+        assertTrue(scanner.isInt("+3"));
+        assertEquals(3, scanner.getInt());
+        assertTrue(scanner.isInt("2147483647"));
+        assertEquals(Integer.MAX_VALUE, scanner.getInt());
+        assertTrue(scanner.isInt("-2147483648"));
+        assertEquals(Integer.MIN_VALUE, scanner.getInt());
+
+        assertFalse(scanner.isInt("2147483648"));
+        assertFalse(scanner.isInt("-2147483649"));
+        assertFalse(scanner.isInt(""));
+        assertFalse(scanner.isInt("-"));
+        assertFalse(scanner.isInt("0."));
+        assertFalse(scanner.isInt("0_0"));
+        assertFalse(scanner.isInt("not a number"));
+    }
+
+    @Test
+    public void testLong() {
+        assertTrue(scanner.isLong("9223372036854775807"));
+        assertEquals(Long.MAX_VALUE, scanner.getLong());
+        assertTrue(scanner.isLong("-9223372036854775808"));
+        assertEquals(Long.MIN_VALUE, scanner.getLong());
+        assertTrue(scanner.isLong("2147483648"));
+        assertEquals(2147483648L, scanner.getLong());
+
+        assertFalse(scanner.isLong("9223372036854775808"));
+        assertFalse(scanner.isLong("99999999999999999999"));
+        assertFalse(scanner.isLong("1L"));
+    }
+
+    @Test
+    public void testDouble() {
+        String[] inputs = { "0", "0.0", "-0.0", "1.", ".5", "-.5", "3.14", "1e3", "1E-3", "-2.5e+2", "1.7976931348623157e308",
+                "4.9e-324", "0.1", "123456789012345678901234567890", "0.000000000000000000000000001", "9007199254740993", "1e400" };
+        for (String input : inputs) {
+            assertTrue(scanner.isDouble(input), input);
+            assertEquals(Double.parseDouble(input), scanner.getDouble(), input);
+        }
+
+        assertTrue(scanner.isDouble("0.0d"));
+        assertTrue(scanner.isDouble("1.5f"));
+        assertFalse(scanner.isDouble("0.0ff"));
+        assertFalse(scanner.isDouble("0.0.0"));
+        assertFalse(scanner.isDouble("."));
+        assertFalse(scanner.isDouble("e5"));
+        assertFalse(scanner.isDouble("1e"));
+        assertFalse(scanner.isDouble("NaN"));
+    }
+
+    @Test
+    public void testFloat() {
+        String[] inputs = { "0", "0.0", "-1.5", "3.14159", "16777217", "0.1", "1e-10", "3.4028235e38", "1.4e-45" };
+        for (String input : inputs) {
+            assertTrue(scanner.isFloat(input), input);
+            assertEquals(Float.parseFloat(input), scanner.getFloat(), input);
+        }
+
+        assertTrue(scanner.isFloat("0.0f"));
+        assertEquals(0.0f, scanner.getFloat());
+        assertFalse(scanner.isFloat("0.0ff"));
+    }
+
+    @Test
+    public void testRandomDecimals() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String input = Double.toString((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20));
+
+            assertTrue(scanner.isDouble(input), input);
+            assertEquals(Double.parseDouble(input), scanner.getDouble(), input);
+            assertTrue(scanner.isFloat(input), input);
+            assertEquals(Float.parseFloat(input), scanner.getFloat(), input);
+        }
+    }
+
+    @Test
+    public void testScanPrefix() {
+        assertEquals(2, scanner.scanInt("-5--2", 0, 5));
+        assertEquals(-5, scanner.getInt());
+        assertEquals(5, scanner.scanInt("-5--2", 3, 5));
+        assertEquals(-2, scanner.getInt());
+        assertEquals(4, scanner.scanDouble("1e-5-2", 0, 6));
+        assertEquals(1e-5, scanner.getDouble());
+        assertEquals(1, scanner.scanDouble("1e", 0, 2));
+        assertEquals(4, scanner.scanFloat("0.0f-1.0f", 0, 9));
+        assertEquals(NumberScanner.FAILURE, scanner.scanInt("abc", 0, 3));
+        assertEquals(NumberScanner.FAILURE, scanner.scanInt("12", 2, 2));
+    }
+
+}
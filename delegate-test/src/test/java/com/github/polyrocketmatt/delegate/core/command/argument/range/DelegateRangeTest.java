@@ -0,0 +1,41 @@
+package com.github.polyrocketmatt.delegate.core.command.argument.range;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DelegateRangeTest {
+
+    @SuppressWarnings("deprecation")
+    private static final class BoxedRange extends DelegateRange<Integer> {
+
+        private BoxedRange(Integer min, Integer max) {
+            super(min, max);
+        }
+
+        @Override
+        public boolean contains(Integer value) {
+            return value >= getMin() && value <= getMax();
+        }
+
+    }
+
+    @Test
+    public void testBoxedConstructor() {
+        BoxedRange range = new BoxedRange(0, 10);
+
+        assertEquals(0, range.getMin());
+        assertEquals(10, range.getMax());
+        assertTrue(range.contains(5));
+        assertFalse(range.contains(11));
+        assertEquals("0-10", range.toString());
+    }
+
+    @Test
+    public void testBoxedEquals() {
+        assertEquals(new BoxedRange(0, 10), new BoxedRange(0, 10));
+        assertEquals(new BoxedRange(0, 10).hashCode(), new BoxedRange(0, 10).hashCode());
+        assertNotEquals(new BoxedRange(0, 10), new BoxedRange(1, 2));
+    }
+
+}
@@ -0,0 +1,158 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.argument.rule;
+
+import com.github.polyrocketmatt.delegate.api.command.argument.rule.ArgumentRule;
+import com.github.polyrocketmatt.delegate.core.command.argument.IntArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RulePipelineTest {
+
+    private final IntArgument argument = IntArgument.of("value", "");
+
+    @Test
+    public void testEmpty() {
+        RulePipeline pipeline = RulePipeline.compile(List.of());
+
+        assertSame(RulePipeline.EMPTY, pipeline);
+        assertEquals(0, pipeline.size());
+        assertNull(pipeline.test(argument, "5", 5));
+    }
+
+    @Test
+    public void testAdjacentBoundsAreFused() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0), new IntMaxRule(10), new IntRangeRule(-5, 8)));
+
+        assertEquals(1, pipeline.size());
+        assertNull(pipeline.test(argument, "0", 0));
+        assertNull(pipeline.test(argument, "8", 8));
+        assertNotNull(pipeline.test(argument, "-1", -1));
+        assertNotNull(pipeline.test(argument, "9", 9));
+    }
+
+    @Test
+    public void testOtherRulesBreakFusion() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0), new ConditionRule(input -> true), new IntMaxRule(10)));
+
+        assertEquals(3, pipeline.size());
+    }
+
+    @Test
+    public void testBoundsOfDifferentTypesAreNotFused() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0), new LongMaxRule(10L)));
+
+        assertEquals(2, pipeline.size());
+    }
+
+    @Test
+    public void testFailureOfFusedRuleReportsFailingRule() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0), new IntMaxRule(10)));
+
+        assertEquals("Value was null or not a number greater than the minimum: -1 (min 0)", pipeline.test(argument, "-1", -1));
+        assertEquals("Value was null or not a number less than the maximum: 11 (max 10)", pipeline.test(argument, "11", 11));
+    }
+
+    @Test
+    public void testFailureWithoutInputReportsValue() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0)));
+
+        assertEquals("Value was null or not a number greater than the minimum: -1 (min 0)", pipeline.test(argument, null, -1));
+    }
+
+    @Test
+    public void testExclusiveIntegralBounds() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntRangeRule(0, 10, false, false)));
+
+        assertNotNull(pipeline.test(argument, "0", 0));
+        assertNull(pipeline.test(argument, "1", 1));
+        assertNull(pipeline.test(argument, "9", 9));
+        assertNotNull(pipeline.test(argument, "10", 10));
+    }
+
+    @Test
+    public void testExclusiveDecimalBounds() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new DoubleMinRule(0.0, false), new DoubleMaxRule(1.0)));
+
+        assertEquals(1, pipeline.size());
+        assertNotNull(pipeline.test(argument, "0.0", 0.0));
+        assertNull(pipeline.test(argument, "0.5", 0.5));
+        assertNull(pipeline.test(argument, "1.0", 1.0));
+        assertNotNull(pipeline.test(argument, "1.5", 1.5));
+    }
+
+    @Test
+    public void testFloatBounds() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new FloatRangeRule(0.0f, 1.0f, true, false)));
+
+        assertNull(pipeline.test(argument, "0", 0.0f));
+        assertNotNull(pipeline.test(argument, "1", 1.0f));
+        assertNotNull(pipeline.test(argument, "-0.5", -0.5f));
+    }
+
+    @Test
+    public void testLongBounds() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new LongMinRule(Long.MAX_VALUE, false)));
+
+        assertNotNull(pipeline.test(argument, String.valueOf(Long.MAX_VALUE), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testStringLength() {
+        StringArgument argument = StringArgument.of("name", "");
+        RulePipeline pipeline = RulePipeline.compile(List.of(new StringMinLengthRule(2), new StringMaxLengthRule(4)));
+
+        assertEquals(1, pipeline.size());
+        assertNotNull(pipeline.test(argument, "a", "a"));
+        assertNull(pipeline.test(argument, "ab", "ab"));
+        assertNull(pipeline.test(argument, "abcd", "abcd"));
+        assertNotNull(pipeline.test(argument, "abcde", "abcde"));
+    }
+
+    @Test
+    public void testNonNull() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new NonNullRule()));
+
+        assertNull(pipeline.test(argument, "5", 5));
+        assertNotNull(pipeline.test(argument, null, null));
+    }
+
+    @Test
+    public void testNullValueFailsBounds() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0)));
+
+        assertNotNull(pipeline.test(argument, null, null));
+    }
+
+    @Test
+    public void testMismatchedValueFallsBackToInput() {
+        StringArgument argument = StringArgument.of("name", "");
+        RulePipeline pipeline = RulePipeline.compile(List.of(new IntMinRule(0)));
+
+        assertNull(pipeline.test(argument, "5", "5"));
+        assertNotNull(pipeline.test(argument, "-5", "-5"));
+        assertNotNull(pipeline.test(argument, "five", "five"));
+    }
+
+    @Test
+    public void testConditionRuleIsAppliedToInput() {
+        List<ArgumentRule<?>> rules = List.of(new ConditionRule(input -> input.startsWith("a")));
+        RulePipeline pipeline = RulePipeline.compile(rules);
+
+        assertNull(pipeline.test(argument, "abc", "abc"));
+        assertEquals("Condition was not met for input: bcd", pipeline.test(argument, "bcd", "bcd"));
+    }
+
+    @Test
+    public void testFirstFailingCheckIsReported() {
+        RulePipeline pipeline = RulePipeline.compile(List.of(new ConditionRule(input -> false), new IntMinRule(0)));
+
+        assertEquals("Condition was not met for input: -1", pipeline.test(argument, "-1", -1));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.polyrocketmatt.delegate.core.command.argument.selector;
+
+import com.github.polyrocketmatt.delegate.core.command.argument.selector.StubWorld.StubEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the compiled selectors against the way selectors were evaluated before, which
+ * mirrors {@code Bukkit.selectEntities}: the selector is evaluated against every entity of
+ * the world, all matches are materialized and sorted, and only then filtered by the type
+ * of the argument. The stub world contains 50.000 entities spread over 1000x1000 blocks and
+ * answers radius queries with a full scan as well, such that only the selector is compared.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class EntitySelectorBenchmarkTest {
+
+    private static final int ENTITIES = 50_000;
+    private static final int QUERIES = 200;
+    private static final int ROUNDS = 5;
+    private static final String[] TYPES = { "minecraft:zombie", "minecraft:cow", "minecraft:item", "minecraft:player" };
+
+    private StubWorld createWorld() {
+        StubWorld world = new StubWorld();
+        Random random = new Random(42);
+        for (int i = 0; i < ENTITIES; i++)
+            world.spawn(TYPES[random.nextInt(TYPES.length)], random.nextDouble() * 1000.0 - 500.0, 64.0, random.nextDouble() * 1000.0 - 500.0);
+
+        return world;
+    }
+
+    private List<StubEntity> scan(StubWorld world, double x, double z, double radius, String type, int limit) {
+        List<StubEntity> matches = new ArrayList<>();
+        for (StubEntity entity : world.getEntities()) {
+            double dx = entity.x() - x;
+            double dz = entity.z() - z;
+            if (dx * dx + dz * dz <= radius * radius)
+                matches.add(entity);
+        }
+        matches.sort(Comparator.comparingDouble(entity -> (entity.x() - x) * (entity.x() - x) + (entity.z() - z) * (entity.z() - z)));
+
+        List<StubEntity> typed = new ArrayList<>();
+        for (StubEntity entity : matches)
+            if (entity.type().equals(type) && typed.size() < limit)
+                typed.add(entity);
+        return typed;
+    }
+
+    private long baseline(StubWorld world) {
+        long start = System.nanoTime();
+        int results = 0;
+        for (int i = 0; i < QUERIES; i++)
+            results += scan(world, i - 100.0, 100.0 - i, 16.0, "minecraft:zombie", 5).size();
+
+        assertTrue(results > 0);
+        return System.nanoTime() - start;
+    }
+
+    private long compiled(StubWorld world) {
+        long start = System.nanoTime();
+        int results = 0;
+        for (int i = 0; i < QUERIES; i++)
+            results += EntitySelector.compile("@e[type=zombie,distance=..16,sort=nearest,limit=5]")
+                    .select(world, null, i - 100.0, 64.0, 100.0 - i, entity -> true).size();
+
+        assertTrue(results > 0);
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void testSameResults() {
+        StubWorld world = createWorld();
+
+        for (int i = 0; i < 20; i++) {
+            List<StubEntity> expected = scan(world, i * 7.0, -i * 3.0, 24.0, "minecraft:cow", 4);
+            List<StubEntity> actual = EntitySelector.compile("@e[type=cow,distance=..24,sort=nearest,limit=4]")
+                    .select(world, null, i * 7.0, 64.0, -i * 3.0, entity -> true);
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testRadiusQueries(TestReporter reporter) {
+        StubWorld world = createWorld();
+        long baseline = Long.MAX_VALUE;
+        long compiled = Long.MAX_VALUE;
+
+        //  Warm up both paths before measuring
+        baseline(world);
+        compiled(world);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            baseline = Math.min(baseline, baseline(world));
+            compiled = Math.min(compiled, compiled(world));
+        }
+
+        reporter.publishEntry("full scan us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(baseline)));
+        reporter.publishEntry("compiled us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(compiled)));
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.github.polyrocketmatt.delegate.core.command.argument.selector;
+
+import com.github.polyrocketmatt.delegate.api.exception.ArgumentParseException;
+import com.github.polyrocketmatt.delegate.core.command.argument.selector.StubWorld.StubEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntitySelectorTest {
+
+    private StubWorld createWorld() {
+        StubWorld world = new StubWorld();
+        world.spawn("minecraft:player", 1.0, 64.0, 0.0);
+        world.spawn("minecraft:player", 50.0, 64.0, 0.0);
+        world.spawn("minecraft:zombie", 3.0, 64.0, 0.0);
+        world.spawn("minecraft:zombie", 8.0, 64.0, 0.0);
+        world.spawn("minecraft:zombie", 100.0, 64.0, 0.0);
+        world.spawn("minecraft:cow", 2.0, 64.0, 0.0);
+
+        return world;
+    }
+
+    private List<StubEntity> select(StubWorld world, String input) {
+        return EntitySelector.compile(input).select(world, null, 0.0, 64.0, 0.0, entity -> true);
+    }
+
+    @Test
+    public void testDefaults() {
+        EntitySelector nearest = EntitySelector.compile("@p");
+        EntitySelector all = EntitySelector.compile("@e");
+
+        assertEquals(EntitySelector.Target.NEAREST_PLAYER, nearest.getTarget());
+        assertEquals(EntitySelector.Sort.NEAREST, nearest.getSort());
+        assertEquals(1, nearest.getLimit());
+        assertEquals(EntitySelector.Sort.ARBITRARY, all.getSort());
+        assertEquals(Integer.MAX_VALUE, all.getLimit());
+        assertEquals(Double.POSITIVE_INFINITY, all.getMaxDistance());
+        assertNull(all.getEntityType());
+    }
+
+    @Test
+    public void testArguments() {
+        EntitySelector selector = EntitySelector.compile("@e[type=!Zombie, distance=2..10, sort=furthest, limit=3]");
+
+        assertEquals("minecraft:zombie", selector.getEntityType());
+        assertTrue(selector.isEntityTypeInverted());
+        assertEquals(2.0, selector.getMinDistance());
+        assertEquals(10.0, selector.getMaxDistance());
+        assertEquals(EntitySelector.Sort.FURTHEST, selector.getSort());
+        assertEquals(3, selector.getLimit());
+        assertEquals(5.0, EntitySelector.compile("@e[r=5,rm=1]").getMaxDistance());
+        assertEquals(1.0, EntitySelector.compile("@e[r=5,rm=1]").getMinDistance());
+        assertEquals(7.0, EntitySelector.compile("@e[distance=7]").getMinDistance());
+    }
+
+    @Test
+    public void testCompiledOnce() {
+        assertSame(EntitySelector.compile("@e[type=cow]"), EntitySelector.compile("@e[type=cow]"));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("player"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@x"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[type=cow"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[tag=a"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[scores={a=1]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[name=\"a]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[limit=0]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[limit=a]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[distance=-1]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[distance=5..1]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[sort=sideways]"));
+        assertThrows(ArgumentParseException.class, () -> EntitySelector.compile("@e[type=]"));
+        assertThrows(IllegalArgumentException.class, () -> EntitySelector.compile(null));
+    }
+
+    @Test
+    public void testServerArguments() {
+        String[] selectors = {
+                "@e[tag=boss]", "@e[tag=!boss]", "@a[name=Steve]", "@e[name=\"a, b\"]", "@e[x=1,y=2,z=3]",
+                "@e[x=0,dx=5,dy=5,dz=5]", "@a[gamemode=survival]", "@a[gamemode=!creative,limit=1]",
+                "@a[scores={kills=1..,deaths=..2}]", "@p[level=10..]", "@e[nbt={Tags:[\"a\",\"b\"]}]",
+                "@e[type=#minecraft:skeletons]", "@e[type=!cow,type=!pig]", "@e[unknown=1]", "@s[tag=boss]"
+        };
+
+        //  Arguments that are not evaluated natively are left to the server
+        for (String input : selectors)
+            assertFalse(EntitySelector.compile(input).isNative(), input);
+        assertTrue(EntitySelector.compile("@e[type=cow,distance=..5,sort=nearest,limit=1]").isNative());
+        assertEquals(EntitySelector.Target.ALL_PLAYERS, EntitySelector.compile("@a[scores={kills=1..,deaths=..2}]").getTarget());
+        assertThrows(UnsupportedOperationException.class, () -> select(createWorld(), "@e[tag=boss]"));
+    }
+
+    @Test
+    public void testSelectPlayers() {
+        StubWorld world = createWorld();
+
+        assertEquals(2, select(world, "@a").size());
+        assertEquals(List.of(world.getEntities().get(0)), select(world, "@p"));
+        assertEquals(1, select(world, "@r").size());
+        assertEquals(List.of(world.getEntities().get(1)), select(world, "@a[sort=furthest,limit=1]"));
+    }
+
+    @Test
+    public void testSelectEntities() {
+        StubWorld world = createWorld();
+
+        assertEquals(6, select(world, "@e").size());
+        assertEquals(3, select(world, "@e[type=zombie]").size());
+        assertEquals(3, select(world, "@e[type=!minecraft:zombie]").size());
+        assertEquals(4, select(world, "@e[r=10]").size());
+        assertEquals(2, select(world, "@e[type=zombie,distance=..10]").size());
+        assertEquals(1, select(world, "@e[type=zombie,distance=5..50]").size());
+    }
+
+    @Test
+    public void testSortAndLimit() {
+        StubWorld world = createWorld();
+        List<StubEntity> entities = world.getEntities();
+
+        assertEquals(List.of(entities.get(0), entities.get(5), entities.get(2)), select(world, "@e[sort=nearest,limit=3]"));
+        assertEquals(List.of(entities.get(4), entities.get(1)), select(world, "@e[sort=furthest,limit=2]"));
+        assertEquals(List.of(entities.get(2)), select(world, "@e[type=zombie,sort=nearest,limit=1]"));
+        assertEquals(2, select(world, "@e[sort=random,limit=2]").size());
+        assertEquals(2, select(world, "@e[limit=2]").size());
+    }
+
+    @Test
+    public void testSelf() {
+        StubWorld world = createWorld();
+        StubEntity self = world.getEntities().get(0);
+
+        assertEquals(List.of(self), EntitySelector.compile("@s").select(world, self, 0.0, 0.0, 0.0, entity -> true));
+        assertEquals(List.of(), EntitySelector.compile("@s").select(world, null, 0.0, 0.0, 0.0, entity -> true));
+        assertEquals(List.of(), EntitySelector.compile("@s[type=cow]").select(world, self, 0.0, 0.0, 0.0, entity -> true));
+    }
+
+    @Test
+    public void testRelative() {
+        StubWorld world = createWorld();
+        List<StubEntity> entities = world.getEntities();
+
+        //  The same selector selects different entities depending on where it is evaluated
+        EntitySelector selector = EntitySelector.compile("@p");
+        assertEquals(List.of(entities.get(0)), selector.select(world, null, 0.0, 64.0, 0.0, entity -> true));
+        assertEquals(List.of(entities.get(1)), selector.select(world, null, 45.0, 64.0, 0.0, entity -> true));
+    }
+
+    @Test
+    public void testWorlds() {
+        StubWorld world = createWorld();
+        StubEntity player = world.spawnElsewhere("minecraft:player", 0.0, 64.0, 0.0);
+        StubEntity zombie = world.spawnElsewhere("minecraft:zombie", 4.0, 64.0, 0.0);
+
+        //  Only selectors with a distance are limited to the world in which they are evaluated
+        assertTrue(select(world, "@a").contains(player));
+        assertTrue(select(world, "@e").contains(zombie));
+        assertFalse(select(world, "@e[rm=1]").contains(zombie));
+        assertFalse(select(world, "@e[distance=..10]").contains(zombie));
+        assertFalse(select(world, "@a[distance=..10]").contains(player));
+    }
+
+    @Test
+    public void testFilter() {
+        StubWorld world = createWorld();
+
+        assertEquals(2, EntitySelector.compile("@e").select(world, null, 0.0, 64.0, 0.0, entity -> entity.x() > 40.0).size());
+    }
+
+}
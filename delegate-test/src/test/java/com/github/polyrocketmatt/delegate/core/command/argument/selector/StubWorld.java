@@ -0,0 +1,88 @@
+package com.github.polyrocketmatt.delegate.core.command.argument.selector;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * World of stub entities. Radius queries scan all entities of the world, as the index that
+ * platforms use for them belongs to the server.
+ */
+public class StubWorld implements SelectorSource<StubWorld.StubEntity> {
+
+    public record StubEntity(String type, double x, double y, double z) {}
+
+    private final List<StubEntity> entities = new ArrayList<>();
+    private final List<StubEntity> players = new ArrayList<>();
+    private final List<StubEntity> elsewhere = new ArrayList<>();
+
+    public StubEntity spawn(String type, double x, double y, double z) {
+        StubEntity entity = new StubEntity(type, x, y, z);
+        entities.add(entity);
+        if (isPlayer(entity))
+            players.add(entity);
+
+        return entity;
+    }
+
+    public StubEntity spawnElsewhere(String type, double x, double y, double z) {
+        StubEntity entity = new StubEntity(type, x, y, z);
+        elsewhere.add(entity);
+
+        return entity;
+    }
+
+    public List<StubEntity> getEntities() {
+        return entities;
+    }
+
+    @Override
+    public void forEachPlayer(@NotNull Consumer<StubEntity> consumer) {
+        players.forEach(consumer);
+        elsewhere.stream().filter(this::isPlayer).forEach(consumer);
+    }
+
+    @Override
+    public void forEachEntity(@NotNull Consumer<StubEntity> consumer) {
+        entities.forEach(consumer);
+        elsewhere.forEach(consumer);
+    }
+
+    @Override
+    public void forEachWorldEntity(@NotNull Consumer<StubEntity> consumer) {
+        entities.forEach(consumer);
+    }
+
+    @Override
+    public void forEachNearby(double x, double y, double z, double radius, @NotNull Consumer<StubEntity> consumer) {
+        entities.forEach(consumer);
+    }
+
+    @Override
+    public double getX(@NotNull StubEntity entity) {
+        return entity.x();
+    }
+
+    @Override
+    public double getY(@NotNull StubEntity entity) {
+        return entity.y();
+    }
+
+    @Override
+    public double getZ(@NotNull StubEntity entity) {
+        return entity.z();
+    }
+
+    @Override
+    public @NotNull String getType(@NotNull StubEntity entity) {
+        return entity.type();
+    }
+
+    @Override
+    public boolean isPlayer(@NotNull StubEntity entity) {
+        return entity.type().equals("minecraft:player");
+    }
+
+}
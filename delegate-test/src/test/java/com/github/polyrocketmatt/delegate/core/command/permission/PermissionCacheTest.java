@@ -0,0 +1,158 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.permission;
+
+import com.github.polyrocketmatt.delegate.api.entity.ConsoleCommander;
+import com.github.polyrocketmatt.delegate.api.entity.PlayerCommander;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PermissionCacheTest {
+
+    private final Set<String> permissions = new HashSet<>(Set.of("test.permission"));
+    private final AtomicInteger lookups = new AtomicInteger();
+    private boolean operator = false;
+
+    private final PlayerCommander commanderMock = new PlayerCommander(UUID.randomUUID()) {
+        @Override
+        public boolean hasPermission(@NotNull String permission) {
+            lookups.incrementAndGet();
+            return permissions.contains(permission);
+        }
+
+        @Override
+        public boolean isOperator() {
+            lookups.incrementAndGet();
+            return operator;
+        }
+
+        @Override
+        public void sendMessage(@NotNull String message) {
+
+        }
+
+        @Override
+        public boolean isPlayer() {
+            return true;
+        }
+    };
+
+    @Test
+    public void testDecisionsAreCached() {
+        PermissionCache cache = new PermissionCache();
+
+        assertTrue(cache.hasPermission(commanderMock, "test.permission"));
+        assertTrue(cache.hasPermission(commanderMock, "test.permission"));
+        assertFalse(cache.hasPermission(commanderMock, "test.other"));
+        assertFalse(cache.hasPermission(commanderMock, "test.other"));
+        assertFalse(cache.isOperator(commanderMock));
+        assertFalse(cache.isOperator(commanderMock));
+
+        assertEquals(3, lookups.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidatePlayer() {
+        PermissionCache cache = new PermissionCache();
+
+        assertFalse(cache.isOperator(commanderMock));
+        assertTrue(cache.hasPermission(commanderMock, "test.permission"));
+        operator = true;
+        permissions.clear();
+        assertFalse(cache.isOperator(commanderMock));
+
+        cache.invalidate(commanderMock.getUniqueId());
+        assertEquals(0, cache.size());
+        assertTrue(cache.isOperator(commanderMock));
+        assertFalse(cache.hasPermission(commanderMock, "test.permission"));
+    }
+
+    @Test
+    public void testInvalidateNode() {
+        PermissionCache cache = new PermissionCache();
+
+        assertFalse(cache.hasPermission(commanderMock, "test.other"));
+        assertTrue(cache.hasPermission(commanderMock, "test.permission"));
+        permissions.add("test.other");
+        permissions.remove("test.permission");
+
+        cache.invalidate(commanderMock.getUniqueId(), "test.other");
+        assertTrue(cache.hasPermission(commanderMock, "test.other"));
+        assertTrue(cache.hasPermission(commanderMock, "test.permission"));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        PermissionCache cache = new PermissionCache();
+
+        cache.hasPermission(commanderMock, "test.permission");
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiredDecisionsAreRefreshed() {
+        PermissionCache cache = new PermissionCache();
+        cache.setTtl(1, TimeUnit.NANOSECONDS);
+
+        cache.hasPermission(commanderMock, "test.permission");
+        cache.hasPermission(commanderMock, "test.permission");
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        PermissionCache cache = new PermissionCache();
+        cache.setTtl(0, TimeUnit.SECONDS);
+
+        cache.hasPermission(commanderMock, "test.permission");
+        cache.hasPermission(commanderMock, "test.permission");
+
+        assertEquals(2, lookups.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConsoleIsNotCached() {
+        PermissionCache cache = new PermissionCache();
+
+        assertTrue(cache.hasPermission(new ConsoleCommander(), "test.permission"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCanExecute() {
+        PermissionCache cache = new PermissionCache();
+
+        assertTrue(cache.canExecute(commanderMock, new PermissionCheck[0]));
+        assertFalse(cache.canExecute(commanderMock, new PermissionCheck[] { PermissionCheck.compile(new OperatorPermission()) }));
+        assertTrue(cache.canExecute(commanderMock, new PermissionCheck[] {
+                PermissionCheck.compile(new OperatorPermission()),
+                PermissionCheck.compile(new StandardPermission("test.permission"))
+        }));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        PermissionCache cache = new PermissionCache();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.hasPermission(null, "test.permission"));
+        assertThrows(IllegalArgumentException.class, () -> cache.hasPermission(commanderMock, null));
+        assertThrows(IllegalArgumentException.class, () -> cache.isOperator(null));
+        assertThrows(IllegalArgumentException.class, () -> cache.setTtl(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> cache.invalidate(null));
+    }
+
+}
@@ -0,0 +1,88 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.core.command.permission;
+
+import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.api.entity.PlayerCommander;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PermissionCheckTest {
+
+    private final PlayerCommander commanderMock = new PlayerCommander(UUID.randomUUID()) {
+        @Override
+        public boolean hasPermission(@NotNull String permission) {
+            return "test.permission".equals(permission) || "test.parent".equals(permission);
+        }
+
+        @Override
+        public boolean isOperator() {
+            return false;
+        }
+
+        @Override
+        public void sendMessage(@NotNull String message) {
+
+        }
+
+        @Override
+        public boolean isPlayer() {
+            return true;
+        }
+    };
+
+    private final PermissionCache cache = new PermissionCache();
+
+    @Test
+    public void testCompileIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> PermissionCheck.compile(null));
+    }
+
+    @Test
+    public void testFlattenedParents() {
+        PermissionCheck standard = PermissionCheck.compile(new StandardPermission("test.permission"));
+        PermissionCheck child = PermissionCheck.compile(new StandardPermission("test.permission", new StandardPermission("test.parent")));
+
+        assertArrayEquals(new String[] { "test.permission" }, standard.getNodes());
+        assertArrayEquals(new String[] { "test.parent", "test.permission" }, child.getNodes());
+        assertEquals(0, PermissionCheck.compile(new StandardPermission("test.permission", new OperatorPermission())).getNodes().length);
+    }
+
+    @Test
+    public void testMatchesTiers() {
+        List<PermissionTier> tiers = List.of(
+                new GlobalPermission(),
+                new OperatorPermission(),
+                new StandardPermission("test.permission"),
+                new StandardPermission("test.other"),
+                new StandardPermission("test.permission", new StandardPermission("test.parent")),
+                new StandardPermission("test.permission", new StandardPermission("test.other")),
+                new StandardPermission("test.other", new OperatorPermission()),
+                new StandardPermission("test.other", new GlobalPermission()),
+                new PermissionTier() {
+                    @Override
+                    public boolean hasPermission(CommanderEntity entity) {
+                        return entity.hasPermission("test.parent");
+                    }
+                }
+        );
+
+        for (PermissionTier tier : tiers)
+            assertEquals(tier.hasPermission(commanderMock), PermissionCheck.compile(tier).test(commanderMock, cache));
+    }
+
+    @Test
+    public void testTier() {
+        PermissionTier tier = new StandardPermission("test.permission");
+
+        assertSame(tier, PermissionCheck.compile(tier).getTier());
+    }
+
+}
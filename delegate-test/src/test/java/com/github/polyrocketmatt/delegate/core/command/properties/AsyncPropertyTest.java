@@ -3,9 +3,11 @@
 
 package com.github.polyrocketmatt.delegate.core.command.properties;
 
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class AsyncPropertyTest {
 
@@ -14,6 +16,20 @@ public class AsyncPropertyTest {
         AsyncProperty property = new AsyncProperty();
 
         assertEquals("executeAsync", property.getIdentifier());
+        assertEquals(ExecutionMode.POOLED, property.getMode());
+    }
+
+    @Test
+    public void testModeConstructor() {
+        AsyncProperty property = new AsyncProperty(ExecutionMode.VIRTUAL);
+
+        assertEquals("executeAsync", property.getIdentifier());
+        assertEquals(ExecutionMode.VIRTUAL, property.getMode());
+    }
+
+    @Test
+    public void testModeConstructorNull() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncProperty(null));
     }
 
 }
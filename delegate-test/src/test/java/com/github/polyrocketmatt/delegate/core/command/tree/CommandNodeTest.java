@@ -3,6 +3,7 @@
 
 package com.github.polyrocketmatt.delegate.core.command.tree;
 
+import com.github.polyrocketmatt.delegate.core.command.CommandLine;
 import com.github.polyrocketmatt.delegate.core.command.DelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
@@ -201,9 +202,6 @@ public class CommandNodeTest {
     private final DelegateCommandImpl runAdd = new DelegateCommandImpl("add", "", "");
     private final DelegateCommandImpl runAddA = new DelegateCommandImpl("a", "", "");
     private final DelegateCommandImpl runAddB = new DelegateCommandImpl("b", "", "");
-    private final String pattern = "test";
-    private final String[] names = new String[] { "run", "add", "a"};
-    private final String[] illegalNames = new String[] { "run", "add", "c"};
 
     /**
      * Tree structure:
@@ -228,51 +226,73 @@ public class CommandNodeTest {
     }
 
     @Test
-    public void testFindDeepest() {
+    public void testFindDeepestNonExistent() {
         CommandNode tree = createStructure();
-        CommandNode expected = tree.getChildren().get(2).getChildren().get(0).getChildren().get(0);
-        QueryResultNode result = tree.findDeepest(pattern, names);
+        CommandNode expected = tree.getChildren().get(2).getChildren().get(0);
+        QueryResultCursor result = tree.findDeepest(CommandLine.tokenize("test run add c"), 1);
 
         assertEquals(expected, result.node());
+        assertEquals(3, result.cursor());
     }
 
     @Test
-    public void testFindDeepestNonExistent() {
+    public void testFindDeepestNoChildren() {
+        CommandNode tree = new CommandNode(test);
+        QueryResultCursor result = tree.findDeepest(CommandLine.tokenize("test run add a"), 1);
+
+        assertEquals(tree, result.node());
+        assertEquals(1, result.cursor());
+    }
+
+    @Test
+    public void testFindDeepestNoNames() {
+        CommandNode tree = new CommandNode(test);
+        QueryResultCursor result = tree.findDeepest(CommandLine.tokenize("test"), 1);
+
+        assertEquals(tree, result.node());
+        assertEquals(1, result.cursor());
+    }
+
+    @Test
+    public void testFindDeepestLine() {
         CommandNode tree = createStructure();
-        CommandNode expected = tree.getChildren().get(2).getChildren().get(0);
-        QueryResultNode result = tree.findDeepest(pattern, illegalNames);
+        CommandNode expected = tree.getChildren().get(2).getChildren().get(0).getChildren().get(0);
+        QueryResultCursor result = tree.findDeepest(CommandLine.tokenize("test RUN add a x"), 1);
 
         assertEquals(expected, result.node());
+        assertEquals(4, result.cursor());
     }
 
     @Test
-    public void testFindDeepestNull() {
+    public void testFindDeepestLineComparesInPlace() {
         CommandNode tree = createStructure();
+        CommandNode run = tree.getChildren().get(2);
+
+        //  Tokens are compared against the sorted index without being copied, including prefixes and longer tokens
+        assertEquals(run, tree.findDeepest(CommandLine.tokenize("test rUn"), 1).node());
+        assertEquals(tree, tree.findDeepest(CommandLine.tokenize("test ru"), 1).node());
+        assertEquals(tree, tree.findDeepest(CommandLine.tokenize("test runs"), 1).node());
+        assertEquals(tree, tree.findDeepest(CommandLine.tokenize("test rün"), 1).node());
 
-        assertThrows(IllegalArgumentException.class, () -> tree.findDeepest(null, new String[] {}));
-        assertThrows(IllegalArgumentException.class, () -> tree.findDeepest("", null));
-        assertThrows(IllegalArgumentException.class, () -> tree.findDeepest("null", new String[]{ null, "" }));
+        //  The sorted index follows the children when they change
+        CommandNode late = new CommandNode(tree, new DelegateCommandImpl("zzz", ""));
+        assertEquals(late, tree.findDeepest(CommandLine.tokenize("test ZZZ"), 1).node());
     }
 
     @Test
-    public void testFindDeepestNoChildren() {
-        CommandNode tree = new CommandNode(test);
-        QueryResultNode result = tree.findDeepest(pattern, names);
+    public void testFindDeepestLineStopsAtQuotesAndAssignments() {
+        CommandNode tree = createStructure();
 
-        assertEquals(tree, result.node());
-        assertEquals(pattern, result.commandPattern());
-        assertEquals(names, result.remainingArgs());
+        assertEquals(tree, tree.findDeepest(CommandLine.tokenize("test \"run\""), 1).node());
+        assertEquals(1, tree.findDeepest(CommandLine.tokenize("test run=1"), 1).cursor());
+        assertEquals(2, tree.findDeepest(CommandLine.tokenize("test run \"add\""), 1).cursor());
     }
 
     @Test
-    public void testFindDeepestNoNames() {
-        String[] names = new String[] {};
-        CommandNode tree = new CommandNode(test);
-        QueryResultNode result = tree.findDeepest(pattern, names);
+    public void testFindDeepestLineNull() {
+        CommandNode tree = createStructure();
 
-        assertEquals(tree, result.node());
-        assertEquals(pattern, result.commandPattern());
-        assertEquals(names, result.remainingArgs());
+        assertThrows(IllegalArgumentException.class, () -> tree.findDeepest(null, 1));
     }
 
     @Test
@@ -283,4 +303,52 @@ public class CommandNodeTest {
         assertEquals(a, b);
     }
 
+    @Test
+    public void testAddChildSetsParent() {
+        CommandNode parent = new CommandNode(parentVerifiedCommand);
+        CommandNode node = new CommandNode(verifiedCommand);
+
+        parent.addChild(node);
+
+        assertEquals(parent, node.getParent());
+    }
+
+    @Test
+    public void testGetChild() {
+        CommandNode tree = createStructure();
+
+        assertEquals(tree.getChildren().get(0), tree.getChild("add"));
+        assertEquals(tree.getChildren().get(0), tree.getChild("TESTADDA"));
+        assertEquals(tree.getChildren().get(2), tree.getChild("Run"));
+        assertNull(tree.getChild("a"));
+        assertThrows(IllegalArgumentException.class, () -> tree.getChild(null));
+    }
+
+    @Test
+    public void testFindDeepestAlias() {
+        CommandNode tree = createStructure();
+        QueryResultCursor result = tree.findDeepest(CommandLine.tokenize("test testRemoveA x"), 1);
+
+        assertEquals(tree.getChildren().get(1), result.node());
+        assertEquals(2, result.cursor());
+    }
+
+    @Test
+    public void testReplaceCommandReindexesParent() {
+        CommandNode parent = new CommandNode(parentVerifiedCommand);
+        CommandNode node = new CommandNode(parent, command);
+
+        node.setCommand(new DelegateCommandImpl("renamed", ""));
+
+        assertNull(parent.getChild("test"));
+        assertEquals(node, parent.getChild("renamed"));
+    }
+
+    @Test
+    public void testChildrenUnmodifiable() {
+        CommandNode node = new CommandNode(parentVerifiedCommand);
+
+        assertThrows(UnsupportedOperationException.class, () -> node.getChildren().add(new CommandNode(command)));
+    }
+
 }
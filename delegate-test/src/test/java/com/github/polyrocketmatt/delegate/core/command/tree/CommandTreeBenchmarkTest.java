@@ -0,0 +1,90 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.core.DelegateCommandImpl;
+import com.github.polyrocketmatt.delegate.core.command.CommandLine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmarks root and sub-command lookups for an increasing amount of registered roots.
+ * Since the tree is indexed, the lookup time should stay flat.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class CommandTreeBenchmarkTest {
+
+    private static final int[] ROOT_COUNTS = { 10, 100, 1_000, 10_000 };
+    private static final int LOOKUPS = 200_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private CommandTree createTree(int roots) {
+        CommandTree tree = new CommandTree();
+
+        for (int i = 0; i < roots; i++) {
+            CommandNode root = new CommandNode(new DelegateCommandImpl("root" + i, "", "alias" + i));
+            CommandNode sub = new CommandNode(root, new DelegateCommandImpl("sub", ""));
+            new CommandNode(sub, new DelegateCommandImpl("leaf", ""));
+
+            tree.add(root);
+        }
+
+        return tree;
+    }
+
+    private String[] createIdentifiers(int count) {
+        //  Look up the last registered roots, which are the worst case for a linear scan
+        return new String[] { "root" + (count - 1), "ALIAS" + (count - 1), "Root" + (count / 2), "alias" + (count - 2) };
+    }
+
+    private long measure(CommandTree tree, String[] identifiers, CommandLine line) {
+        long start = System.nanoTime();
+        int found = 0;
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            CommandNode root = tree.find(identifiers[i % identifiers.length]);
+            if (root != null && root.findDeepest(line, 1).cursor() == line.size())
+                found++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        assertEquals(LOOKUPS, found);
+
+        return elapsed / LOOKUPS;
+    }
+
+    @Test
+    public void testLookupAmongManyRoots() {
+        int count = ROOT_COUNTS[ROOT_COUNTS.length - 1];
+        CommandTree tree = createTree(count);
+
+        for (String identifier : createIdentifiers(count)) {
+            CommandNode root = tree.find(identifier);
+
+            assertNotNull(root, identifier);
+            assertEquals(3, root.findDeepest(CommandLine.tokenize(identifier + " SUB leaf"), 1).cursor());
+        }
+        assertEquals("root" + (count - 1), tree.find("ALIAS" + (count - 1)).getNameDefinition().getValue());
+        assertNull(tree.find("root" + count));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testLookupTime(TestReporter reporter) {
+        CommandLine line = CommandLine.tokenize("root SUB leaf");
+
+        for (int count : ROOT_COUNTS) {
+            CommandTree tree = createTree(count);
+            String[] identifiers = createIdentifiers(count);
+
+            for (int round = 0; round < WARMUP_ROUNDS; round++)
+                measure(tree, identifiers, line);
+            reporter.publishEntry("ns/op with %d roots".formatted(count), String.valueOf(measure(tree, identifiers, line)));
+        }
+    }
+
+}
@@ -127,4 +127,38 @@ public class CommandTreeTest {
         assertThrows(IllegalArgumentException.class, () -> tree.find(null));
     }
 
+    @Test
+    public void testFindRootCaseInsensitive() {
+        CommandTree tree = new CommandTree();
+
+        tree.add(this.rootA);
+        tree.add(this.rootB);
+
+        assertEquals(this.rootA, tree.find("ROOTA"));
+        assertEquals(this.rootB, tree.find("rootb"));
+    }
+
+    @Test
+    public void testFindRootAlias() {
+        CommandTree tree = new CommandTree();
+        CommandNode aliased = new CommandNode(new DelegateCommandImpl("rootD", "Root D Description", "d", "rd"));
+
+        tree.add(this.rootA);
+        tree.add(aliased);
+
+        assertEquals(aliased, tree.find("d"));
+        assertEquals(aliased, tree.find("RD"));
+        assertEquals(aliased, tree.find("rootD"));
+    }
+
+    @Test
+    public void testClearIndex() {
+        CommandTree tree = new CommandTree();
+
+        tree.add(this.rootA);
+        tree.clear();
+
+        assertNull(tree.find("rootA"));
+    }
+
 }
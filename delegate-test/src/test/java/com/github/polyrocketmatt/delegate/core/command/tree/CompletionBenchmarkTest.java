@@ -0,0 +1,128 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.core.DelegateCommandImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulates a commander typing sub-command names of a command with thousands of sub-commands,
+ * requesting completions on every key press. A linear scan over all child names is compared
+ * to the prefix trie and to a completion session that narrows the previous result.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class CompletionBenchmarkTest {
+
+    private static final int SUB_COMMANDS = 5_000;
+    private static final int ROUNDS = 5;
+    private static final String[] TYPED = { "sub-1", "sub-42", "sub-4999", "SUB-250", "sub-3" };
+
+    private CommandNode createRoot() {
+        CommandNode root = new CommandNode(new DelegateCommandImpl("root", ""));
+        for (int i = 0; i < SUB_COMMANDS; i++)
+            new CommandNode(root, new DelegateCommandImpl("sub-" + i, ""));
+
+        return root;
+    }
+
+    private long scan(CommandNode root) {
+        long start = System.nanoTime();
+        int results = 0;
+
+        for (String typed : TYPED) {
+            for (int length = 0; length <= typed.length(); length++) {
+                String prefix = typed.substring(0, length);
+                List<String> matches = new ArrayList<>();
+
+                for (CommandNode child : root.getChildren())
+                    if (child.getNameDefinition().getValue().regionMatches(true, 0, prefix, 0, prefix.length()))
+                        matches.add(child.getNameDefinition().getValue());
+                results += matches.size();
+            }
+        }
+
+        assertTrue(results > 0);
+        return System.nanoTime() - start;
+    }
+
+    private long trie(CommandNode root) {
+        long start = System.nanoTime();
+        int results = 0;
+
+        for (String typed : TYPED)
+            for (int length = 0; length <= typed.length(); length++)
+                results += root.complete(typed.substring(0, length)).size();
+
+        assertTrue(results > 0);
+        return System.nanoTime() - start;
+    }
+
+    private long session(CommandNode root) {
+        CompletionSession session = new CompletionSession();
+        long start = System.nanoTime();
+        int results = 0;
+
+        for (String typed : TYPED)
+            for (int length = 0; length <= typed.length(); length++)
+                results += session.complete(root, new String[] { typed.substring(0, length) }).size();
+
+        assertTrue(results > 0);
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testKeystrokeCompletion(TestReporter reporter) {
+        CommandNode root = createRoot();
+        long scan = Long.MAX_VALUE;
+        long trie = Long.MAX_VALUE;
+        long session = Long.MAX_VALUE;
+
+        //  The first rounds double as warm-up, so only the fastest round counts
+        for (int round = 0; round < ROUNDS; round++) {
+            scan = Math.min(scan, scan(root));
+            trie = Math.min(trie, trie(root));
+            session = Math.min(session, session(root));
+        }
+
+        reporter.publishEntry("scan us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(scan)));
+        reporter.publishEntry("trie us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(trie)));
+        reporter.publishEntry("session us", String.valueOf(TimeUnit.NANOSECONDS.toMicros(session)));
+    }
+
+    @Test
+    public void testSameResults() {
+        CommandNode root = createRoot();
+        CompletionSession session = new CompletionSession();
+
+        for (String typed : TYPED) {
+            for (int length = 0; length <= typed.length(); length++) {
+                String prefix = typed.substring(0, length);
+
+                //  Names that match a child exactly complete the children of that child instead
+                if (root.getChild(prefix) == null) {
+                    List<String> expected = new ArrayList<>();
+                    for (CommandNode child : root.getChildren())
+                        if (child.getNameDefinition().getValue().regionMatches(true, 0, prefix, 0, prefix.length()))
+                            expected.add(child.getNameDefinition().getValue());
+
+                    //  The trie finds the same children as a linear scan
+                    assertEquals(expected.stream().sorted().toList(), root.complete(prefix).stream().sorted().toList());
+                    assertEquals(root.complete(prefix), session.complete(root, new String[] { prefix }));
+                }
+                else
+                    assertEquals(List.of(), session.complete(root, new String[] { prefix }));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.core.DelegateCommandImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulates many commanders typing at once, requesting completions from worker threads
+ * while commands are still being registered, like asynchronous tab completion on Paper.
+ * Every commander has its own session, all sessions read from the same completion view.
+ */
+public class CompletionConcurrencyTest {
+
+    private static final int COMMANDERS = 8;
+    private static final int REQUESTS = 20_000;
+    private static final int SUB_COMMANDS = 500;
+    private static final String[] TYPED = { "sub-1", "sub-42", "sub-499", "SUB-250" };
+
+    private CommandNode createRoot(String name) {
+        CommandNode root = new CommandNode(new DelegateCommandImpl(name, ""));
+        for (int i = 0; i < SUB_COMMANDS; i++)
+            new CommandNode(root, new DelegateCommandImpl("sub-" + i, ""));
+
+        return root;
+    }
+
+    @Test
+    public void testConcurrentCompletion() throws Exception {
+        CompletionView view = new CompletionView();
+        CommandNode root = createRoot("root");
+        view.add(root);
+
+        //  An exact name descends into the sub-command, which has no children itself
+        Map<String, List<String>> expected = new HashMap<>();
+        for (String typed : TYPED)
+            for (int length = 0; length <= typed.length(); length++) {
+                String prefix = typed.substring(0, length);
+                expected.put(prefix, (root.getChild(prefix) == null) ? root.complete(prefix) : List.of());
+            }
+
+        ExecutorService executor = Executors.newFixedThreadPool(COMMANDERS);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int commander = 0; commander < COMMANDERS; commander++) {
+            futures.add(executor.submit(() -> {
+                CompletionSession session = new CompletionSession();
+                int results = 0;
+
+                for (int request = 0; request < REQUESTS; request++) {
+                    String typed = TYPED[request % TYPED.length];
+                    String prefix = typed.substring(0, request % (typed.length() + 1));
+                    List<String> completions = session.complete(view.find("root"), new String[] { prefix });
+
+                    //  Every completion must be complete and consistent, regardless of the registrations
+                    assertEquals(expected.get(prefix), completions);
+                    results += completions.size();
+                }
+
+                return results;
+            }));
+        }
+
+        //  Keep registering other commands while the commanders are typing
+        int registered = 0;
+        while (registered < 200)
+            view.add(createRoot("other-" + registered++));
+
+        int results = 0;
+        for (Future<Integer> future : futures)
+            results += future.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        assertTrue(results > 0);
+        assertNotNull(view.find("other-199"));
+    }
+
+}
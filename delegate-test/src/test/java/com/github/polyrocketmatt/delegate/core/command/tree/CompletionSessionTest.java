@@ -0,0 +1,131 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
+import com.github.polyrocketmatt.delegate.api.command.argument.CommandArgument;
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import com.github.polyrocketmatt.delegate.core.DelegateCommandImpl;
+import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
+import com.github.polyrocketmatt.delegate.core.command.argument.BoolArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.EnumTypeArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
+import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompletionSessionTest {
+
+    private CommandNode createRoot() {
+        CommandNode root = new CommandNode(new DelegateCommandImpl("root", ""));
+        CommandNode sub = new CommandNode(root, new DelegateCommandImpl("sub", "", "alias"));
+        new CommandNode(root, new DelegateCommandImpl("subtract", ""));
+        new CommandNode(root, new DelegateCommandImpl("other", ""));
+        new CommandNode(sub, new DelegateCommandImpl("leaf", ""));
+        new CommandNode(sub, new DelegateCommandImpl("list", ""));
+
+        return root;
+    }
+
+    @Test
+    public void testIncrementalPrefix() {
+        CommandNode root = createRoot();
+        CompletionSession session = new CompletionSession();
+
+        assertEquals(List.of("other", "sub", "subtract"), session.complete(root, new String[] { "" }));
+        assertEquals(List.of("sub", "subtract"), session.complete(root, new String[] { "s" }));
+        assertEquals(List.of("sub", "subtract"), session.complete(root, new String[] { "SU" }));
+        assertEquals(List.of("subtract"), session.complete(root, new String[] { "subt" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "subtx" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "subtxy" }));
+    }
+
+    @Test
+    public void testRemovedCharacters() {
+        CommandNode root = createRoot();
+        CompletionSession session = new CompletionSession();
+
+        assertEquals(List.of("subtract"), session.complete(root, new String[] { "subt" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "x" }));
+        assertEquals(List.of("sub", "subtract"), session.complete(root, new String[] { "su" }));
+    }
+
+    @Test
+    public void testDescend() {
+        CommandNode root = createRoot();
+        CompletionSession session = new CompletionSession();
+
+        //  An exact match descends into the child, like the tree lookup does
+        assertEquals(List.of("leaf", "list"), session.complete(root, new String[] { "sub" }));
+        assertEquals(List.of("leaf", "list"), session.complete(root, new String[] { "sub", "" }));
+        assertEquals(List.of("list"), session.complete(root, new String[] { "sub", "li" }));
+        assertEquals(List.of("leaf", "list"), session.complete(root, new String[] { "alias", "l" }));
+        assertEquals(List.of("sub", "subtract"), session.complete(root, new String[] { "su" }));
+    }
+
+    @Test
+    public void testChildrenChanged() {
+        CommandNode root = createRoot();
+        CompletionSession session = new CompletionSession();
+
+        assertEquals(List.of("other"), session.complete(root, new String[] { "o" }));
+        new CommandNode(root, new DelegateCommandImpl("option", ""));
+        assertEquals(List.of("option", "other"), session.complete(root, new String[] { "o" }));
+    }
+
+    @Test
+    public void testOtherRoot() {
+        CompletionSession session = new CompletionSession();
+        CommandNode first = createRoot();
+        CommandNode second = new CommandNode(new DelegateCommandImpl("second", ""));
+        new CommandNode(second, new DelegateCommandImpl("sub", ""));
+
+        assertEquals(List.of("leaf", "list"), session.complete(first, new String[] { "sub", "" }));
+        assertEquals(List.of(), session.complete(second, new String[] { "sub", "" }));
+
+        session.reset();
+        assertEquals(List.of("sub", "subtract"), session.complete(first, new String[] { "s" }));
+    }
+
+    @Test
+    public void testArgumentSuggestions() {
+        CommandNode root = createRoot();
+        VerifiedDelegateCommand command = VerifiedDelegateCommand.create()
+                .buildNameDefinition(new NameDefinition("mode"))
+                .buildDescriptionDefinition(new DescriptionDefinition(""))
+                .buildAliasDefinitions(new AliasDefinition[0])
+                .buildArgumentBuffer(new CommandBuffer<CommandArgument<?>>(List.of(
+                        EnumTypeArgument.of("mode", "", ExecutionMode.class),
+                        StringArgument.of("name", ""),
+                        BoolArgument.of("flag", ""))))
+                .build();
+        CommandNode mode = new CommandNode(root, command);
+        new CommandNode(mode, new DelegateCommandImpl("preview", ""));
+        CompletionSession session = new CompletionSession();
+
+        //  The first argument position completes both the children and the first argument
+        assertEquals(List.of("preview", "pooled", "virtual"), session.complete(root, new String[] { "mode", "" }));
+        assertEquals(List.of("preview", "pooled"), session.complete(root, new String[] { "mode", "p" }));
+        assertEquals(List.of("virtual"), session.complete(root, new String[] { "mode", "V" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "mode", "pooled", "" }));
+        assertEquals(List.of("false", "true"), session.complete(root, new String[] { "mode", "pooled", "name", "" }));
+        assertEquals(List.of("true"), session.complete(root, new String[] { "mode", "pooled", "name", "t" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "mode", "pooled", "name", "true", "" }));
+
+        //  Named arguments are completed by their value
+        assertEquals(List.of("flag=false"), session.complete(root, new String[] { "mode", "flag=f" }));
+        assertEquals(List.of(), session.complete(root, new String[] { "mode", "other=f" }));
+    }
+
+    @Test
+    public void testIllegal() {
+        CompletionSession session = new CompletionSession();
+
+        assertThrows(IllegalArgumentException.class, () -> session.complete(null, new String[0]));
+        assertThrows(IllegalArgumentException.class, () -> session.complete(createRoot(), null));
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie trie = CompletionTrie.of(List.of("teleport", "Tell", "time", "give", "tp", "gamemode"));
+
+    @Test
+    public void testComplete() {
+        assertEquals(List.of("teleport", "Tell"), trie.complete("tel"));
+        assertEquals(List.of("teleport", "Tell", "time", "tp"), trie.complete("t"));
+        assertEquals(List.of("tp"), trie.complete("tp"));
+        assertEquals(List.of(), trie.complete("tpa"));
+        assertEquals(List.of(), trie.complete("x"));
+    }
+
+    @Test
+    public void testCompleteIgnoresCase() {
+        assertEquals(List.of("teleport", "Tell"), trie.complete("TEL"));
+        assertEquals(List.of("gamemode", "give"), trie.complete("G"));
+    }
+
+    @Test
+    public void testCompleteEmptyPrefix() {
+        assertEquals(List.of("gamemode", "give", "teleport", "Tell", "time", "tp"), trie.complete(""));
+        assertEquals(6, trie.size());
+    }
+
+    @Test
+    public void testDuplicateNames() {
+        CompletionTrie duplicates = CompletionTrie.of(List.of("Sub", "sub", "other"));
+
+        assertEquals(List.of("Sub", "sub"), duplicates.complete("s"));
+        assertEquals(List.of("Sub", "sub"), duplicates.complete("SUB"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertSame(CompletionTrie.EMPTY, CompletionTrie.of(List.of()));
+        assertEquals(List.of(), CompletionTrie.EMPTY.complete(""));
+        assertEquals(0, CompletionTrie.EMPTY.size());
+    }
+
+    @Test
+    public void testResultUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> trie.complete("t").add("test"));
+    }
+
+    @Test
+    public void testIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> CompletionTrie.of(null));
+        assertThrows(IllegalArgumentException.class, () -> trie.complete(null));
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.github.polyrocketmatt.delegate.core.command.tree;
+
+import com.github.polyrocketmatt.delegate.api.command.CommandBuffer;
+import com.github.polyrocketmatt.delegate.api.command.permission.PermissionTier;
+import com.github.polyrocketmatt.delegate.api.entity.PlayerCommander;
+import com.github.polyrocketmatt.delegate.core.DelegateCommandImpl;
+import com.github.polyrocketmatt.delegate.core.command.VerifiedDelegateCommand;
+import com.github.polyrocketmatt.delegate.core.command.definition.AliasDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCache;
+import com.github.polyrocketmatt.delegate.core.command.permission.StandardPermission;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompletionViewTest {
+
+    private CommandNode createRoot() {
+        CommandNode root = new CommandNode(new DelegateCommandImpl("root", "", "r"));
+        CommandNode sub = new CommandNode(root, new DelegateCommandImpl("sub", "", "alias"));
+        new CommandNode(root, new DelegateCommandImpl("other", ""));
+        new CommandNode(sub, new DelegateCommandImpl("leaf", ""));
+
+        return root;
+    }
+
+    private VerifiedDelegateCommand createCommand(String name, PermissionTier... tiers) {
+        return VerifiedDelegateCommand.create()
+                .buildNameDefinition(new NameDefinition(name))
+                .buildDescriptionDefinition(new DescriptionDefinition(""))
+                .buildAliasDefinitions(new AliasDefinition[0])
+                .buildPermissionBuffer(new CommandBuffer<>(List.of(tiers)))
+                .build();
+    }
+
+    private CommandNode createGuardedRoot() {
+        CommandNode root = new CommandNode(new DelegateCommandImpl("tools", "", "t"));
+        new CommandNode(root, createCommand("open"));
+        new CommandNode(root, createCommand("ban", new StandardPermission("tools.ban")));
+        CommandNode secret = new CommandNode(root, createCommand("secret", new StandardPermission("tools.secret")));
+        new CommandNode(secret, createCommand("peek"));
+        new CommandNode(secret, createCommand("wipe", new StandardPermission("tools.wipe")));
+
+        return root;
+    }
+
+    private PlayerCommander createPlayer(String... permissions) {
+        Set<String> granted = Set.of(permissions);
+
+        return new PlayerCommander(UUID.randomUUID()) {
+            @Override
+            public boolean hasPermission(@NotNull String permission) {
+                return granted.contains(permission);
+            }
+
+            @Override
+            public boolean isOperator() {
+                return false;
+            }
+
+            @Override
+            public void sendMessage(@NotNull String message) {
+
+            }
+
+            @Override
+            public boolean isPlayer() {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testFind() {
+        CompletionView view = new CompletionView();
+        view.add(createRoot());
+
+        CompletionNode root = view.find("ROOT");
+        assertNotNull(root);
+        assertSame(root, view.find("r"));
+        assertNull(view.find("missing"));
+        assertEquals(List.of("other", "sub"), root.getCompletions().complete(""));
+        assertSame(root.getChild("sub"), root.getChild("Alias"));
+        assertEquals(List.of("leaf"), root.getChild("sub").getCompletions().complete("l"));
+        assertNull(root.getChild("leaf"));
+    }
+
+    @Test
+    public void testSnapshot() {
+        CompletionView view = new CompletionView();
+        CommandNode root = createRoot();
+        view.add(root);
+
+        //  Sub-commands that are added to the tree afterwards are not visible
+        new CommandNode(root, new DelegateCommandImpl("late", ""));
+        assertEquals(List.of("other", "sub"), view.find("root").getCompletions().complete(""));
+        assertEquals(List.of("late", "other", "sub"), root.complete(""));
+    }
+
+    @Test
+    public void testDispatchPlan() {
+        VerifiedDelegateCommand command = VerifiedDelegateCommand.create()
+                .buildNameDefinition(new NameDefinition("verified"))
+                .buildDescriptionDefinition(new DescriptionDefinition(""))
+                .buildAliasDefinitions(new AliasDefinition[0])
+                .build();
+        CompletionView view = new CompletionView();
+        view.add(new CommandNode(command));
+        view.add(createRoot());
+
+        assertSame(command.getDispatchPlan(), view.find("verified").getDispatchPlan());
+        assertNull(view.find("root").getDispatchPlan());
+    }
+
+    @Test
+    public void testFirstRootWins() {
+        CompletionView view = new CompletionView();
+        view.add(createRoot());
+        view.add(new CommandNode(new DelegateCommandImpl("r", "")));
+
+        assertEquals(List.of("other", "sub"), view.find("r").getCompletions().complete(""));
+    }
+
+    @Test
+    public void testClear() {
+        CompletionView view = new CompletionView();
+        view.add(createRoot());
+        view.clear();
+
+        assertNull(view.find("root"));
+    }
+
+    @Test
+    public void testSession() {
+        CompletionView view = new CompletionView();
+        view.add(createRoot());
+        CompletionSession session = new CompletionSession();
+
+        assertEquals(List.of("leaf"), session.complete(view.find("root"), new String[] { "alias", "" }));
+        assertEquals(List.of("sub"), session.complete(view.find("root"), new String[] { "s" }));
+    }
+
+    @Test
+    public void testFilteredByPermission() {
+        CompletionView view = new CompletionView();
+        view.add(createGuardedRoot());
+        view.add(new CommandNode(createCommand("staff", new StandardPermission("tools.staff"))));
+        PermissionCache cache = new PermissionCache();
+
+        //  Commands that cannot be executed are kept if they lead to commands that can
+        CompletionNode root = view.find("tools", createPlayer(), cache);
+        assertNotNull(root);
+        assertSame(root, view.find("t", createPlayer(), cache));
+        assertEquals(List.of("open", "secret"), root.getCompletions().complete(""));
+        assertNull(root.getChild("ban"));
+        assertEquals(List.of("peek"), root.getChild("secret").getCompletions().complete(""));
+        assertNull(view.find("staff", createPlayer(), cache));
+
+        //  Commanders that can execute every command see the full tree
+        CompletionNode full = view.find("tools", createPlayer("tools.ban", "tools.secret", "tools.wipe"), cache);
+        assertSame(view.find("tools"), full);
+        assertNotNull(view.find("staff", createPlayer("tools.staff"), cache));
+
+        //  All roots of a commander are filtered at once
+        assertEquals(Set.of("tools", "t"), view.findAll(createPlayer(), cache).keySet());
+        assertEquals(Set.of("tools", "t", "staff"), view.findAll(createPlayer("tools.staff"), cache).keySet());
+        assertSame(root, view.findAll(createPlayer(), cache).get("t"));
+    }
+
+    @Test
+    public void testFilteredViewsAreShared() {
+        CompletionView view = new CompletionView();
+        view.add(createGuardedRoot());
+        PermissionCache cache = new PermissionCache();
+
+        CompletionNode first = view.find("tools", createPlayer("tools.ban"), cache);
+        assertSame(first, view.find("tools", createPlayer("tools.ban", "unrelated"), cache));
+        assertNotSame(first, view.find("tools", createPlayer(), cache));
+        assertEquals(2, view.getFilteredViewCount());
+
+        //  Adding a root discards the filtered views
+        view.add(new CommandNode(createCommand("staff", new StandardPermission("tools.staff"))));
+        assertEquals(0, view.getFilteredViewCount());
+        assertNotSame(first, view.find("tools", createPlayer("tools.ban"), cache));
+        assertEquals(List.of("ban", "open", "secret"), view.find("tools", createPlayer("tools.ban"), cache).getCompletions().complete(""));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        CompletionView view = new CompletionView();
+        PermissionCache cache = new PermissionCache();
+        PlayerCommander player = createPlayer("perm.0");
+        int roots = 500;
+
+        //  Every root that can be found must have its checks collected, or filtering would fail
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < roots; i++)
+                view.add(new CommandNode(createCommand("cmd" + i, new StandardPermission("perm." + i))));
+        });
+        writer.start();
+        while (writer.isAlive())
+            for (int i = 0; i < roots; i++)
+                view.find("cmd" + i, player, cache);
+        writer.join();
+
+        assertNotNull(view.find("cmd0", player, cache));
+        assertNull(view.find("cmd1", player, cache));
+    }
+
+    @Test
+    public void testIllegal() {
+        CompletionView view = new CompletionView();
+
+        assertThrows(IllegalArgumentException.class, () -> view.add(null));
+        assertThrows(IllegalArgumentException.class, () -> view.find(null));
+        assertThrows(IllegalArgumentException.class, () -> view.find("root", null, new PermissionCache()));
+        assertThrows(IllegalArgumentException.class, () -> view.find("root", createPlayer(), null));
+    }
+
+}
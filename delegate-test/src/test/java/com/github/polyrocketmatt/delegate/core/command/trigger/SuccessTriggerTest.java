@@ -2,6 +2,7 @@ package com.github.polyrocketmatt.delegate.core.command.trigger;
 
 import com.github.polyrocketmatt.delegate.api.AttributeType;
 import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
+import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -41,4 +42,15 @@ public class SuccessTriggerTest {
         assertFalse(trigger.shouldTrigger(invalidList));
     }
 
+    @Test
+    public void testShouldTriggerCapture() {
+        SuccessTrigger trigger = new SuccessTrigger((info, capture) -> {});
+        CommandCapture.Capture first = new CommandCapture.Capture("a1", new ActionItem<>(ActionItem.Result.SUCCESS, null));
+        CommandCapture.Capture second = new CommandCapture.Capture("a2", new ActionItem<>(ActionItem.Result.FAILURE, null));
+
+        assertTrue(trigger.shouldTrigger(CommandCapture.of()));
+        assertTrue(trigger.shouldTrigger(CommandCapture.of(first, first)));
+        assertFalse(trigger.shouldTrigger(CommandCapture.of(first, second)));
+    }
+
 }
@@ -0,0 +1,110 @@
+package com.github.polyrocketmatt.delegate.core.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerIndexTest {
+
+    private record TestPlayer(String name) {}
+
+    private PlayerIndex<TestPlayer> createIndex(String... names) {
+        PlayerIndex<TestPlayer> index = new PlayerIndex<>();
+        for (String name : names)
+            index.add(name, new TestPlayer(name));
+
+        return index;
+    }
+
+    @Test
+    public void testGet() {
+        PlayerIndex<TestPlayer> index = createIndex("Notch", "jeb_", "Dinnerbone");
+
+        assertEquals(3, index.size());
+        assertEquals("Notch", index.get("notch").name());
+        assertEquals("jeb_", index.get("JEB_").name());
+        assertNull(index.get("Not"));
+    }
+
+    @Test
+    public void testMatch() {
+        PlayerIndex<TestPlayer> index = createIndex("Steve", "Stevenson", "Steven", "Alex");
+
+        assertEquals("Steve", index.match("steve").name());
+        assertEquals("Steve", index.match("st").name());
+        assertEquals("Steven", index.match("STEVEN").name());
+        assertEquals("Stevenson", index.match("stevens").name());
+        assertNull(index.match("bob"));
+    }
+
+    @Test
+    public void testComplete() {
+        PlayerIndex<TestPlayer> index = createIndex("Steve", "alex", "Stevenson", "STAN", "bob");
+
+        assertEquals(List.of("STAN", "Steve", "Stevenson"), index.complete("st"));
+        assertEquals(List.of("Steve", "Stevenson"), index.complete("STEVE"));
+        assertEquals(List.of("alex", "bob", "STAN", "Steve", "Stevenson"), index.complete(""));
+        assertEquals(List.of(), index.complete("x"));
+    }
+
+    @Test
+    public void testSuggestionProvider() {
+        PlayerIndex<TestPlayer> index = createIndex("Steve", "alex", "Stevenson");
+
+        assertEquals(List.of("Steve", "Stevenson"), index.getSuggestionProvider().suggest("ste").get("ste"));
+
+        index.add("Stefan", new TestPlayer("Stefan"));
+        assertEquals(List.of("Stefan", "Steve", "Stevenson"), index.getSuggestionProvider().suggest("ste").get("ste"));
+    }
+
+    @Test
+    public void testRemove() {
+        TestPlayer steve = new TestPlayer("Steve");
+        PlayerIndex<TestPlayer> index = new PlayerIndex<>();
+        index.add("Steve", steve);
+        index.remove("steve", steve);
+
+        assertNull(index.get("Steve"));
+        assertEquals(List.of(), index.complete("s"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testRemoveReplaced() {
+        //  A player that reconnected before the previous connection was removed stays in the index
+        TestPlayer previous = new TestPlayer("Steve");
+        TestPlayer current = new TestPlayer("Steve");
+        PlayerIndex<TestPlayer> index = new PlayerIndex<>();
+        index.add("Steve", previous);
+        index.add("Steve", current);
+        index.remove("Steve", previous);
+
+        assertSame(current, index.get("Steve"));
+        assertEquals(List.of("Steve"), index.complete("s"));
+    }
+
+    @Test
+    public void testClear() {
+        PlayerIndex<TestPlayer> index = createIndex("Steve", "Alex");
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertNull(index.get("Steve"));
+        assertEquals(List.of(), index.complete(""));
+    }
+
+    @Test
+    public void testIllegal() {
+        PlayerIndex<TestPlayer> index = new PlayerIndex<>();
+
+        assertThrows(IllegalArgumentException.class, () -> index.add(null, new TestPlayer("Steve")));
+        assertThrows(IllegalArgumentException.class, () -> index.add("Steve", null));
+        assertThrows(IllegalArgumentException.class, () -> index.remove(null, new TestPlayer("Steve")));
+        assertThrows(IllegalArgumentException.class, () -> index.get(null));
+        assertThrows(IllegalArgumentException.class, () -> index.match(null));
+        assertThrows(IllegalArgumentException.class, () -> index.complete(null));
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.github.polyrocketmatt.delegate.core.execution;
+
+import com.github.polyrocketmatt.delegate.api.configuration.ExecutorConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DelegateExecutorTest {
+
+    @Test
+    public void testConstructorNull() {
+        assertThrows(IllegalArgumentException.class, () -> new DelegateExecutor(null));
+    }
+
+    @Test
+    public void testLazyStart() {
+        DelegateExecutor executor = new DelegateExecutor(new ExecutorConfiguration());
+
+        assertFalse(executor.isRunning());
+        assertTrue(executor.shutdown(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSharedNamedThreads() throws InterruptedException {
+        ExecutorConfiguration configuration = new ExecutorConfiguration()
+                .setThreadCount(2)
+                .setQueueBound(0)
+                .setThreadName("test-worker");
+        DelegateExecutor executor = new DelegateExecutor(configuration);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++)
+            executor.execute(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(threadNames.size() <= 2);
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("test-worker-")));
+        assertTrue(executor.shutdown(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws InterruptedException {
+        ExecutorConfiguration configuration = new ExecutorConfiguration()
+                .setThreadCount(1)
+                .setQueueBound(1);
+        DelegateExecutor executor = new DelegateExecutor(configuration);
+        CountDownLatch blocker = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+
+        executor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {}
+        });
+        executor.execute(() -> {});
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller)
+                ranOnCaller.incrementAndGet();
+        });
+
+        blocker.countDown();
+        assertEquals(1, ranOnCaller.get());
+        assertTrue(executor.shutdown(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownDrains() {
+        DelegateExecutor executor = new DelegateExecutor(new ExecutorConfiguration().setThreadCount(2));
+        AtomicInteger finished = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++)
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ignored) {}
+                finished.incrementAndGet();
+            });
+
+        assertTrue(executor.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(10, finished.get());
+        assertFalse(executor.isRunning());
+    }
+
+    @Test
+    public void testShutdownTimeout() {
+        DelegateExecutor executor = new DelegateExecutor(new ExecutorConfiguration().setThreadCount(1));
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {}
+        });
+
+        assertFalse(executor.shutdown(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRestartAfterShutdown() throws InterruptedException {
+        DelegateExecutor executor = new DelegateExecutor(new ExecutorConfiguration());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        executor.execute(() -> {});
+        executor.shutdown(1, TimeUnit.SECONDS);
+        executor.execute(latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(executor.isRunning());
+        assertTrue(executor.shutdown(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStealCount() {
+        ExecutorConfiguration configuration = new ExecutorConfiguration()
+                .setThreadCount(4)
+                .setStealCount(8);
+
+        assertEquals(4, new DelegateExecutor(configuration).getStealCount());
+        assertEquals(2, new DelegateExecutor(configuration.setStealCount(2)).getStealCount());
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.polyrocketmatt.delegate.core.execution;
+
+import com.github.polyrocketmatt.delegate.api.command.property.ExecutionMode;
+import com.github.polyrocketmatt.delegate.api.configuration.ExecutorConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs thousands of concurrently blocking actions on the pooled and virtual execution modes.
+ * On runtimes without virtual threads, both modes run on the pool.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class ExecutionModeBenchmarkTest {
+
+    private static final int ACTIONS = 2_000;
+    private static final long BLOCK_MILLIS = 10L;
+    private static final int THREADS = 16;
+
+    private long run(ExecutionMode mode, int actions) throws InterruptedException {
+        ExecutorConfiguration configuration = new ExecutorConfiguration()
+                .setThreadCount(THREADS)
+                .setQueueBound(0);
+        DelegateExecutor executor = new DelegateExecutor(configuration);
+        CountDownLatch latch = new CountDownLatch(actions);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < actions; i++)
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(BLOCK_MILLIS);
+                } catch (InterruptedException ignored) {}
+                latch.countDown();
+            }, mode);
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(executor.shutdown(5, TimeUnit.SECONDS));
+
+        return elapsed;
+    }
+
+    @Test
+    public void testBlockingActionsComplete() throws InterruptedException {
+        //  Every action runs exactly once in both modes, even with more actions than threads
+        run(ExecutionMode.POOLED, THREADS * 4);
+        run(ExecutionMode.VIRTUAL, THREADS * 4);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testBlockingThroughput(TestReporter reporter) throws InterruptedException {
+        //  With virtual threads, all actions block concurrently instead of THREADS at a time
+        for (ExecutionMode mode : new ExecutionMode[] { ExecutionMode.POOLED, ExecutionMode.VIRTUAL }) {
+            long elapsed = run(mode, ACTIONS);
+            reporter.publishEntry("%s actions/s".formatted(mode), "%.0f".formatted(ACTIONS * 1000.0 / Math.max(1, elapsed)));
+        }
+    }
+
+    @Test
+    public void testVirtualThreadNames() throws InterruptedException {
+        DelegateExecutor executor = new DelegateExecutor(new ExecutorConfiguration().setThreadName("bench"));
+        String[] name = new String[1];
+        CountDownLatch latch = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            name[0] = Thread.currentThread().getName();
+            latch.countDown();
+        }, ExecutionMode.VIRTUAL);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(name[0].startsWith(DelegateExecutor.isVirtualThreadSupported() ? "bench-virtual-" : "bench-"));
+        assertTrue(executor.shutdown(1, TimeUnit.SECONDS));
+    }
+
+}
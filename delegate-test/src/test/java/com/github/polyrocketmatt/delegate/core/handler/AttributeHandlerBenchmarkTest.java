@@ -0,0 +1,100 @@
+package com.github.polyrocketmatt.delegate.core.handler;
+
+import com.github.polyrocketmatt.delegate.api.exception.AttributeException;
+import com.github.polyrocketmatt.delegate.core.CommandBuilderImpl;
+import com.github.polyrocketmatt.delegate.core.PlatformImpl;
+import com.github.polyrocketmatt.delegate.core.command.AttributedDelegateCommand;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.SubcommandDefinition;
+import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
+import com.github.polyrocketmatt.delegate.core.handlers.AttributeHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmarks the verification of a command with an increasing amount of sub-commands. Since
+ * the chain is classified in a single pass and names are checked through hash sets, the time
+ * should grow linearly with the amount of sub-commands.
+ * <p>
+ * Timings are only measured when the {@code delegate.benchmark} system property is true,
+ * for example with {@code mvn test -Ddelegate.benchmark=true}, and are published as report
+ * entries of the test.
+ */
+public class AttributeHandlerBenchmarkTest {
+
+    private static final int[] SUBCOMMAND_COUNTS = { 1_000, 10_000 };
+    private static final int ROUNDS = 3;
+
+    private final AttributeHandler handler = new AttributeHandler();
+
+    @BeforeEach
+    public void reset() {
+        if (getDelegate().getPlatform() == null)
+            getDelegate().setPlatform(new PlatformImpl());
+    }
+
+    private CommandBuilderImpl createBuilder(int subcommands, String last) {
+        CommandBuilderImpl builder = new CommandBuilderImpl()
+                .withDefinition(new NameDefinition("warp"))
+                .withDefinition(new DescriptionDefinition("Teleports to a warp"));
+
+        for (int i = 0; i < subcommands; i++) {
+            String name = (i == subcommands - 1) ? last : "warp" + i;
+            builder.withSubcommand(new SubcommandDefinition(new CommandBuilderImpl()
+                    .withDefinition(new NameDefinition(name))
+                    .withDefinition(new DescriptionDefinition("Teleports to " + name))
+                    .withAlias("w" + i)
+                    .withString("player", "The player to teleport")));
+        }
+
+        return builder;
+    }
+
+    private long measure(int subcommands) {
+        CommandBuilderImpl builder = createBuilder(subcommands, "warp" + (subcommands - 1));
+        long start = System.nanoTime();
+        CommandNode root = new CommandNode(handler.process(null, new AttributedDelegateCommand(builder), false));
+        long elapsed = System.nanoTime() - start;
+
+        assertNotNull(root.getCommand());
+        return elapsed;
+    }
+
+    @Test
+    public void testManySubcommands() {
+        int subcommands = SUBCOMMAND_COUNTS[SUBCOMMAND_COUNTS.length - 1];
+
+        assertNotNull(handler.process(null, new AttributedDelegateCommand(createBuilder(subcommands, "warp" + (subcommands - 1))), false));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "delegate.benchmark", matches = "true")
+    public void testRegistrationTime(TestReporter reporter) {
+        for (int subcommands : SUBCOMMAND_COUNTS) {
+            //  The first rounds double as warm-up, so only the fastest round counts
+            long result = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++)
+                result = Math.min(result, measure(subcommands));
+
+            reporter.publishEntry("ms with %d sub-commands".formatted(subcommands), String.valueOf(TimeUnit.NANOSECONDS.toMillis(result)));
+        }
+    }
+
+    @Test
+    public void testDuplicateAmongManySubcommands() {
+        CommandBuilderImpl builder = createBuilder(10_000, "warp0");
+
+        AttributeException ex = assertThrows(AttributeException.class,
+                () -> handler.process(null, new AttributedDelegateCommand(builder), false));
+        assertEquals("Command name must be unique: warp0", ex.getMessage());
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.github.polyrocketmatt.delegate.core.handler;
+
+import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
+import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.core.CommandBuilderImpl;
+import com.github.polyrocketmatt.delegate.core.CommanderEntityImpl;
+import com.github.polyrocketmatt.delegate.core.PlatformImpl;
+import com.github.polyrocketmatt.delegate.core.command.action.ConsumerAction;
+import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
+import com.github.polyrocketmatt.delegate.core.command.argument.IntArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.IntMinRule;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionTierType;
+import com.github.polyrocketmatt.delegate.core.handlers.BrigadierCommandHandler;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dispatches commands through the {@link com.mojang.brigadier.CommandDispatcher} of the
+ * {@link BrigadierCommandHandler}, which resolves the arguments from the command context.
+ */
+public class BrigadierCommandHandlerTest {
+
+    private static final CommanderEntityImpl ENTITY = new CommanderEntityImpl();
+
+    private BrigadierCommandHandler handler;
+
+    @BeforeEach
+    public void reset() {
+        if (getDelegate().getPlatform() == null)
+            getDelegate().setPlatform(new PlatformImpl());
+
+        //  Clear command roots of both handlers, as commands are registered with both
+        getDelegate().getCommandHandler().clearCommandCache();
+        handler = getDelegate().getBrigadierCommandHandler();
+        handler.clearCommandCache();
+    }
+
+    private CommandBuilderImpl createBuilder() {
+        return new CommandBuilderImpl()
+                .withDefinition(new NameDefinition("brigadier"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withInt("a", "First argument")
+                .withInt("b", "Second argument");
+    }
+
+    @Test
+    public void testRequiredArguments() {
+        Integer[] values = new Integer[2];
+
+        createBuilder()
+                .withAction(new ConsumerAction((commander, context) -> {
+                    values[0] = context.find("a");
+                    values[1] = context.find("b");
+                }))
+                .build();
+
+        handler.handle(new CommandDispatchInformation(ENTITY, "brigadier", new String[] { "3", "4" }));
+        assertArrayEquals(new Integer[] { 3, 4 }, values);
+    }
+
+    @Test
+    public void testOptionalArgumentDefault() {
+        Integer[] values = new Integer[3];
+
+        createBuilder()
+                .withArgument(IntArgument.of("c", "Optional argument", 7, new IntMinRule(0)))
+                .withAction(new ConsumerAction((commander, context) -> {
+                    values[0] = context.find("a");
+                    values[1] = context.find("b");
+                    values[2] = context.find("c");
+                }))
+                .build();
+
+        //  Optional arguments are not part of the tree, so they always resolve to their default
+        handler.handle(new CommandDispatchInformation(ENTITY, "brigadier", new String[] { "3", "4" }));
+        assertArrayEquals(new Integer[] { 3, 4, 7 }, values);
+    }
+
+    @Test
+    public void testExceptActionOnException() {
+        List<FeedbackType> excepted = new ArrayList<>();
+
+        createBuilder()
+                .withExceptionCatching()
+                .withAction(new CommandAction("fail", PermissionTierType.OPERATOR.getTier(), 0) {
+                    @Override
+                    public @NotNull ActionItem<?> run(@NotNull CommanderEntity commander, @NotNull List<Argument<?>> arguments) {
+                        throw new IllegalStateException("This is a test exception");
+                    }
+                })
+                .with(new ExceptAction((commander, type, arguments) -> excepted.add(type)))
+                .build();
+
+        handler.handle(new CommandDispatchInformation(ENTITY, "brigadier", new String[] { "3", "4" }));
+        assertEquals(List.of(FeedbackType.BRIGADIER_EXCEPTION), excepted);
+    }
+
+}
@@ -1,12 +1,41 @@
 package com.github.polyrocketmatt.delegate.integration;
 
 import com.github.polyrocketmatt.delegate.api.IPlatform;
+import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
+import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
+import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
+import com.github.polyrocketmatt.delegate.api.command.data.CommandCapture;
+import com.github.polyrocketmatt.delegate.api.command.feedback.FeedbackType;
+import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
+import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import com.github.polyrocketmatt.delegate.core.CommandBuilderImpl;
 import com.github.polyrocketmatt.delegate.core.CommanderEntityImpl;
 import com.github.polyrocketmatt.delegate.core.PlatformImpl;
+import com.github.polyrocketmatt.delegate.core.command.action.ConsumerAction;
+import com.github.polyrocketmatt.delegate.core.command.action.ExceptAction;
+import com.github.polyrocketmatt.delegate.core.command.action.RunnableAction;
+import com.github.polyrocketmatt.delegate.core.command.argument.EnumTypeArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.StringArgument;
+import com.github.polyrocketmatt.delegate.core.command.argument.rule.ConditionRule;
+import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionTierType;
+import com.github.polyrocketmatt.delegate.core.command.trigger.SuccessTrigger;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests all possible points of failure when a command is registered.
@@ -29,4 +58,243 @@ public class DelegateCommandFlowTest {
         getDelegate().getCommandHandler().clearCommandCache();
     }
 
+    @Test
+    public void testActionsRunOnceInOrderOfPrecedence() {
+        List<String> order = new ArrayList<>();
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withAction(new RunnableAction("a", 1, () -> order.add("a")))
+                .withAction(new RunnableAction("b", 0, () -> order.add("b")))
+                .withAction(new RunnableAction("c", 1, () -> order.add("c")))
+                .withAction(new RunnableAction("d", 0, () -> order.add("d")))
+                .build();
+
+        PLATFORM.execute(new CommandDispatchInformation(ENTITY, "flow", new String[0]));
+
+        assertEquals(List.of("b", "d", "a", "c"), order);
+    }
+
+    @Test
+    public void testHandleAsyncSynchronousCommand() {
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withAction(new RunnableAction("a", 0, () -> {}))
+                .build();
+
+        CompletableFuture<CommandCapture> result = getDelegate().getCommandHandler()
+                .handleAsync(new CommandDispatchInformation(ENTITY, "flow", new String[0]))
+                .toCompletableFuture();
+
+        assertTrue(result.isDone());
+        assertEquals(1, result.join().size());
+    }
+
+    @Test
+    public void testHandleAsyncRunsTriggersAfterAllGroups() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        int[] triggered = { -1 };
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withAsync()
+                .withAction(new RunnableAction("a", 1, () -> order.add("a")))
+                .withAction(new RunnableAction("b", 0, () -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignored) {}
+                    order.add("b");
+                }))
+                .withAction(new RunnableAction("c", 1, () -> order.add("c")))
+                .with(new SuccessTrigger((information, capture) -> triggered[0] = capture.size()))
+                .build();
+
+        CompletableFuture<CommandCapture> result = getDelegate().getCommandHandler()
+                .handleAsync(new CommandDispatchInformation(ENTITY, "flow", new String[0]))
+                .toCompletableFuture();
+
+        //  The first group is blocked, so neither the next group nor the trigger may have run
+        assertFalse(result.isDone());
+        assertEquals(-1, triggered[0]);
+        assertTrue(order.isEmpty());
+
+        release.countDown();
+        CommandCapture capture = result.get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, capture.size());
+        assertEquals(3, triggered[0]);
+        assertEquals("b", order.get(0));
+        assertTrue(order.containsAll(List.of("a", "c")));
+    }
+
+    @Test
+    public void testAsyncActionFailureIsReported() throws Exception {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        List<FeedbackType> excepted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch reported = new CountDownLatch(1);
+        CommanderEntityImpl entity = new CommanderEntityImpl() {
+            @Override
+            public void sendMessage(@NotNull String message) {
+                messages.add(message);
+                reported.countDown();
+            }
+        };
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withAsync()
+                .withAction(new CommandAction("fail", PermissionTierType.GLOBAL.getTier(), 0) {
+                    @Override
+                    public @NotNull ActionItem<?> run(@NotNull CommanderEntity commander, @NotNull List<Argument<?>> arguments) {
+                        throw new IllegalStateException("broken");
+                    }
+                })
+                .with(new ExceptAction((commander, type, arguments) -> excepted.add(type)))
+                .build();
+
+        //  The synchronous handler does not wait for the actions, the failure is reported once they finished
+        assertTrue(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[0])));
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(FeedbackType.ACTIONS_EXCEPTION), excepted);
+        assertEquals(List.of("An exception occurred while executing the command flow: broken"), messages);
+
+        //  The asynchronous handler reports the failure as well, and completes its stage exceptionally
+        CompletableFuture<CommandCapture> result = getDelegate().getCommandHandler()
+                .handleAsync(new CommandDispatchInformation(entity, "flow", new String[0]))
+                .toCompletableFuture();
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(List.of(FeedbackType.ACTIONS_EXCEPTION, FeedbackType.ACTIONS_EXCEPTION), excepted);
+    }
+
+    @Test
+    public void testHandleAsyncNonExistentCommand() {
+        CompletableFuture<CommandCapture> result = getDelegate().getCommandHandler()
+                .handleAsync(new CommandDispatchInformation(ENTITY, "missing", new String[0]))
+                .toCompletableFuture();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(CommandExecutionException.class, ex.getCause());
+        assertEquals(FeedbackType.COMMAND_NON_EXISTENT, ((CommandExecutionException) ex.getCause()).getFeedbackType());
+        assertEquals("Command missing does not exist.", ex.getCause().getMessage());
+    }
+
+    @Test
+    public void testFailureIsReportedToCommander() {
+        List<String> messages = new ArrayList<>();
+        CommanderEntityImpl entity = new CommanderEntityImpl() {
+            @Override
+            public void sendMessage(@NotNull String message) {
+                messages.add(message);
+            }
+        };
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withInt("a", "First argument")
+                .withAction(new RunnableAction("run", () -> {}))
+                .build();
+
+        assertFalse(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[] { "1", "2" })));
+        assertFalse(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[] { "b=1" })));
+        assertEquals(List.of("Command flow 1 2 does not exist.", "Invalid argument identifier: b."), messages);
+    }
+
+    @Test
+    public void testUnauthorizedBeforeArguments() {
+        List<String> messages = new ArrayList<>();
+        CommanderEntityImpl entity = new CommanderEntityImpl() {
+            @Override
+            public boolean hasPermission(@NotNull String permission) {
+                return false;
+            }
+
+            @Override
+            public void sendMessage(@NotNull String message) {
+                messages.add(message);
+            }
+        };
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withInt("a", "First argument")
+                .withPermission("flow.use")
+                .withAction(new RunnableAction("run", () -> {}))
+                .build();
+
+        //  Arguments of unauthorized calls are never verified
+        assertFalse(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[] { "b=1" })));
+        assertEquals(List.of("You do not have permission to execute the command: flow"), messages);
+    }
+
+    @Test
+    public void testQuotedAndAssignedArguments() {
+        String[] values = new String[2];
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withString("a", "First argument")
+                .withString("b", "Second argument")
+                .withAction(new ConsumerAction((commander, context) -> {
+                    values[0] = context.find("a");
+                    values[1] = context.find("b");
+                }))
+                .build();
+
+        PLATFORM.execute(new CommandDispatchInformation(ENTITY, "flow", new String[] { "\"hello", "world\"", "x" }));
+        assertArrayEquals(new String[] { "hello world", "x" }, values);
+
+        PLATFORM.execute(new CommandDispatchInformation(ENTITY, "flow", new String[] { "b=\"big", "world\"", "a=y" }));
+        assertArrayEquals(new String[] { "y", "big world" }, values);
+    }
+
+    @Test
+    public void testQuotedNonStringArguments() {
+        Object[] values = new Object[3];
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withInt("a", "First argument")
+                .withArgument(EnumTypeArgument.of("b", "Second argument", FeedbackType.class))
+                .withArgument(StringArgument.of("c", "Third argument", new ConditionRule(input -> !input.startsWith("\""))))
+                .withAction(new ConsumerAction((commander, context) -> {
+                    values[0] = context.find("a");
+                    values[1] = context.find("b");
+                    values[2] = context.find("c");
+                }))
+                .build();
+
+        //  Quotes are not part of the value that is parsed or checked by rules
+        PLATFORM.execute(new CommandDispatchInformation(ENTITY, "flow", new String[] { "\"5\"", "\"unauthorized\"", "\"two", "words\"" }));
+        assertArrayEquals(new Object[] { 5, FeedbackType.UNAUTHORIZED, "two words" }, values);
+
+        PLATFORM.execute(new CommandDispatchInformation(ENTITY, "flow", new String[] { "c=\"x\"", "a=\"7\"", "b=ARGS_INVALID_TYPE" }));
+        assertArrayEquals(new Object[] { 7, FeedbackType.ARGS_INVALID_TYPE, "x" }, values);
+    }
+
+    @Test
+    public void testUnterminatedQuoteIsRejected() {
+        List<String> messages = new ArrayList<>();
+        String[] values = new String[1];
+        CommanderEntityImpl entity = new CommanderEntityImpl() {
+            @Override
+            public void sendMessage(@NotNull String message) {
+                messages.add(message);
+            }
+        };
+
+        BUILDER.withDefinition(new NameDefinition("flow"))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withString("a", "First argument")
+                .withAction(new ConsumerAction((commander, context) -> values[0] = context.find("a")))
+                .build();
+
+        //  The rest of the line is never handed to the parser of the argument
+        assertFalse(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[] { "\"hello", "world" })));
+        assertFalse(PLATFORM.execute(new CommandDispatchInformation(entity, "flow", new String[] { "a=\"hello" })));
+        assertNull(values[0]);
+        assertEquals(List.of("Unterminated quote in argument \"hello world.", "Unterminated quote in argument a=\"hello."), messages);
+    }
+
 }
@@ -2,6 +2,8 @@ package com.github.polyrocketmatt.delegate.integration;
 
 import com.github.polyrocketmatt.delegate.api.IPlatform;
 import com.github.polyrocketmatt.delegate.api.command.CommandDispatchInformation;
+import com.github.polyrocketmatt.delegate.api.command.IDelegateCommand;
+import com.github.polyrocketmatt.delegate.api.command.RegistrationBatch;
 import com.github.polyrocketmatt.delegate.api.command.action.CommandAction;
 import com.github.polyrocketmatt.delegate.api.command.argument.Argument;
 import com.github.polyrocketmatt.delegate.api.command.data.ActionItem;
@@ -16,12 +18,14 @@ import com.github.polyrocketmatt.delegate.core.command.AttributedDelegateCommand
 import com.github.polyrocketmatt.delegate.core.command.DelegateCommand;
 import com.github.polyrocketmatt.delegate.core.command.definition.DescriptionDefinition;
 import com.github.polyrocketmatt.delegate.core.command.definition.NameDefinition;
+import com.github.polyrocketmatt.delegate.core.command.definition.SubcommandDefinition;
 import com.github.polyrocketmatt.delegate.core.command.permission.PermissionTierType;
 import com.github.polyrocketmatt.delegate.core.command.tree.CommandNode;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
@@ -87,6 +91,133 @@ public class DelegateCommandRegistrationTest {
         assertEquals(1, a[0]);
     }
 
+    @Test
+    public void testBatchedRegistration() {
+        List<List<String>> syncs = new ArrayList<>();
+        IPlatform previous = getDelegate().getPlatform();
+        IPlatform platform = new PlatformImpl() {
+            @Override
+            public void registerToPlayers(@NotNull IDelegateCommand command) {
+                syncs.add(List.of(command.getNameDefinition().getValue()));
+            }
+
+            @Override
+            public void registerToPlayers(@NotNull List<IDelegateCommand> commands) {
+                syncs.add(commands.stream().map(command -> command.getNameDefinition().getValue()).toList());
+            }
+        };
+
+        getDelegate().setPlatform(null);
+        getDelegate().setPlatform(platform);
+        try {
+            try (RegistrationBatch batch = getDelegate().beginRegistration()) {
+                try (RegistrationBatch nested = getDelegate().beginRegistration()) {
+                    new CommandBuilderImpl().withDefinition(new NameDefinition("first"))
+                            .withDefinition(new DescriptionDefinition("This is a test command"))
+                            .build();
+                }
+                new CommandBuilderImpl().withDefinition(new NameDefinition("second"))
+                        .withDefinition(new DescriptionDefinition("This is a test command"))
+                        .build();
+
+                //  Commands are only sent once the outermost batch is closed
+                assertTrue(syncs.isEmpty());
+                batch.close();
+                batch.close();
+            }
+            assertEquals(List.of(List.of("first", "second")), syncs);
+
+            new CommandBuilderImpl().withDefinition(new NameDefinition("third"))
+                    .withDefinition(new DescriptionDefinition("This is a test command"))
+                    .build();
+            assertEquals(List.of(List.of("first", "second"), List.of("third")), syncs);
+        } finally {
+            getDelegate().setPlatform(null);
+            getDelegate().setPlatform(previous);
+        }
+    }
+
+    private CommandBuilderImpl createBuilder(String name) {
+        return new CommandBuilderImpl().withDefinition(new NameDefinition(name))
+                .withDefinition(new DescriptionDefinition("This is a test command"))
+                .withSubcommand(new SubcommandDefinition(new CommandBuilderImpl().withDefinition(new NameDefinition("sub"))
+                        .withDefinition(new DescriptionDefinition("This is a test sub-command"))));
+    }
+
+    @Test
+    public void testRegisterAll() {
+        List<IDelegateCommand> commands = getDelegate().registerAll(createBuilder("first"), createBuilder("second"), createBuilder("third"));
+
+        assertEquals(List.of("first", "second", "third"), commands.stream().map(command -> command.getNameDefinition().getValue()).toList());
+        assertEquals(List.of("first", "second", "third"), getDelegate().getInternalCommandHandler().getCommandTree().getRoots().stream()
+                .map(node -> node.getNameDefinition().getValue()).toList());
+        assertNotNull(getDelegate().getInternalCommandHandler().getCommandTree().find("second").getChild("sub"));
+    }
+
+    @Test
+    public void testRegisterAllReportsEveryError() {
+        CommandBuilderImpl nameless = new CommandBuilderImpl().withDefinition(new DescriptionDefinition("This is a test command"));
+        CommandBuilderImpl descriptionless = new CommandBuilderImpl().withDefinition(new NameDefinition("invalid"));
+
+        CommandRegisterException ex = assertThrows(CommandRegisterException.class,
+                () -> getDelegate().registerAll(createBuilder("first"), nameless, createBuilder("second"), descriptionless));
+        assertEquals("Unable to verify 2 of 4 commands: [1] Attribute chain must contain a name attribute, " +
+                "[3] Attribute chain must contain a description attribute", ex.getMessage());
+        assertEquals(2, ex.getSuppressed().length);
+
+        //  Valid commands are not registered either
+        assertNull(getDelegate().getInternalCommandHandler().getCommandTree().find("first"));
+    }
+
+    @Test
+    public void testRegisterAllConflicts() {
+        createBuilder("existing").build();
+
+        CommandRegisterException ex = assertThrows(CommandRegisterException.class,
+                () -> getDelegate().registerAll(createBuilder("first"), createBuilder("existing"), createBuilder("first")));
+        assertEquals("Cannot overwrite command nodes with the same name: existing, first", ex.getMessage());
+        assertNull(getDelegate().getInternalCommandHandler().getCommandTree().find("first"));
+        assertThrows(CommandRegisterException.class, () -> getDelegate().registerAll((CommandBuilderImpl) null));
+    }
+
+    @Test
+    public void testRegisterAllConflictsIgnoreCase() {
+        List<String> registered = new ArrayList<>();
+        IPlatform previous = getDelegate().getPlatform();
+        IPlatform platform = new PlatformImpl() {
+            @Override
+            public void registerToPlatform(@NotNull IDelegateCommand command) {
+                registered.add(command.getNameDefinition().getValue());
+            }
+        };
+
+        getDelegate().setPlatform(null);
+        getDelegate().setPlatform(platform);
+        try {
+            createBuilder("existing").build();
+            registered.clear();
+
+            CommandRegisterException ex = assertThrows(CommandRegisterException.class,
+                    () -> getDelegate().registerAll(createBuilder("first"), createBuilder("Second"), createBuilder("SECOND")));
+            assertEquals("Cannot overwrite command nodes with the same name: SECOND", ex.getMessage());
+            ex = assertThrows(CommandRegisterException.class,
+                    () -> getDelegate().registerAll(createBuilder("first"), createBuilder("Existing")));
+            assertEquals("Cannot overwrite command nodes with the same name: Existing", ex.getMessage());
+            ex = assertThrows(CommandRegisterException.class,
+                    () -> getDelegate().registerAll(createBuilder("first"), createBuilder("other").withAlias("FIRST")));
+            assertEquals("Cannot overwrite command nodes with the same name: other", ex.getMessage());
+
+            //  Nothing of the batches ends up in the tree, the completions or the platform
+            assertTrue(registered.isEmpty());
+            assertEquals(1, getDelegate().getInternalCommandHandler().getCommandTree().getRoots().size());
+            assertNull(getDelegate().getInternalCommandHandler().getCommandTree().find("first"));
+            assertNull(getDelegate().getInternalCommandHandler().getCompletionView().find("first"));
+        } finally {
+            getDelegate().setPlatform(null);
+            getDelegate().setPlatform(previous);
+        }
+    }
+
     @Test
     public void testDuplicateCommandRegistration() {
         CommandBuilderImpl command = BUILDER.withDefinition(new NameDefinition("test"))
@@ -15,30 +15,42 @@ import com.github.polyrocketmatt.delegate.api.entity.CommanderEntity;
 import com.github.polyrocketmatt.delegate.api.exception.CommandExecutionException;
 import com.github.polyrocketmatt.delegate.api.exception.CommandRegisterException;
 import com.github.polyrocketmatt.delegate.core.DelegateCore;
+import com.github.polyrocketmatt.delegate.core.entity.PlayerIndex;
 import com.github.polyrocketmatt.delegate.impl.command.VelocityCommandBuilder;
 import com.github.polyrocketmatt.delegate.impl.command.VelocityCommandFactory;
 import com.github.polyrocketmatt.delegate.impl.entity.VelocityPlayerCommander;
 import com.github.polyrocketmatt.delegate.impl.event.DelegateCommandEvent;
+import com.github.polyrocketmatt.delegate.impl.event.PermissionCacheListener;
+import com.github.polyrocketmatt.delegate.impl.event.PlayerIndexListener;
 import com.velocitypowered.api.command.CommandManager;
+import com.velocitypowered.api.plugin.PluginContainer;
+import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import org.bstats.velocity.Metrics;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.polyrocketmatt.delegate.core.DelegateCore.getDelegate;
 
 public class Delegate implements IPlatform {
 
     private static final int VELOCITY_DELEGATE_ID = 17672;
+    private static final long EXECUTOR_DRAIN_TIMEOUT_SECONDS = 5L;
 
     private static final VelocityCommandFactory factory = new VelocityCommandFactory();
+    private static final PlayerIndex<Player> players = new PlayerIndex<>();
     private static ProxyServer proxy;
 
     private final Class<?> plugin;
     private final CommandManager commandManager;
     private final List<IDelegateCommand> commands = new ArrayList<>();
+    private final PlayerIndexListener playerListener = new PlayerIndexListener(players);
+    private final PermissionCacheListener permissionListener = new PermissionCacheListener(getDelegate().getPermissionCache());
+    private final Object pluginInstance;
     //private final InternalCommandHandler commandHandler;
     private final boolean metricsEnabled;
 
@@ -51,6 +63,23 @@ public class Delegate implements IPlatform {
         this.metricsEnabled = metricsEnabled;
         if (metricsEnabled)
             metricsFactory.make(plugin, VELOCITY_DELEGATE_ID);
+
+        //  Listeners are registered to the instance of the plugin, which is only known once it has been constructed
+        this.pluginInstance = proxy.getPluginManager().getPlugins().stream()
+                .map(PluginContainer::getInstance)
+                .flatMap(Optional::stream)
+                .filter(plugin::isInstance)
+                .findFirst()
+                .orElse(null);
+        if (pluginInstance != null) {
+            proxy.getEventManager().register(pluginInstance, playerListener);
+            proxy.getEventManager().register(pluginInstance, permissionListener);
+
+            //  Players that are already connected are indexed, later players are added and removed by the listener
+            //  Without the listener the index would never lose players that disconnect, so it is left empty
+            for (Player player : proxy.getAllPlayers())
+                players.add(player.getUsername(), player);
+        }
     }
 
     public static ProxyServer getProxy() {
@@ -67,9 +96,15 @@ public class Delegate implements IPlatform {
     }
 
     public static void unhook(Class<?> plugin) {
+        unhook(plugin, EXECUTOR_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static void unhook(Class<?> plugin, long timeout, TimeUnit unit) {
         Delegate delegate = (Delegate) getDelegate().getPlatform();
         delegate.unregister();
 
+        //  Let running asynchronous actions finish before the platform is released
+        getDelegate().getExecutor().shutdown(timeout, unit);
         getDelegate().setPlatform(null);
     }
 
@@ -77,6 +112,10 @@ public class Delegate implements IPlatform {
         return DelegateCore.getDelegateAPI();
     }
 
+    public static PlayerIndex<Player> getPlayerIndex() {
+        return players;
+    }
+
     public static VelocityCommandBuilder create(@NotNull String name, @NotNull String description) {
         return factory.create(name, description);
     }
@@ -116,6 +155,12 @@ public class Delegate implements IPlatform {
     }
 
     private void unregister() throws CommandRegisterException {
+        if (pluginInstance != null) {
+            proxy.getEventManager().unregisterListener(pluginInstance, playerListener);
+            proxy.getEventManager().unregisterListener(pluginInstance, permissionListener);
+        }
+        getDelegate().getPermissionCache().invalidateAll();
+        players.clear();
         commands.clear();
     }
 
@@ -16,7 +16,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 public class PlayerArgument extends CommandArgument<Player> {
 
@@ -32,31 +31,39 @@ public class PlayerArgument extends CommandArgument<Player> {
      */
     private PlayerArgument(String identifier, String argumentDescription, Player defaultValue, boolean isOptional, List<ArgumentRule<?>> rules) {
         super(identifier, argumentDescription, Player.class, new Argument<>(identifier, defaultValue), isOptional, rules);
+        withSuggestions(Delegate.getPlayerIndex().getSuggestionProvider());
     }
 
     @Override
     public @NotNull Argument<Player> parse(@NotNull String input) {
-        Optional<Player> player = Delegate.getProxy().getPlayer(input);
+        Player player = find(input);
 
-        return player.map(value -> new Argument<>(getIdentifier(), value)).orElseGet(this::getDefault);
+        return (player != null) ? new Argument<>(getIdentifier(), player) : getDefault();
     }
 
     @Override
     public @NotNull Player parse(@NotNull StringReader reader) {
         int start = reader.getCursor();
         try {
-            Optional<Player> player = Delegate.getProxy().getPlayer(reader.readString());
+            Player player = find(reader.readString());
 
-            return player.orElseGet(() -> getDefault().output());
+            return (player != null) ? player : getDefault().output();
         } catch (CommandSyntaxException e) {
             reader.setCursor(start);
 
             if (getDefault().output() == null)
-                throw new ArgumentParseException("The argument '" + getIdentifier() + "' must be a player", Player.class);
+                throw ArgumentParseException.invalidInput("The argument '" + getIdentifier() + "' must be a player", Player.class);
             return getDefault().output();
         }
     }
 
+    private static Player find(String name) {
+        //  The index is left empty if the plugin instance could not be found, in which case the proxy is asked
+        Player player = Delegate.getPlayerIndex().get(name);
+
+        return (player != null) ? player : Delegate.getProxy().getPlayer(name).orElse(null);
+    }
+
     /**
      * Creates a new {@link PlayerArgument} with an identifier and a description.
      *
@@ -0,0 +1,45 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.github.polyrocketmatt.delegate.core.command.permission.PermissionCache;
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.permission.PermissionsSetupEvent;
+import com.velocitypowered.api.proxy.Player;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Invalidates the decisions of the {@link PermissionCache} of a player when the permissions
+ * of the player are set up, and when the player disconnects. Plugins that change permissions
+ * can invalidate the cache themselves.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class PermissionCacheListener {
+
+    private final PermissionCache cache;
+
+    public PermissionCacheListener(@NotNull PermissionCache cache) {
+        validate("cache", PermissionCache.class, cache);
+
+        this.cache = cache;
+    }
+
+    @Subscribe(order = PostOrder.LAST)
+    public void onPermissionsSetup(@NotNull PermissionsSetupEvent event) {
+        if (event.getSubject() instanceof Player player)
+            cache.invalidate(player.getUniqueId());
+    }
+
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(@NotNull DisconnectEvent event) {
+        cache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+}
@@ -0,0 +1,43 @@
+// Copyright (c) Matthias Kovacic. All rights reserved.
+// Licensed under the MIT license.
+
+package com.github.polyrocketmatt.delegate.impl.event;
+
+import com.github.polyrocketmatt.delegate.core.entity.PlayerIndex;
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
+import com.velocitypowered.api.proxy.Player;
+import org.jetbrains.annotations.NotNull;
+
+import static com.github.polyrocketmatt.delegate.api.DelegateValidator.validate;
+
+/**
+ * Keeps the {@link PlayerIndex} of the connected players up to date.
+ *
+ * @since 0.0.1
+ * @author Matthias Kovacic
+ */
+public class PlayerIndexListener {
+
+    private final PlayerIndex<Player> index;
+
+    public PlayerIndexListener(@NotNull PlayerIndex<Player> index) {
+        validate("index", PlayerIndex.class, index);
+
+        this.index = index;
+    }
+
+    //  Players are added before other plugins see them log in and removed after they have seen them disconnect
+    @Subscribe(order = PostOrder.FIRST)
+    public void onPostLogin(@NotNull PostLoginEvent event) {
+        index.add(event.getPlayer().getUsername(), event.getPlayer());
+    }
+
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(@NotNull DisconnectEvent event) {
+        index.remove(event.getPlayer().getUsername(), event.getPlayer());
+    }
+
+}